@@ -0,0 +1,3 @@
+-- 복제 계정 (replica-setup 에서 사용)
+CREATE USER IF NOT EXISTS 'repl'@'%' IDENTIFIED BY 'repl';
+GRANT REPLICATION SLAVE ON *.* TO 'repl'@'%';
@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# 기동 모드별 준비 완료 시간(time-to-ready)과 RSS 측정
+#
+#   ./gradlew bootJar cdsArchive nativeCompile -PnoSwagger
+#   SPRING_DATASOURCE_URL=jdbc:mysql://localhost:3306/closetcast ... scripts/startup-bench.sh [반복 횟수]
+#
+# 모드: jvm(일반 fat jar) / aot(풀어낸 jar + AOT) / cds(aot + 클래스 아카이브) / native(GraalVM 바이너리)
+# 빌드 산출물이 없는 모드는 건너뜀. DB/시크릿은 평소처럼 환경 변수나 application.properties 로 넘김.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+MANAGEMENT_PORT="${MANAGEMENT_PORT:-18081}"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+JAR_NAME="closet-cast-0.0.1-SNAPSHOT.jar"
+READY_URL="http://localhost:${MANAGEMENT_PORT}/actuator/health"
+
+declare -A COMMANDS=(
+  [jvm]="$JAVA -jar build/libs/$JAR_NAME"
+  [aot]="$JAVA -Dspring.aot.enabled=true -jar build/cds/$JAR_NAME"
+  [cds]="$JAVA -XX:SharedArchiveFile=build/cds/application.jsa -Dspring.aot.enabled=true -jar build/cds/$JAR_NAME"
+  [native]="build/native/nativeCompile/closet-cast"
+)
+declare -A ARTIFACTS=(
+  [jvm]="build/libs/$JAR_NAME"
+  [aot]="build/cds/$JAR_NAME"
+  [cds]="build/cds/application.jsa"
+  [native]="build/native/nativeCompile/closet-cast"
+)
+
+now_ms() { date +%s%3N; }
+
+# 한 번 기동해서 "준비 시간(ms) RSS(KB)" 출력
+measure() {
+  local cmd="$1" start pid elapsed rss
+  start=$(now_ms)
+  $cmd --server.port="$PORT" --management.server.port="$MANAGEMENT_PORT" >/dev/null 2>&1 &
+  pid=$!
+  until curl -fs -o /dev/null "$READY_URL"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "기동 실패: $cmd" >&2
+      return 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(( $(now_ms) - start ))
+  rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo "$elapsed $rss"
+}
+
+median() { sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'; }
+
+printf '%-8s %12s %12s\n' "mode" "ready(ms)" "rss(MB)"
+for mode in jvm aot cds native; do
+  if [[ ! -e "${ARTIFACTS[$mode]}" ]]; then
+    printf '%-8s %12s %12s\n' "$mode" "-" "-"
+    continue
+  fi
+  ready=()
+  rss=()
+  for _ in $(seq "$RUNS"); do
+    read -r r m < <(measure "${COMMANDS[$mode]}")
+    ready+=("$r")
+    rss+=("$m")
+  done
+  printf '%-8s %12s %12s\n' "$mode" \
+    "$(printf '%s\n' "${ready[@]}" | median)" \
+    "$(( $(printf '%s\n' "${rss[@]}" | median) / 1024 ))"
+done
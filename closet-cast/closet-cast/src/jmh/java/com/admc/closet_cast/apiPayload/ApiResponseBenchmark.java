@@ -0,0 +1,52 @@
+package com.admc.closet_cast.apiPayload;
+
+import com.admc.closet_cast.dto.DailyWeatherDto;
+import com.admc.closet_cast.dto.HourlyWeatherDto;
+import com.admc.closet_cast.dto.RecommendDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private ApiResponse<List<DailyWeatherDto>> weatherResponse;
+    private ApiResponse<RecommendDto> recommendResponse;
+
+    @Setup
+    public void setUp() {
+        List<DailyWeatherDto> days = new ArrayList<>();
+        for (int d = 0; d < 3; d++) {
+            List<HourlyWeatherDto> hours = new ArrayList<>();
+            Map<String, Double> apparent = new HashMap<>();
+            for (int h = 0; h < 24; h++) {
+                String time = String.format("%02d00", h);
+                hours.add(new HourlyWeatherDto(time, 10.0 + h % 8, 8.5 + h % 8));
+                apparent.put(time, 8.5 + h % 8);
+            }
+            days.add(new DailyWeatherDto("2025102" + d, 18.0, 7.0, hours, apparent));
+        }
+        weatherResponse = ApiResponse.onSuccess(days);
+        recommendResponse = ApiResponse.onSuccess(RecommendDto.of("COAT", "SWEATER", "JEANS"));
+    }
+
+    @Benchmark
+    public byte[] serializeWeather() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(weatherResponse);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public byte[] serializeRecommend() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(recommendResponse);
+    }
+}
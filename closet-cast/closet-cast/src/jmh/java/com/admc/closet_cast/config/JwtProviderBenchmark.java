@@ -0,0 +1,40 @@
+package com.admc.closet_cast.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtProviderBenchmark {
+
+    private JwtProvider jwtProvider;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtProvider = new JwtProvider();
+        Field secretKey = JwtProvider.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(jwtProvider, "benchmark-secret-key-benchmark-secret-key-0123456789");
+        jwtProvider.init();
+        token = jwtProvider.createToken("benchmark-user");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtProvider.createToken("benchmark-user");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getLoginId() {
+        return jwtProvider.getLoginId(token);
+    }
+}
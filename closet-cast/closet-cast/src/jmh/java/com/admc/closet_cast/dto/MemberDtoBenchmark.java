@@ -0,0 +1,46 @@
+package com.admc.closet_cast.dto;
+
+import com.admc.closet_cast.entity.Member;
+import com.admc.closet_cast.entity.Preference;
+import com.admc.closet_cast.entity.Tendency;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberDtoBenchmark {
+
+    private List<Member> members;
+
+    @Setup
+    public void setUp() {
+        members = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            members.add(Member.builder()
+                    .name("member" + i)
+                    .loginId("login" + i)
+                    .password("encoded-password")
+                    .preference(List.of(Preference.CASUAL, Preference.MINIMAL))
+                    .tendencies(List.of(Tendency.COLD))
+                    .garments(List.of("COAT", "HOODIE", "JEANS"))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<MemberDto> mapMembers() {
+        return members.stream()
+                .map(member -> MemberDto.of(
+                        member.getId(),
+                        member.getName(),
+                        member.getLoginId(),
+                        member.getPreferences(),
+                        member.getTendencies(),
+                        member.getGarments()))
+                .toList();
+    }
+}
@@ -0,0 +1,47 @@
+package com.admc.closet_cast.dto;
+
+import com.admc.closet_cast.service.WeatherService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /api/weather/read 응답 직렬화 비용 비교 (기존 JSON / 열 단위 JSON / CBOR)
+ * 크기는 setUp 에서 한 번 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeatherWireFormatBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<DailyWeatherDto> days;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/kma/vilage-fcst.json")) {
+            days = WeatherService.parseWeatherResponse(objectMapper.readTree(in));
+        }
+        System.out.printf("%n[payload] json=%dB columnar=%dB cbor=%dB%n",
+                defaultJson().length, columnarJson().length, cbor().length);
+    }
+
+    @Benchmark
+    public byte[] defaultJson() throws IOException {
+        return objectMapper.writeValueAsBytes(days);
+    }
+
+    @Benchmark
+    public byte[] columnarJson() {
+        return WeatherWireFormat.toColumnarJson(days);
+    }
+
+    @Benchmark
+    public byte[] cbor() {
+        return WeatherWireFormat.toCbor(days);
+    }
+}
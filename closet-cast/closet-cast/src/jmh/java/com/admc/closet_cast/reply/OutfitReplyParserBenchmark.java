@@ -0,0 +1,24 @@
+package com.admc.closet_cast.reply;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OutfitReplyParserBenchmark {
+
+    @Param({
+            "(COAT, SWEATER, JEANS)",
+            "(None, SHORT_SLEEVE, SHORTS)",
+            "{\"outer\":\"COAT\",\"top\":\"SWEATER\",\"bottom\":\"JEANS\"}",
+            "(COAT, SWEATER)"
+    })
+    public String reply;
+
+    @Benchmark
+    public RawOutfit parse() {
+        return OutfitReplyParser.parse(reply);
+    }
+}
@@ -0,0 +1,48 @@
+package com.admc.closet_cast.service;
+
+import com.admc.closet_cast.dto.DailyWeatherDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeatherServiceBenchmark {
+
+    private String payload;
+    private double[] temps;
+    private double[] winds;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/kma/vilage-fcst.json")) {
+            payload = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        temps = new double[64];
+        winds = new double[64];
+        for (int i = 0; i < temps.length; i++) {
+            temps[i] = -10 + i * 0.5;
+            winds[i] = 0.5 + (i % 16) * 0.4;
+        }
+    }
+
+    @Benchmark
+    public List<DailyWeatherDto> parseWeatherResponse() throws IOException {
+        return WeatherService.parseWeatherResponse(payload);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double apparentTemperature() {
+        double sum = 0;
+        for (int i = 0; i < temps.length; i++) {
+            sum += WeatherService.apparentTemperature(temps[i], winds[i]);
+        }
+        return sum;
+    }
+}
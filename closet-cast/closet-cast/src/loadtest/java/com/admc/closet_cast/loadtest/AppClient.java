@@ -0,0 +1,100 @@
+package com.admc.closet_cast.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 부하 생성기에서 쓰는 ClosetCast API 클라이언트
+ * 각 호출의 지연과 성공 여부를 LatencyRecorder 에 남깁니다.
+ */
+class AppClient {
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    AppClient(String baseUrl, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    void signUp(String loginId, String password) throws IOException, InterruptedException {
+        String body = mapper.writeValueAsString(Map.of(
+                "name", loginId,
+                "loginId", loginId,
+                "password", password,
+                "preference", new String[]{"CASUAL"},
+                "tendencies", new String[]{"COLD"}));
+        send("signup", post("/api/member/signup", body, null));
+    }
+
+    Session signIn(String loginId, String password) throws IOException, InterruptedException {
+        String body = mapper.writeValueAsString(Map.of("loginId", loginId, "password", password));
+        HttpResponse<String> response = send("signin", post("/api/member/signin", body, null));
+        if (response.statusCode() != 200) {
+            return null;
+        }
+        JsonNode result = mapper.readTree(response.body()).path("result");
+        return new Session(result.path("memberId").asLong(), result.path("token").asText());
+    }
+
+    void ingestWeather() throws IOException, InterruptedException {
+        send("weather-ingest", get("/api/weather/get", null));
+    }
+
+    void readWeather(Session session) throws IOException, InterruptedException {
+        send("weather-read", get("/api/weather/read", session));
+    }
+
+    void recommend(Session session) throws IOException, InterruptedException {
+        send("recommend", get("/api/recommend/" + session.memberId(), session));
+    }
+
+    private HttpResponse<String> send(String step, HttpRequest request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            recorder.record(step, System.nanoTime() - start, response.statusCode() / 100 == 2);
+            return response;
+        } catch (IOException e) {
+            recorder.record(step, System.nanoTime() - start, false);
+            throw e;
+        }
+    }
+
+    private HttpRequest get(String path, Session session) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        if (session != null) {
+            builder.header("Authorization", "Bearer " + session.token());
+        }
+        return builder.build();
+    }
+
+    private HttpRequest post(String path, String body, Session session) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (session != null) {
+            builder.header("Authorization", "Bearer " + session.token());
+        }
+        return builder.build();
+    }
+
+    record Session(long memberId, String token) {
+    }
+}
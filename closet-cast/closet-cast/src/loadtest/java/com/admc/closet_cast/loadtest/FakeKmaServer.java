@@ -0,0 +1,114 @@
+package com.admc.closet_cast.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * 녹화된 기상청 단기예보 응답을 돌려주는 로컬 서버
+ * 요청의 base_date 에 맞춰 녹화본의 날짜를 옮겨서 "오늘" 데이터처럼 보이게 합니다.
+ */
+class FakeKmaServer implements AutoCloseable {
+
+    private static final DateTimeFormatter BASIC_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final HttpServer server;
+    private final FaultProfile faults;
+    private final String template;
+    private final LocalDate recordedBaseDate;
+
+    FakeKmaServer(FaultProfile faults) throws IOException {
+        this.faults = faults;
+        this.template = resource("/kma/vilage-fcst.json");
+        this.recordedBaseDate = LocalDate.parse(extract(template, "\"baseDate\""), BASIC_DATE);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            faults.delay();
+            if (faults.shouldFail()) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            String baseDate = query(exchange).get("base_date");
+            byte[] body = shiftDates(baseDate).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String shiftDates(String baseDate) {
+        if (baseDate == null) {
+            return template;
+        }
+        LocalDate target = LocalDate.parse(baseDate, BASIC_DATE);
+        String shifted = template;
+        // 뒤 날짜부터 바꿔야 겹치지 않음
+        for (int day = 3; day >= 0; day--) {
+            shifted = shifted.replace(
+                    "\"" + recordedBaseDate.plusDays(day).format(BASIC_DATE) + "\"",
+                    "\"" + target.plusDays(day).format(BASIC_DATE) + "\"");
+        }
+        return shifted;
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    // "key": "value" 의 value (콜론 앞뒤 공백 허용)
+    private static String extract(String json, String key) {
+        int colon = json.indexOf(':', json.indexOf(key) + key.length());
+        int start = json.indexOf('"', colon) + 1;
+        return json.substring(start, json.indexOf('"', start));
+    }
+
+    static String resource(String path) throws IOException {
+        try (InputStream in = FakeKmaServer.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IOException("리소스를 찾을 수 없습니다: " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
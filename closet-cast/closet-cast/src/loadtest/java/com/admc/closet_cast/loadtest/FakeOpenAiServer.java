@@ -0,0 +1,81 @@
+package com.admc.closet_cast.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OpenAI Chat Completions 를 흉내 내는 로컬 서버
+ */
+class FakeOpenAiServer implements AutoCloseable {
+
+    private static final String REPLY = """
+            {"id":"chatcmpl-loadtest","object":"chat.completion","model":"gpt-4o",
+             "choices":[{"index":0,"message":{"role":"assistant","content":"(COAT, SWEATER, JEANS)"},"finish_reason":"stop"}],
+             "usage":{"prompt_tokens":412,"completion_tokens":9,"total_tokens":421,"prompt_tokens_details":{"cached_tokens":0}}}
+            """;
+    // response_format(json_schema) 을 보낸 요청에 대한 응답
+    private static final String STRUCTURED_REPLY = """
+            {"id":"chatcmpl-loadtest","object":"chat.completion","model":"gpt-4o",
+             "choices":[{"index":0,"message":{"role":"assistant","content":"{\\"outer\\":\\"COAT\\",\\"top\\":\\"SWEATER\\",\\"bottom\\":\\"JEANS\\"}"},"finish_reason":"stop"}],
+             "usage":{"prompt_tokens":455,"completion_tokens":14,"total_tokens":469,"prompt_tokens_details":{"cached_tokens":384}}}
+            """;
+
+    private final HttpServer server;
+    private final FaultProfile faults;
+    private final AtomicLong requests = new AtomicLong();
+
+    FakeOpenAiServer(FaultProfile faults) throws IOException {
+        this.faults = faults;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/v1/chat/completions", this::handle);
+        this.server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+    }
+
+    long requestCount() {
+        return requests.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            boolean structured = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)
+                    .contains("\"response_format\"");
+            faults.delay();
+            if (faults.shouldFail()) {
+                byte[] error = "{\"error\":{\"message\":\"Rate limit reached\",\"type\":\"rate_limit_error\"}}"
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(429, error.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(error);
+                }
+                return;
+            }
+            byte[] body = (structured ? STRUCTURED_REPLY : REPLY).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,21 @@
+package com.admc.closet_cast.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가짜 업스트림의 응답 지연과 오류율
+ */
+record FaultProfile(long latencyMillis, long jitterMillis, double errorRate) {
+
+    void delay() throws InterruptedException {
+        long jitter = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0;
+        long total = latencyMillis + jitter;
+        if (total > 0) {
+            Thread.sleep(total);
+        }
+    }
+
+    boolean shouldFail() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+}
@@ -0,0 +1,279 @@
+package com.admc.closet_cast.loadtest;
+
+import org.flywaydb.core.Flyway;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 대량 시드 데이터에서 날씨/회원 조회가 인덱스를 타는지(EXPLAIN) 확인하고 조회 지연을 잽니다.
+ * 빈 스키마에 Flyway 마이그레이션을 적용한 뒤 데이터를 채우므로 운영 DB 에 쓰면 안 됩니다.
+ *
+ * --url=jdbc:mysql://localhost:3306/closetcast_bench --user=root --password=...
+ * --grids=100 --days=730 --hours=24 --members=200000 --lookups=10000
+ * --without-indexes  : 유니크 인덱스를 지운 상태로 다시 측정 (전/후 비교용)
+ */
+public class IndexCheck {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    private static final int BATCH = 1000;
+
+    private static final String WEATHER_BY_DATE =
+            "SELECT id, tmx, tmn FROM weather WHERE nx = ? AND ny = ? AND forecast_date = ?";
+    private static final String WEATHER_RANGE =
+            "SELECT id, tmx, tmn FROM weather WHERE nx = ? AND ny = ? AND forecast_date BETWEEN ? AND ? ORDER BY forecast_date";
+    private static final String HOURLY_BY_WEATHER =
+            "SELECT fcst_time, temperature, apparent_temp FROM hourly_weather WHERE weather_id = ?";
+    private static final String MEMBER_BY_LOGIN_ID =
+            "SELECT id, name FROM member WHERE login_id = ?";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String url = options.get("url");
+        if (url == null) {
+            throw new IllegalArgumentException("--url 이 필요합니다 (빈 MySQL 스키마)");
+        }
+        int grids = Integer.parseInt(options.getOrDefault("grids", "100"));
+        int days = Integer.parseInt(options.getOrDefault("days", "730"));
+        int hours = Integer.parseInt(options.getOrDefault("hours", "24"));
+        int members = Integer.parseInt(options.getOrDefault("members", "200000"));
+        int lookups = Integer.parseInt(options.getOrDefault("lookups", "10000"));
+
+        String user = options.getOrDefault("user", "root");
+        String password = options.getOrDefault("password", "");
+        Flyway.configure().dataSource(url, user, password).load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(url + (url.contains("?") ? "&" : "?")
+                + "rewriteBatchedStatements=true", user, password)) {
+            if (count(connection, "weather") == 0) {
+                long start = System.nanoTime();
+                seedWeather(connection, grids, days, hours);
+                seedMembers(connection, members);
+                System.out.printf("시드 완료: %.1fs%n", (System.nanoTime() - start) / 1e9);
+            }
+            analyze(connection);
+
+            if (options.containsKey("without-indexes")) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("ALTER TABLE weather DROP INDEX uk_weather_grid_date");
+                    statement.execute("ALTER TABLE member DROP INDEX uk_member_login_id");
+                }
+                System.out.println("\n[유니크 인덱스 제거 후]");
+            } else {
+                System.out.println("\n[현재 스키마]");
+            }
+            report(connection, grids, days, members, lookups);
+        }
+    }
+
+    private static void seedWeather(Connection connection, int grids, int days, int hours) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement weather = connection.prepareStatement(
+                "INSERT INTO weather (nx, ny, forecast_date, tmx, tmn) VALUES (?, ?, ?, ?, ?)");
+             PreparedStatement hourly = connection.prepareStatement(
+                     "INSERT INTO hourly_weather (fcst_time, temperature, apparent_temp, weather_id) VALUES (?, ?, ?, ?)")) {
+            int pending = 0;
+            for (int g = 0; g < grids; g++) {
+                for (int d = 0; d < days; d++) {
+                    weather.setInt(1, nxOf(g));
+                    weather.setInt(2, nyOf(g));
+                    weather.setDate(3, Date.valueOf(FIRST_DAY.plusDays(d)));
+                    weather.setDouble(4, 15 + d % 10);
+                    weather.setDouble(5, 5 + d % 10);
+                    weather.addBatch();
+                    if (++pending % BATCH == 0) {
+                        weather.executeBatch();
+                    }
+                }
+            }
+            weather.executeBatch();
+            connection.commit();
+
+            // weather id 는 1..grids*days 순서로 채번됨 (빈 스키마 가정)
+            long weatherRows = (long) grids * days;
+            pending = 0;
+            for (long id = 1; id <= weatherRows; id++) {
+                for (int h = 0; h < hours; h++) {
+                    hourly.setString(1, String.format("%02d00", h));
+                    hourly.setDouble(2, 10 + h % 8);
+                    hourly.setDouble(3, 8 + h % 8);
+                    hourly.setLong(4, id);
+                    hourly.addBatch();
+                    if (++pending % BATCH == 0) {
+                        hourly.executeBatch();
+                        connection.commit();
+                    }
+                }
+            }
+            hourly.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static void seedMembers(Connection connection, int members) throws SQLException {
+        connection.setAutoCommit(false);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement member = connection.prepareStatement(
+                "INSERT INTO member (created_at, updated_at, login_id, name, password) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < members; i++) {
+                member.setTimestamp(1, now);
+                member.setTimestamp(2, now);
+                member.setString(3, loginId(i));
+                member.setString(4, "member" + i);
+                member.setString(5, "{noop}password");
+                member.addBatch();
+                if ((i + 1) % BATCH == 0) {
+                    member.executeBatch();
+                    connection.commit();
+                }
+            }
+            member.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static void analyze(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE weather, hourly_weather, member");
+        }
+    }
+
+    private static void report(Connection connection, int grids, int days, int members, int lookups) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        explain(connection, WEATHER_BY_DATE, 55, 127, Date.valueOf(FIRST_DAY));
+        measure(connection, "weather by date", WEATHER_BY_DATE, lookups, ps -> {
+            int g = random.nextInt(grids);
+            ps.setInt(1, nxOf(g));
+            ps.setInt(2, nyOf(g));
+            ps.setDate(3, Date.valueOf(FIRST_DAY.plusDays(random.nextInt(days))));
+        });
+
+        explain(connection, WEATHER_RANGE, 55, 127, Date.valueOf(FIRST_DAY), Date.valueOf(FIRST_DAY.plusDays(2)));
+        measure(connection, "weather 3 days", WEATHER_RANGE, lookups, ps -> {
+            int g = random.nextInt(grids);
+            LocalDate from = FIRST_DAY.plusDays(random.nextInt(Math.max(1, days - 2)));
+            ps.setInt(1, nxOf(g));
+            ps.setInt(2, nyOf(g));
+            ps.setDate(3, Date.valueOf(from));
+            ps.setDate(4, Date.valueOf(from.plusDays(2)));
+        });
+
+        explain(connection, HOURLY_BY_WEATHER, 1L);
+        measure(connection, "hourly by weather", HOURLY_BY_WEATHER, lookups,
+                ps -> ps.setLong(1, 1 + random.nextLong((long) grids * days)));
+
+        explain(connection, MEMBER_BY_LOGIN_ID, loginId(0));
+        measure(connection, "member by login", MEMBER_BY_LOGIN_ID, lookups,
+                ps -> ps.setString(1, loginId(random.nextInt(members))));
+    }
+
+    private static void explain(Connection connection, String sql, Object... params) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < params.length; i++) {
+                ps.setObject(i + 1, params[i]);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                System.out.println("\nEXPLAIN " + sql);
+                while (rs.next()) {
+                    StringBuilder row = new StringBuilder("  ");
+                    for (String column : new String[]{"table", "type", "key", "rows", "Extra"}) {
+                        row.append(column).append('=').append(value(rs, meta, column)).append(' ');
+                    }
+                    System.out.println(row);
+                }
+            }
+        }
+    }
+
+    private static void measure(Connection connection, String name, String sql, int lookups, Binder binder) throws SQLException {
+        long[] samples = new long[lookups];
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < lookups; i++) {
+                binder.bind(ps);
+                long start = System.nanoTime();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        // 결과까지 읽어야 실제 조회 비용이 잡힘
+                    }
+                }
+                samples[i] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(samples);
+        System.out.printf("  %-18s p50=%.3fms p99=%.3fms max=%.3fms%n", name,
+                samples[lookups / 2] / 1e6, samples[(int) (lookups * 0.99)] / 1e6, samples[lookups - 1] / 1e6);
+    }
+
+    private static String value(ResultSet rs, ResultSetMetaData meta, String column) throws SQLException {
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            if (meta.getColumnLabel(i).equalsIgnoreCase(column)) {
+                return rs.getString(i);
+            }
+        }
+        return "-";
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    // 격자 번호 -> 좌표 (55, 127 은 기본 격자)
+    private static int nxOf(int grid) {
+        return 55 + grid % 50;
+    }
+
+    private static int nyOf(int grid) {
+        return 127 + grid / 50;
+    }
+
+    private static String loginId(int index) {
+        return "seed-user-" + index;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return values;
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement ps) throws SQLException;
+    }
+
+    private IndexCheck() {
+    }
+}
@@ -0,0 +1,142 @@
+package com.admc.closet_cast.loadtest;
+
+import com.admc.closet_cast.ClosetCastApplication;
+import com.admc.closet_cast.backfill.BackfillProperties;
+import com.admc.closet_cast.backfill.BackfillReport;
+import com.admc.closet_cast.backfill.ForecastBackfill;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 예보 적재 처리량 벤치마크
+ * 녹화된 기상청 응답(kma/vilage-fcst.json)으로 날짜를 옮긴 보관 파일을 만들고, H2(loadtest 프로필)에 일괄 적재합니다.
+ * 첫 실행은 새 행 삽입, 두 번째 실행(체크포인트 무시)은 같은 행 갱신 경로를 잽니다.
+ *
+ * ./gradlew ingestBenchmark -PingestBenchmarkArgs="--files=2000 --gzip=true --parallelism=16 --batch-files=50"
+ */
+public class IngestBenchmark {
+
+    private static final Pattern DATE_FIELD = Pattern.compile("\"(baseDate|fcstDate)\": \"(\\d{8})\"");
+    // 녹화된 응답의 발표일(20251019)을 1년 앞으로 옮겨서 시작
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 10, 19);
+    private static final String[] BASE_TIMES = {"0200", "0500", "0800", "1100", "1400", "1700", "2000", "2300"};
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int fileCount = Integer.parseInt(options.getOrDefault("files", "2000"));
+        boolean gzip = Boolean.parseBoolean(options.getOrDefault("gzip", "true"));
+        String output = options.getOrDefault("output", "build/loadtest/ingest.json");
+
+        Path dir = Files.createTempDirectory("kma-archive");
+        generate(dir, fileCount, gzip);
+
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(ClosetCastApplication.class)
+                .profiles("loadtest")
+                .properties(
+                        "spring.main.web-application-type=none",
+                        "warmup.enabled=false",
+                        "backfill.checkpoint=" + dir.resolve(".checkpoint"),
+                        "backfill.parallelism=" + options.getOrDefault("parallelism", "0"),
+                        "backfill.batch-files=" + options.getOrDefault("batch-files", "50"))
+                .run()) {
+
+            BackfillProperties properties = app.getBean(BackfillProperties.class);
+            properties.setDir(dir.toString());
+            properties.setRestart(true);
+            ForecastBackfill backfill = app.getBean(ForecastBackfill.class);
+
+            BackfillReport insert = backfill.run();
+            BackfillReport update = backfill.run();
+            System.out.printf("%n파일=%d gzip=%s%n", fileCount, gzip);
+            System.out.println("insert: " + insert);
+            System.out.println("update: " + update);
+
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("files", fileCount);
+            json.put("gzip", gzip);
+            json.put("insert", summary(insert));
+            json.put("update", summary(update));
+            File out = new File(output);
+            if (out.getParentFile() != null) {
+                out.getParentFile().mkdirs();
+            }
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, json);
+            System.out.println("report: " + out.getAbsolutePath());
+        }
+    }
+
+    // 발표 시각 8개를 하루로 보고 날짜를 하루씩 옮김 (20241019/0200.json.gz, ...)
+    private static void generate(Path dir, int fileCount, boolean gzip) throws IOException {
+        String template;
+        try (InputStream in = IngestBenchmark.class.getResourceAsStream("/kma/vilage-fcst.json")) {
+            if (in == null) {
+                throw new IllegalStateException("kma/vilage-fcst.json 을 찾을 수 없습니다");
+            }
+            template = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        for (int i = 0; i < fileCount; i++) {
+            int days = i / BASE_TIMES.length;
+            String json = shift(template, days);
+            LocalDate baseDate = FIRST_DAY.plusDays(days);
+            Path file = dir.resolve(baseDate.format(DateTimeFormatter.BASIC_ISO_DATE))
+                    .resolve(BASE_TIMES[i % BASE_TIMES.length] + (gzip ? ".json.gz" : ".json"));
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = gzip ? new GZIPOutputStream(Files.newOutputStream(file)) : Files.newOutputStream(file)) {
+                out.write(json.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private static String shift(String template, int days) {
+        Matcher matcher = DATE_FIELD.matcher(template);
+        StringBuilder shifted = new StringBuilder(template.length());
+        while (matcher.find()) {
+            LocalDate date = LocalDate.parse(matcher.group(2), DateTimeFormatter.BASIC_ISO_DATE).minusYears(1).plusDays(days);
+            matcher.appendReplacement(shifted, "\"" + matcher.group(1) + "\": \"" + date.format(DateTimeFormatter.BASIC_ISO_DATE) + "\"");
+        }
+        matcher.appendTail(shifted);
+        return shifted.toString();
+    }
+
+    private static Map<String, Object> summary(BackfillReport report) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("elapsedSeconds", report.elapsed().toNanos() / 1e9);
+        summary.put("rowsParsed", report.rowsParsed());
+        summary.put("rowsWritten", report.rowsWritten());
+        summary.put("filesPerSecond", report.filesPerSecond());
+        summary.put("rowsPerSecond", report.rowsPerSecond());
+        return summary;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return values;
+    }
+
+    private IngestBenchmark() {
+    }
+}
@@ -0,0 +1,91 @@
+package com.admc.closet_cast.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단계(step)별 지연 시간과 오류 수를 모읍니다.
+ * earlyWindow 를 주면 시작 직후 구간(콜드 스타트 영향)을 따로 집계합니다.
+ */
+class LatencyRecorder {
+
+    private final Map<String, Step> steps = new ConcurrentHashMap<>();
+    private final Map<String, Step> early = new ConcurrentHashMap<>();
+    private final long earlyUntil;
+
+    LatencyRecorder() {
+        this(Duration.ZERO);
+    }
+
+    LatencyRecorder(Duration earlyWindow) {
+        this.earlyUntil = System.nanoTime() + earlyWindow.toNanos();
+    }
+
+    void record(String step, long nanos, boolean success) {
+        steps.computeIfAbsent(step, s -> new Step()).add(nanos, success);
+        if (System.nanoTime() < earlyUntil) {
+            early.computeIfAbsent(step, s -> new Step()).add(nanos, success);
+        }
+    }
+
+    Map<String, StepStats> snapshot(double elapsedSeconds) {
+        return snapshot(steps, elapsedSeconds);
+    }
+
+    Map<String, StepStats> earlySnapshot(double windowSeconds) {
+        return snapshot(early, windowSeconds);
+    }
+
+    private static Map<String, StepStats> snapshot(Map<String, Step> steps, double elapsedSeconds) {
+        Map<String, StepStats> result = new LinkedHashMap<>();
+        steps.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> result.put(e.getKey(), e.getValue().stats(elapsedSeconds)));
+        return result;
+    }
+
+    private static class Step {
+        private long[] samples = new long[1024];
+        private int size = 0;
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void add(long nanos, boolean success) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized StepStats stats(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return new StepStats(
+                    size,
+                    errors.get(),
+                    size / elapsedSeconds,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.90),
+                    percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    record StepStats(long count, long errors, double throughput,
+                     double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+    }
+}
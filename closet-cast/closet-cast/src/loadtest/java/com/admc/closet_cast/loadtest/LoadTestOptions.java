@@ -0,0 +1,47 @@
+package com.admc.closet_cast.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * --key=value 형식의 실행 인자
+ */
+record LoadTestOptions(
+        Scenario scenario,
+        String mode,
+        boolean appWarmup,
+        int users,
+        Duration warmup,
+        Duration duration,
+        FaultProfile kma,
+        FaultProfile openAi,
+        String output
+) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return new LoadTestOptions(
+                Scenario.valueOf(values.getOrDefault("scenario", "recommend").toUpperCase().replace('-', '_')),
+                values.getOrDefault("mode", "servlet"),
+                Boolean.parseBoolean(values.getOrDefault("app-warmup", "true")),
+                Integer.parseInt(values.getOrDefault("users", "50")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration-seconds", "60"))),
+                new FaultProfile(
+                        Long.parseLong(values.getOrDefault("kma-latency-ms", "150")),
+                        Long.parseLong(values.getOrDefault("kma-jitter-ms", "50")),
+                        Double.parseDouble(values.getOrDefault("kma-error-rate", "0"))),
+                new FaultProfile(
+                        Long.parseLong(values.getOrDefault("openai-latency-ms", "1200")),
+                        Long.parseLong(values.getOrDefault("openai-jitter-ms", "800")),
+                        Double.parseDouble(values.getOrDefault("openai-error-rate", "0"))),
+                values.getOrDefault("output", "build/loadtest/report.json"));
+    }
+}
@@ -0,0 +1,152 @@
+package com.admc.closet_cast.loadtest;
+
+import com.admc.closet_cast.ClosetCastApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오프라인 부하 테스트
+ * 가짜 기상청/OpenAI 서버와 H2(loadtest 프로필)로 앱을 띄우고, 가상 사용자로 시나리오를 반복합니다.
+ *
+ * ./gradlew loadTest -PloadTestArgs="--users=100 --duration-seconds=120 --openai-latency-ms=800"
+ * 서블릿/리액티브 비교: --mode=servlet 과 --mode=reactive 로 각각 실행해서 threads, 지연 분포를 비교
+ * 기동 워밍업 효과: --warmup-seconds=0 으로 --app-warmup=true/false 를 각각 실행해서 첫 1분 구간을 비교
+ */
+public class LoadTestRunner {
+
+    private static final Duration FIRST_WINDOW = Duration.ofMinutes(1);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (FakeKmaServer kma = new FakeKmaServer(options.kma());
+             FakeOpenAiServer openAi = new FakeOpenAiServer(options.openAi());
+             ConfigurableApplicationContext app = startApp(options, kma, openAi)) {
+
+            String baseUrl = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+            LatencyRecorder setupRecorder = new LatencyRecorder();
+            AppClient setupClient = new AppClient(baseUrl, setupRecorder);
+
+            setupClient.ingestWeather();
+            for (int i = 0; i < options.users(); i++) {
+                setupClient.signUp(loginId(i), Scenario.PASSWORD);
+            }
+
+            // 워밍업 구간은 기록하지 않음
+            run(options, new AppClient(baseUrl, new LatencyRecorder()), options.warmup().toMillis());
+
+            // 가상 스레드는 집계되지 않으므로 서버 쪽 플랫폼 스레드 수가 남음
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+
+            LatencyRecorder recorder = new LatencyRecorder(FIRST_WINDOW);
+            long start = System.nanoTime();
+            run(options, new AppClient(baseUrl, recorder), options.duration().toMillis());
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+            double firstWindowSeconds = Math.min(elapsedSeconds, FIRST_WINDOW.toSeconds());
+
+            report(options, recorder.snapshot(elapsedSeconds), recorder.earlySnapshot(firstWindowSeconds),
+                    elapsedSeconds, openAi.requestCount(), threads.getPeakThreadCount(), warmupMillis(app));
+        }
+    }
+
+    private static ConfigurableApplicationContext startApp(LoadTestOptions options, FakeKmaServer kma, FakeOpenAiServer openAi) {
+        return new SpringApplicationBuilder(ClosetCastApplication.class)
+                .profiles("loadtest")
+                .properties(
+                        "server.port=0",
+                        "closetcast.web.mode=" + options.mode(),
+                        "warmup.enabled=" + options.appWarmup(),
+                        "kma.base-url=" + kma.baseUrl(),
+                        "openai.base-url=" + openAi.baseUrl())
+                .run();
+    }
+
+    private static void run(LoadTestOptions options, AppClient client, long durationMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + durationMillis;
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.users(); i++) {
+                String loginId = loginId(i);
+                users.submit(() -> {
+                    while (System.currentTimeMillis() < deadline) {
+                        try {
+                            options.scenario().iterate(client, loginId);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            // 오류는 recorder 에 이미 기록됨
+                        }
+                    }
+                });
+            }
+            users.shutdown();
+            users.awaitTermination(durationMillis + 60_000, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static double warmupMillis(ConfigurableApplicationContext app) {
+        TimeGauge gauge = app.getBean(MeterRegistry.class).find("warmup.duration").timeGauge();
+        return gauge == null ? 0 : gauge.value(TimeUnit.MILLISECONDS);
+    }
+
+    private static void report(LoadTestOptions options, Map<String, LatencyRecorder.StepStats> stats,
+                               Map<String, LatencyRecorder.StepStats> firstWindow, double elapsedSeconds,
+                               long upstreamCalls, int peakThreads, double warmupMillis) throws Exception {
+        System.out.printf("%n시나리오=%s 모드=%s 사용자=%d 측정=%.1fs OpenAI 호출=%d 최대 스레드=%d 앱 워밍업=%s(%.0fms)%n",
+                options.scenario(), options.mode(), options.users(), elapsedSeconds, upstreamCalls, peakThreads,
+                options.appWarmup() ? "on" : "off", warmupMillis);
+        printTable("전체", stats);
+        printTable("첫 " + FIRST_WINDOW.toSeconds() + "초", firstWindow);
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("scenario", options.scenario().name());
+        json.put("mode", options.mode());
+        json.put("peakThreads", peakThreads);
+        json.put("users", options.users());
+        json.put("elapsedSeconds", elapsedSeconds);
+        json.put("openAiCalls", upstreamCalls);
+        json.put("appWarmup", options.appWarmup());
+        json.put("appWarmupMillis", warmupMillis);
+        json.put("steps", stats);
+        json.put("firstMinuteSteps", firstWindow);
+
+        File out = new File(options.output());
+        if (out.getParentFile() != null) {
+            out.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(out, json);
+        System.out.println("report: " + out.getAbsolutePath());
+    }
+
+    private static void printTable(String title, Map<String, LatencyRecorder.StepStats> stats) {
+        System.out.printf("[%s]%n", title);
+        System.out.printf("%-16s %8s %7s %9s %9s %9s %9s %9s%n",
+                "step", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        stats.forEach((step, s) -> System.out.printf("%-16s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                step, s.count(), s.errors(), s.throughput(), s.p50Millis(), s.p90Millis(), s.p99Millis(), s.maxMillis()));
+    }
+
+    private static String loginId(int index) {
+        return "lt-user-" + index;
+    }
+
+    private LoadTestRunner() {
+    }
+}
@@ -0,0 +1,38 @@
+package com.admc.closet_cast.loadtest;
+
+/**
+ * 가상 사용자 한 명이 반복하는 시나리오
+ */
+enum Scenario {
+
+    // 로그인 → 날씨 조회 → 옷 추천
+    RECOMMEND {
+        @Override
+        void iterate(AppClient client, String loginId) throws Exception {
+            AppClient.Session session = client.signIn(loginId, PASSWORD);
+            if (session == null) {
+                return;
+            }
+            client.readWeather(session);
+            client.recommend(session);
+        }
+    },
+
+    // 로그인 한 번 뒤 날씨 조회만 반복 (LLM 없이 읽기 경로만)
+    WEATHER {
+        @Override
+        void iterate(AppClient client, String loginId) throws Exception {
+            AppClient.Session session = client.signIn(loginId, PASSWORD);
+            if (session == null) {
+                return;
+            }
+            for (int i = 0; i < 10; i++) {
+                client.readWeather(session);
+            }
+        }
+    };
+
+    static final String PASSWORD = "loadtest-password";
+
+    abstract void iterate(AppClient client, String loginId) throws Exception;
+}
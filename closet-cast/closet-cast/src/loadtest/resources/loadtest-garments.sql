@@ -0,0 +1,15 @@
+-- 부하 테스트용 의상 카탈로그 (V5__garment_catalog.sql 과 같은 값)
+INSERT INTO garment (code, name, category, warmth, rain_proof, wind_proof, slot, active)
+VALUES ('PUFFER_JACKET', '패딩', 'OUTER', 30, TRUE, TRUE, 0, TRUE),
+       ('COAT', '코트', 'OUTER', 23, FALSE, TRUE, 1, TRUE),
+       ('FLEECE', '플리스', 'OUTER', 20, FALSE, FALSE, 2, TRUE),
+       ('JACKET', '자켓', 'OUTER', 16, FALSE, TRUE, 3, TRUE),
+       ('WINDBREAKER', '바람막이', 'OUTER', 13, TRUE, TRUE, 4, TRUE),
+       ('SWEATER', '니트', 'TOP', 22, FALSE, FALSE, 5, TRUE),
+       ('HOODIE', '후드티', 'TOP', 17, FALSE, FALSE, 6, TRUE),
+       ('SHIRT', '셔츠', 'TOP', 9, FALSE, FALSE, 7, TRUE),
+       ('LONG_SLEEVE', '긴팔티', 'TOP', 13, FALSE, FALSE, 8, TRUE),
+       ('SHORT_SLEEVE', '반팔티', 'TOP', 4, FALSE, FALSE, 9, TRUE),
+       ('JEANS', '청바지', 'BOTTOM', 18, FALSE, TRUE, 10, TRUE),
+       ('COTTON_PANTS', '면바지', 'BOTTOM', 12, FALSE, FALSE, 11, TRUE),
+       ('SHORTS', '반바지', 'BOTTOM', 3, FALSE, FALSE, 12, TRUE);
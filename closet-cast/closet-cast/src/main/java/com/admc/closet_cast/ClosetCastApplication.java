@@ -5,6 +5,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.boot.autoconfigure.http.client.HttpClientAutoConfiguration;
 import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import com.admc.closet_cast.config.ClosetCastRuntimeHints;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 
@@ -14,6 +16,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 })
 @EnableJpaAuditing
 @EnableScheduling
+@ImportRuntimeHints(ClosetCastRuntimeHints.class)
 public class ClosetCastApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,35 @@
+package com.admc.closet_cast.admission;
+
+/**
+ * AIMD 방식의 동시 처리 한도
+ * 지연이 목표 이하면 한도를 1/limit 씩 늘리고, 넘거나 실패하면 backoffRatio 만큼 곱해서 줄입니다.
+ * 호출하는 쪽(AdmissionController)의 락 안에서만 사용합니다.
+ */
+class AdaptiveLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+    private double limit;
+
+    AdaptiveLimit(int initialLimit, int minLimit, int maxLimit, long targetLatencyNanos, double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+
+    void onSample(long latencyNanos, boolean dropped) {
+        if (dropped || latencyNanos > targetLatencyNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    int get() {
+        return (int) limit;
+    }
+}
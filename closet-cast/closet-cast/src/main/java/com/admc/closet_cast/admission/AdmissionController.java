@@ -0,0 +1,247 @@
+package com.admc.closet_cast.admission;
+
+import com.admc.closet_cast.apiPayload.exception.GeneralException;
+import com.admc.closet_cast.apiPayload.exception.handler.RecommendHandler;
+import com.admc.closet_cast.apiPayload.form.status.ErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * LLM 호출 앞단의 승인 제어
+ * - 동시 처리 한도는 관측된 지연으로 조절 (AdaptiveLimit)
+ * - 한도를 넘으면 우선순위별 대기열에 넣고, INTERACTIVE 를 먼저 꺼냄
+ * - 기한이 지난 요청은 대기열에서 꺼낼 때 버림
+ */
+@Component
+public class AdmissionController {
+
+    private final AdmissionProperties properties;
+    private final AdaptiveLimit limit;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Priority, ArrayDeque<Waiter>> queues = new EnumMap<>(Priority.class);
+    private final Map<Priority, Map<String, Counter>> shedCounters = new EnumMap<>(Priority.class);
+    private int inFlight = 0;
+
+    public AdmissionController(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limit = new AdaptiveLimit(
+                properties.getInitialLimit(),
+                properties.getMinLimit(),
+                properties.getMaxLimit(),
+                properties.getTargetLatency().toNanos(),
+                properties.getBackoffRatio());
+
+        for (Priority priority : Priority.values()) {
+            ArrayDeque<Waiter> queue = new ArrayDeque<>();
+            queues.put(priority, queue);
+            Gauge.builder("admission.queue.depth", queue, ArrayDeque::size)
+                    .tag("lane", priority.name().toLowerCase())
+                    .register(meterRegistry);
+
+            Map<String, Counter> counters = new HashMap<>();
+            for (String reason : List.of("expired", "queue_full", "timeout")) {
+                counters.put(reason, Counter.builder("admission.shed")
+                        .tag("lane", priority.name().toLowerCase())
+                        .tag("reason", reason)
+                        .register(meterRegistry));
+            }
+            shedCounters.put(priority, counters);
+        }
+        Gauge.builder("admission.limit", this, c -> c.limit.get()).register(meterRegistry);
+        Gauge.builder("admission.inflight", this, c -> c.inFlight).register(meterRegistry);
+    }
+
+    /**
+     * 승인을 받은 뒤 task 를 실행합니다. 승인을 기다리는 동안 스레드를 잡지 않습니다.
+     * 대기 중 기한이 지나면 RECOMMEND_DEADLINE_EXCEEDED, 대기열이 가득 차면 RECOMMEND_OVERLOADED 로 끝납니다.
+     */
+    public <T> Mono<T> execute(Priority priority, long deadlineNanos, Supplier<Mono<T>> task) {
+        return Mono.defer(() -> {
+            CompletableFuture<Permit> future = acquire(priority, deadlineNanos);
+            long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+            return Mono.fromFuture(future, true)
+                    .timeout(Duration.ofNanos(remaining))
+                    .onErrorMap(TimeoutException.class, e -> {
+                        giveUp(future, priority);
+                        return new RecommendHandler(ErrorStatus.RECOMMEND_DEADLINE_EXCEEDED);
+                    })
+                    .flatMap(permit -> {
+                        long start = System.nanoTime();
+                        return task.get()
+                                .doOnSuccess(result -> permit.release(System.nanoTime() - start, false))
+                                .doOnError(e -> permit.release(System.nanoTime() - start, !(e instanceof GeneralException)))
+                                .doOnCancel(() -> permit.release(System.nanoTime() - start, false));
+                    });
+        });
+    }
+
+    /**
+     * 비동기 승인 요청. 완료된 Permit 은 반드시 release 해야 합니다.
+     */
+    public CompletableFuture<Permit> acquire(Priority priority, long deadlineNanos) {
+        lock.lock();
+        try {
+            if (deadlineNanos - System.nanoTime() <= 0) {
+                shed(priority, "expired");
+                return CompletableFuture.failedFuture(new RecommendHandler(ErrorStatus.RECOMMEND_DEADLINE_EXCEEDED));
+            }
+            if (inFlight < limit.get() && noWaiterAhead(priority)) {
+                inFlight++;
+                return CompletableFuture.completedFuture(new Permit());
+            }
+            ArrayDeque<Waiter> queue = queues.get(priority);
+            if (queue.size() >= maxQueue(priority)) {
+                shed(priority, "queue_full");
+                return CompletableFuture.failedFuture(new RecommendHandler(ErrorStatus.RECOMMEND_OVERLOADED));
+            }
+            Waiter waiter = new Waiter(priority, deadlineNanos);
+            queue.addLast(waiter);
+            return waiter.future;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 기다리다 기한이 지난 요청을 대기열에서 뺍니다. 취소와 승인이 겹쳤으면 받은 자리를 돌려줍니다.
+     */
+    void giveUp(CompletableFuture<Permit> future, Priority priority) {
+        if (future.cancel(false)) {
+            removeWaiter(future, priority);
+            shed(priority, "timeout");
+        } else {
+            future.thenAccept(Permit::abandon);
+        }
+    }
+
+    private void removeWaiter(CompletableFuture<Permit> future, Priority priority) {
+        lock.lock();
+        try {
+            queues.get(priority).removeIf(w -> w.future == future);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long latencyNanos, boolean dropped, boolean sampled) {
+        List<Waiter> granted = new ArrayList<>();
+        List<Waiter> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            inFlight--;
+            if (sampled) {
+                limit.onSample(latencyNanos, dropped);
+            }
+            long now = System.nanoTime();
+            while (inFlight < limit.get()) {
+                Waiter next = pollNext();
+                if (next == null) {
+                    break;
+                }
+                if (next.deadlineNanos - now <= 0) {
+                    expired.add(next);
+                    continue;
+                }
+                inFlight++;
+                granted.add(next);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // future 완료는 락 밖에서 (콜백이 다시 들어올 수 있으므로)
+        for (Waiter waiter : expired) {
+            if (waiter.future.completeExceptionally(new RecommendHandler(ErrorStatus.RECOMMEND_DEADLINE_EXCEEDED))) {
+                shed(waiter.priority, "expired");
+            }
+        }
+        for (Waiter waiter : granted) {
+            Permit permit = new Permit();
+            if (!waiter.future.complete(permit)) {
+                // 이미 취소된 대기자 → 자리를 돌려줌
+                permit.abandon();
+            }
+        }
+    }
+
+    private Waiter pollNext() {
+        Waiter next = queues.get(Priority.INTERACTIVE).pollFirst();
+        return next != null ? next : queues.get(Priority.BACKGROUND).pollFirst();
+    }
+
+    private boolean noWaiterAhead(Priority priority) {
+        if (!queues.get(Priority.INTERACTIVE).isEmpty()) {
+            return false;
+        }
+        return priority == Priority.INTERACTIVE || queues.get(Priority.BACKGROUND).isEmpty();
+    }
+
+    private int maxQueue(Priority priority) {
+        return priority == Priority.INTERACTIVE
+                ? properties.getMaxQueueInteractive()
+                : properties.getMaxQueueBackground();
+    }
+
+    private void shed(Priority priority, String reason) {
+        shedCounters.get(priority).get(reason).increment();
+    }
+
+    public long deadlineFrom(Long deadlineEpochMillis, Long timeoutMillis) {
+        long now = System.nanoTime();
+        if (deadlineEpochMillis != null) {
+            return now + TimeUnit.MILLISECONDS.toNanos(deadlineEpochMillis - System.currentTimeMillis());
+        }
+        if (timeoutMillis != null) {
+            return now + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        }
+        return now + properties.getDefaultTimeout().toNanos();
+    }
+
+    private static class Waiter {
+        private final Priority priority;
+        private final long deadlineNanos;
+        private final CompletableFuture<Permit> future = new CompletableFuture<>();
+
+        Waiter(Priority priority, long deadlineNanos) {
+            this.priority = priority;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+
+    public class Permit {
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit() {
+        }
+
+        public void release(long latencyNanos, boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                AdmissionController.this.release(latencyNanos, dropped, true);
+            }
+        }
+
+        // 작업을 실행하지 않고 자리만 돌려줌 (한도 조정에 반영하지 않음)
+        void abandon() {
+            if (released.compareAndSet(false, true)) {
+                AdmissionController.this.release(0, false, false);
+            }
+        }
+    }
+}
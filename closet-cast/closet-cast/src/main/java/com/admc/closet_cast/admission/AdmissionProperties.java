@@ -0,0 +1,30 @@
+package com.admc.closet_cast.admission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+
+    private int initialLimit = 8;
+    private int minLimit = 1;
+    private int maxLimit = 64;
+
+    // 이 지연을 넘으면 동시 처리 한도를 줄임
+    private Duration targetLatency = Duration.ofSeconds(4);
+    private double backoffRatio = 0.9;
+
+    // 우선순위별 대기열 최대 길이
+    private int maxQueueInteractive = 100;
+    private int maxQueueBackground = 20;
+
+    // 클라이언트가 기한을 보내지 않을 때 사용
+    private Duration defaultTimeout = Duration.ofSeconds(15);
+}
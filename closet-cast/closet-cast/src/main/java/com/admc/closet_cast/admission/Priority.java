@@ -0,0 +1,13 @@
+package com.admc.closet_cast.admission;
+
+public enum Priority {
+    INTERACTIVE, // 앱 사용자가 직접 기다리는 요청
+    BACKGROUND;  // 배치, 재시도, 미리 받아두기 등
+
+    public static Priority fromHeader(String value) {
+        if (value != null && value.equalsIgnoreCase("background")) {
+            return BACKGROUND;
+        }
+        return INTERACTIVE;
+    }
+}
@@ -0,0 +1,34 @@
+package com.admc.closet_cast.apiPayload.exception;
+
+import com.admc.closet_cast.apiPayload.ApiResponse;
+import com.admc.closet_cast.apiPayload.exception.handler.MemberHandler;
+import com.admc.closet_cast.apiPayload.exception.handler.RecommendHandler;
+import com.admc.closet_cast.apiPayload.exception.handler.WeatherHandler;
+import com.admc.closet_cast.apiPayload.form.ReasonDto;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ExceptionAdvice {
+
+    @ExceptionHandler(GeneralException.class)
+    public ResponseEntity<ApiResponse<Object>> handleGeneralException(GeneralException e) {
+        ReasonDto reason = e.getErrorReasonHttpStatus();
+        return ResponseEntity.status(reason.getStatus())
+                .body(ApiResponse.onFailure(reason.getCode(), resultOf(e), reason.getMessage()));
+    }
+
+    private Object resultOf(GeneralException e) {
+        if (e instanceof MemberHandler handler) {
+            return handler.getResult();
+        }
+        if (e instanceof WeatherHandler handler) {
+            return handler.getResult();
+        }
+        if (e instanceof RecommendHandler handler) {
+            return handler.getResult();
+        }
+        return null;
+    }
+}
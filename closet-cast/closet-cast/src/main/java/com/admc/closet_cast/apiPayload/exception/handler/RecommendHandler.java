@@ -0,0 +1,23 @@
+package com.admc.closet_cast.apiPayload.exception.handler;
+
+import com.admc.closet_cast.apiPayload.exception.GeneralException;
+import com.admc.closet_cast.apiPayload.form.BaseCode;
+
+public class RecommendHandler extends GeneralException {
+
+    private final Object result;
+
+    public RecommendHandler(BaseCode code) {
+        super(code);
+        this.result = null;
+    }
+
+    public RecommendHandler(BaseCode code, Object result) {
+        super(code);
+        this.result = result;
+    }
+
+    public Object getResult() {
+        return result;
+    }
+}
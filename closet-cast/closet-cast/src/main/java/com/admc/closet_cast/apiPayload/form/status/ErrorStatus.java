@@ -14,6 +14,7 @@ public enum ErrorStatus implements BaseCode {
     _BAD_REQUEST(HttpStatus.BAD_REQUEST, "COMMON400", "잘못된 요청입니다."),
     _UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "COMMON401", "인증이 필요합니다."),
     _FORBIDDEN(HttpStatus.FORBIDDEN, "COMMON403", "금지된 요청입니다."),
+    _TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMMON429", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "MEMBER4001", "해당 ID의 사용자가 없습니다."),
     DUPLICATED_ID(HttpStatus.MULTI_STATUS, "MEMBER4002", "이미 사용중인 ID입니다."),
@@ -21,7 +22,15 @@ public enum ErrorStatus implements BaseCode {
 
     NO_DATA(HttpStatus.NOT_FOUND, "WEATHER4001", "해당 날짜의 날씨 데이터가 없습니다."),
 
-    INVALID_CLOTHES(HttpStatus.FORBIDDEN, "CLOTH4001", "아우터, 상의, 하의 각각 최소 하나의 의상이 필요합니다.");
+    INVALID_CLOTHES(HttpStatus.FORBIDDEN, "CLOTH4001", "아우터, 상의, 하의 각각 최소 하나의 의상이 필요합니다."),
+    UNKNOWN_GARMENT(HttpStatus.BAD_REQUEST, "CLOTH4002", "카탈로그에 없는 의상입니다."),
+
+    INVALID_FEEDBACK(HttpStatus.BAD_REQUEST, "RECOMMEND4001", "본인이 받은 추천 ID와 피드백 종류가 필요합니다."),
+
+    RECOMMEND_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "RECOMMEND5001", "추천 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    RECOMMEND_DEADLINE_EXCEEDED(HttpStatus.GATEWAY_TIMEOUT, "RECOMMEND5002", "요청 처리 기한이 지났습니다."),
+    RECOMMEND_INVALID_REPLY(HttpStatus.BAD_GATEWAY, "RECOMMEND5003", "추천 결과를 만들지 못했습니다. 잠시 후 다시 시도해주세요."),
+    RECOMMEND_CONTEXT_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "RECOMMEND5004", "추천에 필요한 정보를 제때 불러오지 못했습니다. 잠시 후 다시 시도해주세요.");
 
 
     private final HttpStatus status;
@@ -0,0 +1,32 @@
+package com.admc.closet_cast.backfill;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "backfill")
+public class BackfillProperties {
+
+    // 보관된 기상청 응답 디렉터리 (*.json, *.json.gz). 지정하면 앱이 적재만 하고 종료
+    private String dir;
+
+    // 마지막으로 커밋한 파일을 적어 두는 파일. 비우면 <dir>/.backfill-checkpoint
+    private String checkpoint;
+
+    // 체크포인트를 무시하고 처음부터 (벤치마크 반복 실행용)
+    private boolean restart = false;
+
+    // 동시에 읽고 파싱하는 파일 수 (가상 스레드). 0 이면 코어 수 x 2
+    private int parallelism = 0;
+
+    // 한 트랜잭션(배치 upsert)에 묶는 파일 수
+    private int batchFiles = 50;
+
+    // 응답에 nx/ny 가 없을 때 쓰는 격자
+    private int nx = 55;
+    private int ny = 127;
+}
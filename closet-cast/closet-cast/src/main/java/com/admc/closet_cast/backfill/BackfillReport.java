@@ -0,0 +1,38 @@
+package com.admc.closet_cast.backfill;
+
+import java.time.Duration;
+
+/**
+ * 일괄 적재 결과
+ *
+ * rowsParsed: 파일에서 읽은 시간별 행 수, rowsWritten: 같은 시각을 합친 뒤 upsert 한 행 수
+ */
+public record BackfillReport(
+        int files,
+        int skipped,
+        int failed,
+        long rowsParsed,
+        long rowsWritten,
+        Duration elapsed
+) {
+
+    public double filesPerSecond() {
+        return perSecond(files);
+    }
+
+    public double rowsPerSecond() {
+        return perSecond(rowsWritten);
+    }
+
+    private double perSecond(long count) {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : count / seconds;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("파일 %d개 (건너뜀 %d, 실패 %d), 행 %d/%d, %.1fs, %.1f files/s, %.0f rows/s",
+                files, skipped, failed, rowsWritten, rowsParsed, elapsed.toNanos() / 1e9,
+                filesPerSecond(), rowsPerSecond());
+    }
+}
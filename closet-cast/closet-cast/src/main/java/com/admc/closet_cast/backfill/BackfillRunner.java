@@ -0,0 +1,45 @@
+package com.admc.closet_cast.backfill;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * backfill.dir 을 지정해서 실행하면 보관된 응답을 적재하고 결과를 출력한 뒤 종료합니다.
+ *
+ * java -jar closet-cast.jar --backfill.dir=/data/kma --spring.main.web-application-type=none --weather.nowcast.enabled=false
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "backfill.dir")
+public class BackfillRunner implements ApplicationRunner {
+
+    private final ForecastBackfill forecastBackfill;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        int exitCode;
+        try {
+            BackfillReport report = forecastBackfill.run();
+            log.info("예보 일괄 적재 완료: {}", report);
+            exitCode = exitCode(report);
+        } catch (Exception e) {
+            log.error("예보 일괄 적재 중단 (체크포인트부터 다시 실행 가능)", e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+
+    // 0: 전부 적재, 2: 읽지 못한 파일이 있음 (나머지는 적재됨), 1: 중단
+    static int exitCode(BackfillReport report) {
+        return report.failed() > 0 ? 2 : 0;
+    }
+}
@@ -0,0 +1,342 @@
+package com.admc.closet_cast.backfill;
+
+import com.admc.closet_cast.dto.DailyWeatherDto;
+import com.admc.closet_cast.dto.HourlyWeatherDto;
+import com.admc.closet_cast.entity.ChangeAggregate;
+import com.admc.closet_cast.entity.WeatherSummary;
+import com.admc.closet_cast.outbox.ChangeEventPublisher;
+import com.admc.closet_cast.service.WeatherService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 보관된 기상청 단기예보 응답을 일괄 적재합니다. (새 지역 초기 적재, 스키마 변경 후 재구축)
+ *
+ * 파일 이름 순서를 발표 순서로 보고 (예: 20250101_0200.json.gz), 뒤에 발표된 값이 앞의 값을 덮어씁니다.
+ * 읽기/압축 해제/파싱은 가상 스레드에서 최대 parallelism 개씩 미리 진행하고, 저장은 한 스레드가 파일 순서대로 합니다.
+ * batchFiles 개 파일마다 같은 시각을 합쳐 키 순서로 정렬한 뒤 JDBC 배치 upsert(ON DUPLICATE KEY UPDATE) 한 번으로 저장하고,
+ * 커밋 후 체크포인트에 마지막 파일을 적습니다. 중간에 멈추면 체크포인트 다음 파일부터 다시 시작하고,
+ * 체크포인트 직전 배치가 다시 적용되더라도 upsert 라 결과는 같습니다.
+ *
+ * 시간별 행을 쓴 뒤 그 날짜들의 일별 요약(WeatherSummary)을 DB 의 시간별 행 전체로 다시 계산해서 같은 트랜잭션에 저장합니다.
+ * 정규 수집과 달리 응답에 없는 시각을 지우지 않고, 델타 동기화 변경분 대신 격자 버전만 올려서 클라이언트가 전체를 다시 받게 합니다.
+ * 끝나면 변경 이벤트를 남겨서 실행 중인 노드들의 예보 캐시도 비웁니다.
+ * MySQL 에서는 URL 에 rewriteBatchedStatements=true 가 있어야 배치가 한 문장으로 묶입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ForecastBackfill {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String UPSERT_WEATHER = """
+            INSERT INTO weather (nx, ny, forecast_date, tmx, tmn)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE tmx = COALESCE(VALUES(tmx), tmx), tmn = COALESCE(VALUES(tmn), tmn)""";
+    private static final String SELECT_WEATHER_IDS = """
+            SELECT id, forecast_date FROM weather
+            WHERE nx = ? AND ny = ? AND forecast_date BETWEEN ? AND ?""";
+    private static final String UPSERT_HOURLY = """
+            INSERT INTO hourly_weather (weather_id, fcst_time, temperature, apparent_temp)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE temperature = VALUES(temperature), apparent_temp = VALUES(apparent_temp)""";
+    // 요약은 이번 배치 값만이 아니라 DB 에 쌓인 하루 전체로 다시 계산
+    private static final String SELECT_HOURLY = """
+            SELECT h.weather_id, h.fcst_time, h.temperature, h.apparent_temp
+            FROM hourly_weather h JOIN weather w ON w.id = h.weather_id
+            WHERE w.nx = ? AND w.ny = ? AND w.forecast_date BETWEEN ? AND ?""";
+    private static final String UPDATE_SUMMARY = """
+            UPDATE weather SET max_temp = ?, min_temp = ?, max_feel = ?, min_feel = ?,
+                               morning_feel = ?, afternoon_feel = ?, evening_feel = ?
+            WHERE id = ?""";
+    private static final String BUMP_VERSION = """
+            INSERT INTO weather_version (nx, ny, version) VALUES (?, ?, 1)
+            ON DUPLICATE KEY UPDATE version = version + 1""";
+
+    private final BackfillProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChangeEventPublisher changeEventPublisher;
+
+    public BackfillReport run() throws IOException, InterruptedException {
+        Path dir = Path.of(properties.getDir());
+        Path checkpoint = properties.getCheckpoint() == null || properties.getCheckpoint().isBlank()
+                ? dir.resolve(".backfill-checkpoint")
+                : Path.of(properties.getCheckpoint());
+        String resumeAfter = !properties.isRestart() && Files.exists(checkpoint)
+                ? Files.readString(checkpoint, StandardCharsets.UTF_8).strip()
+                : null;
+
+        List<Path> all = list(dir);
+        List<Path> files = resumeAfter == null ? all : all.stream()
+                .filter(file -> name(dir, file).compareTo(resumeAfter) > 0)
+                .toList();
+        int skipped = all.size() - files.size();
+        if (resumeAfter != null) {
+            log.info("체크포인트 {} 이후부터 적재 ({}개 건너뜀)", resumeAfter, skipped);
+        }
+
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors() * 2;
+        Progress progress = new Progress();
+        long start = System.nanoTime();
+
+        try (ExecutorService parsers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Deque<Future<ArchiveFile>> pending = new ArrayDeque<>();
+            List<ArchiveFile> batch = new ArrayList<>(properties.getBatchFiles());
+            int next = 0;
+            while (next < files.size() || !pending.isEmpty()) {
+                while (next < files.size() && pending.size() < parallelism) {
+                    Path file = files.get(next++);
+                    pending.add(parsers.submit(() -> read(dir, file)));
+                }
+                ArchiveFile parsed = await(pending.poll());
+                if (parsed.days() == null) {
+                    progress.failed++;
+                } else {
+                    progress.rowsParsed += parsed.rows();
+                }
+                batch.add(parsed);
+                if (batch.size() >= properties.getBatchFiles()) {
+                    flush(batch, checkpoint, progress);
+                    log.info("{}/{} 파일, {} 행 ({}/s)", progress.files, files.size(), progress.rowsWritten,
+                            Math.round(progress.rowsWritten / ((System.nanoTime() - start) / 1e9)));
+                }
+            }
+            flush(batch, checkpoint, progress);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Grid grid : progress.grids) {
+                jdbcTemplate.update(BUMP_VERSION, grid.nx(), grid.ny());
+                changeEventPublisher.publish(ChangeAggregate.WEATHER, grid.nx() + ":" + grid.ny());
+            }
+        });
+        return new BackfillReport(progress.files, skipped, progress.failed, progress.rowsParsed,
+                progress.rowsWritten, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static List<Path> list(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.endsWith(".json") || name.endsWith(".json.gz");
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    // 파싱 실패는 건너뛰고 기록만 함 (체크포인트는 그 파일을 지나감)
+    private ArchiveFile read(Path dir, Path file) {
+        String name = name(dir, file);
+        try (InputStream raw = Files.newInputStream(file);
+             InputStream in = file.getFileName().toString().endsWith(".gz") ? new GZIPInputStream(raw, 64 * 1024) : raw) {
+            JsonNode root = MAPPER.readTree(in);
+            JsonNode first = root.path("response").path("body").path("items").path("item").path(0);
+            int nx = first.path("nx").asInt(properties.getNx());
+            int ny = first.path("ny").asInt(properties.getNy());
+            return new ArchiveFile(name, nx, ny, WeatherService.parseWeatherResponse(root));
+        } catch (IOException | RuntimeException e) {
+            log.warn("{} 파싱 실패: {}", name, e.toString());
+            return new ArchiveFile(name, 0, 0, null);
+        }
+    }
+
+    private static ArchiveFile await(Future<ArchiveFile> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void flush(List<ArchiveFile> batch, Path checkpoint, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // 같은 시각은 나중 파일 값으로 합치고, 키 순서로 써서 정규 수집과 잠금 순서를 맞춤
+        Map<Grid, TreeMap<LocalDate, DailyWeatherDto>> merged = new HashMap<>();
+        for (ArchiveFile file : batch) {
+            if (file.days() == null) {
+                continue;
+            }
+            TreeMap<LocalDate, DailyWeatherDto> days = merged.computeIfAbsent(new Grid(file.nx(), file.ny()), grid -> new TreeMap<>());
+            for (DailyWeatherDto day : file.days()) {
+                merge(days.computeIfAbsent(LocalDate.parse(day.getDate(), WeatherService.DATE_FORMAT),
+                        date -> new DailyWeatherDto(day.getDate())), day);
+            }
+        }
+
+        Integer written = transactionTemplate.execute(status -> {
+            int rows = 0;
+            for (Map.Entry<Grid, TreeMap<LocalDate, DailyWeatherDto>> entry : merged.entrySet()) {
+                rows += upsert(entry.getKey(), entry.getValue());
+            }
+            return rows;
+        });
+
+        progress.files += batch.size();
+        progress.rowsWritten += written == null ? 0 : written;
+        progress.grids.addAll(merged.keySet());
+        writeCheckpoint(checkpoint, batch.getLast().name());
+        batch.clear();
+    }
+
+    private static void merge(DailyWeatherDto target, DailyWeatherDto day) {
+        if (day.getTmx() != null) {
+            target.setTmx(day.getTmx());
+        }
+        if (day.getTmn() != null) {
+            target.setTmn(day.getTmn());
+        }
+        Map<String, HourlyWeatherDto> hours = new TreeMap<>();
+        for (HourlyWeatherDto hour : target.getHourlyList()) {
+            hours.put(hour.getFcstTime(), hour);
+        }
+        for (HourlyWeatherDto hour : day.getHourlyList()) {
+            hours.put(hour.getFcstTime(), hour);
+        }
+        target.getHourlyList().clear();
+        target.getHourlyList().addAll(hours.values());
+    }
+
+    private int upsert(Grid grid, TreeMap<LocalDate, DailyWeatherDto> days) {
+        List<Map.Entry<LocalDate, DailyWeatherDto>> entries = new ArrayList<>(days.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_WEATHER, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, grid.nx());
+            ps.setInt(2, grid.ny());
+            ps.setDate(3, Date.valueOf(entry.getKey()));
+            setDouble(ps, 4, entry.getValue().getTmx());
+            setDouble(ps, 5, entry.getValue().getTmn());
+        });
+
+        Map<LocalDate, Long> ids = new HashMap<>();
+        jdbcTemplate.query(SELECT_WEATHER_IDS,
+                rs -> {
+                    ids.put(rs.getDate("forecast_date").toLocalDate(), rs.getLong("id"));
+                },
+                grid.nx(), grid.ny(), Date.valueOf(days.firstKey()), Date.valueOf(days.lastKey()));
+
+        List<Object[]> hourly = new ArrayList<>();
+        for (Map.Entry<LocalDate, DailyWeatherDto> entry : entries) {
+            Long weatherId = ids.get(entry.getKey());
+            for (HourlyWeatherDto hour : entry.getValue().getHourlyList()) {
+                hourly.add(new Object[]{weatherId, hour.getFcstTime(), hour.getTemperature(), hour.getApparentTemp()});
+            }
+        }
+        jdbcTemplate.batchUpdate(UPSERT_HOURLY, hourly, hourly.size(), (ps, row) -> {
+            ps.setLong(1, (Long) row[0]);
+            ps.setString(2, (String) row[1]);
+            setDouble(ps, 3, (Double) row[2]);
+            setDouble(ps, 4, (Double) row[3]);
+        });
+        summarize(grid, days.firstKey(), days.lastKey());
+        return hourly.size();
+    }
+
+    private void summarize(Grid grid, LocalDate from, LocalDate to) {
+        Map<Long, WeatherSummary.Accumulator> accumulators = new HashMap<>();
+        jdbcTemplate.query(SELECT_HOURLY,
+                rs -> {
+                    accumulators.computeIfAbsent(rs.getLong("weather_id"), id -> new WeatherSummary.Accumulator())
+                            .add(rs.getString("fcst_time"),
+                                    rs.getObject("temperature", Double.class),
+                                    rs.getObject("apparent_temp", Double.class));
+                },
+                grid.nx(), grid.ny(), Date.valueOf(from), Date.valueOf(to));
+
+        List<Map.Entry<Long, WeatherSummary.Accumulator>> entries = new ArrayList<>(accumulators.entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_SUMMARY, entries, entries.size(), (ps, entry) -> {
+            WeatherSummary summary = entry.getValue().build();
+            setDouble(ps, 1, summary.getMaxTemp());
+            setDouble(ps, 2, summary.getMinTemp());
+            setDouble(ps, 3, summary.getMaxFeel());
+            setDouble(ps, 4, summary.getMinFeel());
+            setDouble(ps, 5, summary.getMorningFeel());
+            setDouble(ps, 6, summary.getAfternoonFeel());
+            setDouble(ps, 7, summary.getEveningFeel());
+            ps.setLong(8, entry.getKey());
+        });
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.DOUBLE);
+        } else {
+            ps.setDouble(index, value);
+        }
+    }
+
+    // 임시 파일에 쓰고 옮겨서 중간에 죽어도 체크포인트가 깨지지 않게 함
+    private static void writeCheckpoint(Path checkpoint, String lastFile) {
+        try {
+            Path tmp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+            Files.writeString(tmp, lastFile, StandardCharsets.UTF_8);
+            Files.move(tmp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("체크포인트 저장 실패: " + checkpoint, e);
+        }
+    }
+
+    // 하위 디렉터리까지 포함한 상대 경로 (체크포인트 비교 기준)
+    private static String name(Path dir, Path file) {
+        return dir.relativize(file).toString().replace('\\', '/');
+    }
+
+    // days == null 이면 읽기/파싱 실패
+    private record ArchiveFile(String name, int nx, int ny, List<DailyWeatherDto> days) {
+
+        long rows() {
+            return days.stream().mapToLong(day -> day.getHourlyList().size()).sum();
+        }
+    }
+
+    private record Grid(int nx, int ny) {
+    }
+
+    private static final class Progress {
+        int files;
+        int failed;
+        long rowsParsed;
+        long rowsWritten;
+        final Set<Grid> grids = new LinkedHashSet<>();
+    }
+}
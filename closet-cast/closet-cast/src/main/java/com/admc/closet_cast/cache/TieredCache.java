@@ -0,0 +1,290 @@
+package com.admc.closet_cast.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 2단 캐시: 노드별 near 캐시(Caffeine) 앞단 + 노드 사이에 공유하는 Redis
+ *
+ * 조회 순서는 near -> Redis -> 계산이고, 계산한 값은 두 곳에 모두 넣습니다. (Redis 쓰기는 기다리지 않음)
+ * 같은 노드에서 같은 키를 동시에 계산하지 않도록 한 요청만 계산하고 나머지는 그 결과를 기다립니다.
+ * 노드 사이의 몰림은 XFetch(확률적 조기 갱신)로 막습니다. 만료가 가까울수록, 계산이 오래 걸릴수록
+ * 일부 요청이 만료 전에 먼저 다시 계산하므로 한꺼번에 만료되어 모두 계산하는 일이 없습니다.
+ * Redis 에 오류가 나면 retryAfter 동안 near 캐시와 계산만으로 동작합니다.
+ *
+ * Redis 값: {"v": 값, "d": 계산 시간(ms), "e": 만료 시각(epoch ms)}
+ */
+@Slf4j
+@Component
+public class TieredCache {
+
+    public static final String RECOMMENDATION = "recommendation";
+    public static final String FORECAST = "forecast";
+
+    private final TieredCacheProperties properties;
+    private final ObjectProvider<StringRedisTemplate> redisProvider;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Cache<String, Entry>> near = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Object>> inflight = new ConcurrentHashMap<>();
+    private final Map<String, RegionMeters> meters = new ConcurrentHashMap<>();
+    private final Counter sharedErrors;
+
+    private volatile long sharedDownUntil;
+
+    public TieredCache(TieredCacheProperties properties, ObjectProvider<StringRedisTemplate> redisProvider,
+                       ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisProvider = redisProvider;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+
+        this.sharedErrors = Counter.builder("cache.shared.errors")
+                .register(meterRegistry);
+        Gauge.builder("cache.shared.up", this, cache -> cache.sharedAvailable() ? 1 : 0)
+                .register(meterRegistry);
+        meters(RECOMMENDATION);
+        meters(FORECAST);
+    }
+
+    /**
+     * 블로킹 조회. 없으면 loader 로 계산해서 넣습니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String region, String key, JavaType type, Supplier<T> loader) {
+        Entry hit = lookup(region, key, type);
+        if (hit != null) {
+            return (T) hit.value();
+        }
+
+        String fullKey = fullKey(region, key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inflight.putIfAbsent(fullKey, mine);
+        if (running != null) {
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        try {
+            long start = System.nanoTime();
+            T value = loader.get();
+            store(region, key, value, System.nanoTime() - start);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(fullKey, mine);
+        }
+    }
+
+    /**
+     * 논블로킹 조회. Redis 조회는 boundedElastic 에서 하고, 계산(loader)은 호출한 쪽 스케줄러에서 이어집니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> getAsync(String region, String key, JavaType type, Supplier<Mono<T>> loader) {
+        return Mono.fromCallable(() -> Optional.ofNullable(lookup(region, key, type)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(hit -> hit.isPresent() ? Mono.just((T) hit.get().value()) : load(region, key, loader));
+    }
+
+    // 예보 변경 등으로 이 노드의 near 캐시를 비움 (Redis 는 키에 버전을 넣어서 따로 지우지 않음)
+    public void invalidateNear(String region) {
+        Cache<String, Entry> cache = near.get(region);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> load(String region, String key, Supplier<Mono<T>> loader) {
+        String fullKey = fullKey(region, key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inflight.putIfAbsent(fullKey, mine);
+        if (running != null) {
+            // 먼저 계산하던 요청이 취소됐으면 직접 계산
+            return Mono.fromFuture(running, true)
+                    .map(value -> (T) value)
+                    .onErrorResume(CancellationException.class, e -> loader.get());
+        }
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return loader.get()
+                            .doOnNext(value -> store(region, key, value, System.nanoTime() - start));
+                })
+                .doOnNext(mine::complete)
+                .doOnError(mine::completeExceptionally)
+                .doFinally(signal -> {
+                    if (!mine.isDone()) {
+                        mine.completeExceptionally(new CancellationException(signal.toString()));
+                    }
+                    inflight.remove(fullKey, mine);
+                });
+    }
+
+    private Entry lookup(String region, String key, JavaType type) {
+        RegionMeters regionMeters = meters(region);
+        Cache<String, Entry> nearCache = nearCache(region);
+        Entry entry = nearCache.getIfPresent(key);
+        if (entry != null) {
+            if (refreshEarly(entry)) {
+                regionMeters.early().increment();
+                return null;
+            }
+            regionMeters.near().increment();
+            return entry;
+        }
+
+        entry = sharedGet(region, key, type);
+        if (entry != null) {
+            nearCache.put(key, entry);
+            if (refreshEarly(entry)) {
+                regionMeters.early().increment();
+                return null;
+            }
+            regionMeters.shared().increment();
+            return entry;
+        }
+        regionMeters.miss().increment();
+        return null;
+    }
+
+    private void store(String region, String key, Object value, long computeNanos) {
+        if (value == null) {
+            return;
+        }
+        meters(region).load().record(computeNanos, TimeUnit.NANOSECONDS);
+        Duration ttl = properties.region(region).getTtl();
+        Entry entry = new Entry(value, TimeUnit.NANOSECONDS.toMillis(computeNanos), System.currentTimeMillis() + ttl.toMillis());
+        nearCache(region).put(key, entry);
+        if (sharedAvailable()) {
+            Schedulers.boundedElastic().schedule(() -> sharedPut(region, key, entry, ttl));
+        }
+    }
+
+    /**
+     * XFetch: now - delta * beta * ln(rand) >= expiry 이면 만료 전이라도 다시 계산
+     */
+    private boolean refreshEarly(Entry entry) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        double early = entry.deltaMillis() * properties.getBeta() * Math.log(random == 0 ? Double.MIN_VALUE : random);
+        return System.currentTimeMillis() - early >= entry.expiresAt();
+    }
+
+    private Entry sharedGet(String region, String key, JavaType type) {
+        StringRedisTemplate redis = sharedAvailable() ? redisProvider.getIfAvailable() : null;
+        if (redis == null) {
+            return null;
+        }
+        try {
+            String json = redis.opsForValue().get(fullKey(region, key));
+            if (json == null) {
+                return null;
+            }
+            JsonNode node = objectMapper.readTree(json);
+            Object value = objectMapper.convertValue(node.get("v"), type);
+            return new Entry(value, node.path("d").asLong(), node.path("e").asLong());
+        } catch (Exception e) {
+            sharedFailed(e);
+            return null;
+        }
+    }
+
+    private void sharedPut(String region, String key, Entry entry, Duration ttl) {
+        StringRedisTemplate redis = redisProvider.getIfAvailable();
+        if (redis == null) {
+            return;
+        }
+        try {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.set("v", objectMapper.valueToTree(entry.value()));
+            node.put("d", entry.deltaMillis());
+            node.put("e", entry.expiresAt());
+            redis.opsForValue().set(fullKey(region, key), objectMapper.writeValueAsString(node), ttl);
+        } catch (Exception e) {
+            sharedFailed(e);
+        }
+    }
+
+    private boolean sharedAvailable() {
+        return properties.isSharedEnabled() && System.currentTimeMillis() >= sharedDownUntil;
+    }
+
+    private void sharedFailed(Exception e) {
+        sharedErrors.increment();
+        if (System.currentTimeMillis() >= sharedDownUntil) {
+            log.warn("공유 캐시 오류, {} 동안 near 캐시만 사용: {}", properties.getRetryAfter(), e.toString());
+        }
+        sharedDownUntil = System.currentTimeMillis() + properties.getRetryAfter().toMillis();
+    }
+
+    private Cache<String, Entry> nearCache(String region) {
+        return near.computeIfAbsent(region, name -> {
+            TieredCacheProperties.Region config = properties.region(name);
+            return Caffeine.newBuilder()
+                    .maximumSize(config.getNearSize())
+                    .expireAfterWrite(config.getTtl())
+                    .build();
+        });
+    }
+
+    private RegionMeters meters(String region) {
+        return meters.computeIfAbsent(region, name -> new RegionMeters(
+                result(name, "near"),
+                result(name, "shared"),
+                result(name, "miss"),
+                result(name, "early"),
+                Timer.builder("cache.tiered.load")
+                        .tag("region", name)
+                        .register(meterRegistry)));
+    }
+
+    private Counter result(String region, String result) {
+        return Counter.builder("cache.tiered")
+                .tag("region", region)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private String fullKey(String region, String key) {
+        return properties.getKeyPrefix() + region + ":" + key;
+    }
+
+    private record Entry(Object value, long deltaMillis, long expiresAt) {
+    }
+
+    private record RegionMeters(Counter near, Counter shared, Counter miss, Counter early, Timer load) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.admc.closet_cast.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "tiered-cache")
+public class TieredCacheProperties {
+
+    // 노드 사이에 공유하는 Redis 캐시 사용 여부. 끄면 노드별 near 캐시만
+    private boolean sharedEnabled = false;
+
+    // Redis 키 앞에 붙임
+    private String keyPrefix = "closetcast:";
+
+    // XFetch 조기 갱신 강도. 클수록 만료 전에 일찍 다시 계산 (1 이 논문 기본값)
+    private double beta = 1.0;
+
+    // Redis 오류 후 near 캐시만 쓰는 시간
+    private Duration retryAfter = Duration.ofSeconds(5);
+
+    // 영역별 설정 (recommendation, forecast)
+    private Map<String, Region> regions = new HashMap<>();
+
+    public Region region(String name) {
+        return regions.getOrDefault(name, new Region());
+    }
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        // near 캐시 최대 항목 수
+        private int nearSize = 1000;
+
+        // 계산한 값의 유효 시간 (near/Redis 공통)
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
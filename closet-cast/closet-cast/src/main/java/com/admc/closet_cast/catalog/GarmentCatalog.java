@@ -0,0 +1,60 @@
+package com.admc.closet_cast.catalog;
+
+import com.admc.closet_cast.repository.GarmentRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 의상 카탈로그
+ * 빈 초기화 때 한 번 읽고(웹 서버가 요청을 받기 전) 주기적으로 새 스냅샷을 만들어 통째로 바꿉니다.
+ * 읽는 쪽은 current() 로 받은 스냅샷 하나만 쓰므로 갱신 중에도 일관된 값을 봅니다.
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+public class GarmentCatalog {
+
+    private final GarmentRepository garmentRepository;
+    private final AtomicReference<GarmentIndex> snapshot = new AtomicReference<>(GarmentIndex.empty());
+
+    public GarmentCatalog(GarmentRepository garmentRepository, MeterRegistry meterRegistry) {
+        this.garmentRepository = garmentRepository;
+        Gauge.builder("catalog.garments", snapshot, ref -> ref.get().size())
+                .register(meterRegistry);
+    }
+
+    public GarmentIndex current() {
+        return snapshot.get();
+    }
+
+    // @DependsOnDatabaseInitialization 으로 Flyway/data.sql 이 끝난 뒤 실행됨
+    // 빈 카탈로그로 서비스하지 않도록 첫 로드 실패는 시작 실패로 둠
+    @PostConstruct
+    public void load() {
+        swap(GarmentIndex.of(garmentRepository.findAll()));
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.refresh-interval:PT5M}", initialDelayString = "${catalog.refresh-interval:PT5M}")
+    public void refresh() {
+        try {
+            swap(GarmentIndex.of(garmentRepository.findAll()));
+        } catch (RuntimeException e) {
+            // 이전 스냅샷으로 계속 서비스
+            log.error("의상 카탈로그 갱신 실패", e);
+        }
+    }
+
+    private void swap(GarmentIndex next) {
+        GarmentIndex previous = snapshot.getAndSet(next);
+        if (previous.size() != next.size()) {
+            log.info("의상 카탈로그 로드: {}종", next.size());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.admc.closet_cast.catalog;
+
+import com.admc.closet_cast.entity.Garment;
+import com.admc.closet_cast.entity.GarmentCategory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 카탈로그 스냅샷 (불변)
+ * 카테고리별로 보온 점수 순으로 정렬해 두고, "체감온도 X 에 맞는 옷"을 이분 탐색 범위 조회로 찾습니다.
+ * 고를 수 없는(active=false) 항목은 code 조회만 되고 범위 조회에는 나오지 않습니다.
+ */
+public final class GarmentIndex {
+
+    // warmth 0 인 옷이 딱 맞는 체감온도
+    public static final double NEUTRAL_TEMP = 30.0;
+
+    private static final Garment[] NO_GARMENTS = new Garment[0];
+
+    private final Map<String, Garment> byCode;
+    private final Map<GarmentCategory, Garment[]> sorted = new EnumMap<>(GarmentCategory.class);
+    private final Map<GarmentCategory, double[]> warmths = new EnumMap<>(GarmentCategory.class);
+    private final List<String> activeCodes;
+
+    private GarmentIndex(Collection<Garment> garments) {
+        Map<String, Garment> codes = new HashMap<>();
+        for (Garment garment : garments) {
+            codes.put(garment.getCode(), garment);
+        }
+        this.byCode = Map.copyOf(codes);
+
+        for (GarmentCategory category : GarmentCategory.values()) {
+            Garment[] items = garments.stream()
+                    .filter(Garment::isActive)
+                    .filter(garment -> garment.getCategory() == category)
+                    .sorted(Comparator.comparingDouble(Garment::getWarmth).thenComparing(Garment::getCode))
+                    .toArray(Garment[]::new);
+            sorted.put(category, items);
+            warmths.put(category, Arrays.stream(items).mapToDouble(Garment::getWarmth).toArray());
+        }
+        this.activeCodes = garments.stream()
+                .filter(Garment::isActive)
+                .sorted(Comparator.comparingInt(Garment::getSlot))
+                .map(Garment::getCode)
+                .toList();
+    }
+
+    public static GarmentIndex of(Collection<Garment> garments) {
+        return new GarmentIndex(garments);
+    }
+
+    public static GarmentIndex empty() {
+        return new GarmentIndex(List.of());
+    }
+
+    /**
+     * 체감온도에 딱 맞는 보온 점수
+     */
+    public static double requiredWarmth(double apparentTemp) {
+        return NEUTRAL_TEMP - apparentTemp;
+    }
+
+    public Optional<Garment> find(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(byCode.get(code));
+    }
+
+    public boolean isSelectable(String code) {
+        return find(code).map(Garment::isActive).orElse(false);
+    }
+
+    // 새 회원의 기본 옷장
+    public List<String> activeCodes() {
+        return activeCodes;
+    }
+
+    public List<Garment> category(GarmentCategory category) {
+        return List.of(sorted.getOrDefault(category, NO_GARMENTS));
+    }
+
+    /**
+     * 보온 점수가 [from, to] 인 항목 (보온 점수 오름차순)
+     */
+    public List<Garment> warmthBetween(GarmentCategory category, double from, double to) {
+        Garment[] items = sorted.getOrDefault(category, NO_GARMENTS);
+        double[] keys = warmths.getOrDefault(category, new double[0]);
+        int start = lowerBound(keys, from);
+        int end = upperBound(keys, to);
+        return start >= end ? List.of() : List.of(Arrays.copyOfRange(items, start, end));
+    }
+
+    /**
+     * 체감온도 apparentTemp 에서 보온 점수 차이가 tolerance 이내인 항목
+     */
+    public List<Garment> suitableFor(GarmentCategory category, double apparentTemp, double tolerance) {
+        double required = requiredWarmth(apparentTemp);
+        return warmthBetween(category, required - tolerance, required + tolerance);
+    }
+
+    // 카테고리 안의 보온 점수 범위. 범위 밖의 날씨에는 가장 따뜻한/시원한 옷이 정답
+    public double clampWarmth(GarmentCategory category, double warmth) {
+        double[] keys = warmths.getOrDefault(category, new double[0]);
+        if (keys.length == 0) {
+            return warmth;
+        }
+        return Math.max(keys[0], Math.min(keys[keys.length - 1], warmth));
+    }
+
+    public int size() {
+        return byCode.size();
+    }
+
+    // keys[i] >= value 인 첫 위치
+    private static int lowerBound(double[] keys, double value) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // keys[i] > value 인 첫 위치
+    private static int upperBound(double[] keys, double value) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
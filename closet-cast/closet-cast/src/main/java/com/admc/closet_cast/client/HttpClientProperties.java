@@ -0,0 +1,38 @@
+package com.admc.closet_cast.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+
+    private int maxTotal = 100;
+    private int maxPerRoute = 20;
+
+    // 호스트(스킴 포함 URL)별 최대 연결 수, ex) https://api.openai.com: 50
+    private Map<String, Integer> maxPerHost = new HashMap<>();
+
+    private Duration connectTimeout = Duration.ofSeconds(3);
+    private Duration responseTimeout = Duration.ofSeconds(30);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+    // 서버가 Keep-Alive 헤더를 주지 않을 때 유지 시간
+    private Duration keepAlive = Duration.ofSeconds(30);
+    private Duration timeToLive = Duration.ofMinutes(5);
+    private Duration evictIdle = Duration.ofMinutes(1);
+
+    private boolean http2 = true;
+
+    // WebClient 가 메모리에 올리는 응답 본문 최대 크기
+    private DataSize maxResponseSize = DataSize.ofMegabytes(2);
+}
@@ -0,0 +1,112 @@
+package com.admc.closet_cast.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncClientConnectionManager;
+import org.apache.hc.client5.http.nio.AsyncConnectionEndpoint;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ConnectionInitiator;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 풀 사용량과 커넥션 획득(lease) 지연을 기록하는 래퍼
+ */
+public class InstrumentedConnectionManager implements AsyncClientConnectionManager {
+
+    private final PoolingAsyncClientConnectionManager delegate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> acquireTimers = new ConcurrentHashMap<>();
+
+    public InstrumentedConnectionManager(PoolingAsyncClientConnectionManager delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("http.client.pool.leased", delegate, m -> m.getTotalStats().getLeased()).register(meterRegistry);
+        Gauge.builder("http.client.pool.available", delegate, m -> m.getTotalStats().getAvailable()).register(meterRegistry);
+        Gauge.builder("http.client.pool.pending", delegate, m -> m.getTotalStats().getPending()).register(meterRegistry);
+        Gauge.builder("http.client.pool.max", delegate, m -> m.getTotalStats().getMax()).register(meterRegistry);
+    }
+
+    @Override
+    public Future<AsyncConnectionEndpoint> lease(String id, HttpRoute route, Object state, Timeout requestTimeout,
+                                                 FutureCallback<AsyncConnectionEndpoint> callback) {
+        Timer timer = acquireTimer(route);
+        long start = System.nanoTime();
+        return delegate.lease(id, route, state, requestTimeout, new FutureCallback<>() {
+            @Override
+            public void completed(AsyncConnectionEndpoint result) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (callback != null) {
+                    callback.completed(result);
+                }
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (callback != null) {
+                    callback.failed(ex);
+                }
+            }
+
+            @Override
+            public void cancelled() {
+                if (callback != null) {
+                    callback.cancelled();
+                }
+            }
+        });
+    }
+
+    @Override
+    public void release(AsyncConnectionEndpoint endpoint, Object newState, TimeValue validDuration) {
+        delegate.release(endpoint, newState, validDuration);
+    }
+
+    @Override
+    public Future<AsyncConnectionEndpoint> connect(AsyncConnectionEndpoint endpoint, ConnectionInitiator connectionInitiator,
+                                                   Timeout connectTimeout, Object attachment, HttpContext context,
+                                                   FutureCallback<AsyncConnectionEndpoint> callback) {
+        return delegate.connect(endpoint, connectionInitiator, connectTimeout, attachment, context, callback);
+    }
+
+    @Override
+    public void upgrade(AsyncConnectionEndpoint endpoint, Object attachment, HttpContext context) {
+        delegate.upgrade(endpoint, attachment, context);
+    }
+
+    @Override
+    public void upgrade(AsyncConnectionEndpoint endpoint, Object attachment, HttpContext context,
+                        FutureCallback<AsyncConnectionEndpoint> callback) {
+        delegate.upgrade(endpoint, attachment, context, callback);
+    }
+
+    @Override
+    public void close(CloseMode closeMode) {
+        delegate.close(closeMode);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private Timer acquireTimer(HttpRoute route) {
+        String host = route.getTargetHost().getHostName();
+        return acquireTimers.computeIfAbsent(host, h -> Timer.builder("http.client.connection.acquire")
+                .tag("host", h)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,69 @@
+package com.admc.closet_cast.client;
+
+import com.admc.closet_cast.metrics.IngestMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기상청 API 허브 단기예보/초단기예보 조회
+ */
+@Component
+public class KmaClient {
+
+    private final WebClient webClient;
+    private final String authKey;
+    private final IngestMetrics metrics;
+
+    public KmaClient(@Qualifier("kmaWebClient") WebClient webClient,
+                     @Value("${kma.auth-key:iUT6NVMERleE-jVTBFZX_g}") String authKey,
+                     IngestMetrics metrics) {
+        this.webClient = webClient;
+        this.authKey = authKey;
+        this.metrics = metrics;
+    }
+
+    public Mono<String> getVilageFcst(String baseDate, String baseTime, int nx, int ny) {
+        return fetch("/getVilageFcst", 1000, baseDate, baseTime, nx, ny);
+    }
+
+    // 초단기예보: 매시 30분 발표, 6시간 치 (T1H, WSD 등 카테고리당 6행)
+    public Mono<String> getUltraSrtFcst(String baseDate, String baseTime, int nx, int ny) {
+        return fetch("/getUltraSrtFcst", 60, baseDate, baseTime, nx, ny);
+    }
+
+    private Mono<String> fetch(String path, int rows, String baseDate, String baseTime, int nx, int ny) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return request(path, rows, baseDate, baseTime, nx, ny)
+                    .doOnSuccess(json -> {
+                        metrics.getKmaFetchSuccess().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        if (json != null) {
+                            metrics.getKmaPayloadSize().record(json.getBytes(StandardCharsets.UTF_8).length);
+                        }
+                    })
+                    .doOnError(e -> metrics.getKmaFetchError().record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private Mono<String> request(String path, int rows, String baseDate, String baseTime, int nx, int ny) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path(path)
+                        .queryParam("authKey", authKey)
+                        .queryParam("pageNo", "1")
+                        .queryParam("numOfRows", rows)
+                        .queryParam("dataType", "JSON")
+                        .queryParam("base_date", baseDate)
+                        .queryParam("base_time", baseTime)
+                        .queryParam("nx", nx)
+                        .queryParam("ny", ny)
+                        .build())
+                .retrieve()
+                .bodyToMono(String.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.admc.closet_cast.client;
+
+import com.admc.closet_cast.metrics.OpenAiMetrics;
+import com.admc.closet_cast.prompt.PromptLayout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * OpenAI Chat Completions 호출
+ */
+@Component
+public class OpenAiClient {
+
+    private final WebClient webClient;
+    private final OpenAiMetrics metrics;
+
+    public OpenAiClient(@Qualifier("openAiWebClient") WebClient webClient, OpenAiMetrics metrics) {
+        this.webClient = webClient;
+        this.metrics = metrics;
+    }
+
+    public <T> Mono<ResponseEntity<T>> chatCompletions(Object request, Class<T> responseType) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return webClient.post()
+                    .uri("/chat/completions")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(request)
+                    .retrieve()
+                    .toEntity(responseType)
+                    .doOnSuccess(response -> metrics.recordLatency(
+                            response != null ? String.valueOf(response.getStatusCode().value()) : "EMPTY",
+                            System.nanoTime() - start))
+                    .doOnError(e -> metrics.recordLatency(statusOf(e), System.nanoTime() - start));
+        });
+    }
+
+    public void recordUsage(PromptLayout layout, int promptTokens, int cachedTokens, int completionTokens) {
+        metrics.recordUsage(layout, promptTokens, cachedTokens, completionTokens);
+    }
+
+    public void recordCompletion(PromptLayout layout, long nanos) {
+        metrics.recordCompletion(layout, nanos);
+    }
+
+    private static String statusOf(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return String.valueOf(responseException.getStatusCode().value());
+        }
+        return "IO_ERROR";
+    }
+}
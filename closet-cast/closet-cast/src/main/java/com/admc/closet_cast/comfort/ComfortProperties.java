@@ -0,0 +1,40 @@
+package com.admc.closet_cast.comfort;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "comfort")
+public class ComfortProperties {
+
+    // 체감 모델만으로 추천하려면 필요한 최소 피드백 수
+    private int minSamples = 5;
+
+    // 최근 불만족 비율(지수이동평균)이 이 값 이하일 때만 모델을 믿음
+    private double maxError = 0.25;
+
+    // 로컬 추천에서 옷의 적정 온도와 보정된 체감온도 차이 허용치(°C). 넘으면 LLM 에 맡김
+    private double tolerance = 4.0;
+
+    // 오늘 추천 이력을 다시 쓸 수 있는 체감온도 차이(°C)
+    private double cacheTolerance = 1.0;
+
+    // 이력 테이블로 모델을 다시 계산하는 주기
+    private String recomputeCron = "0 30 4 * * *";
+
+    // 재계산 병렬도와 한 작업이 맡는 회원 수
+    private int recomputeParallelism = 4;
+    private int recomputeChunkSize = 500;
+
+    // 재계산에 쓰는 피드백 기간. 이보다 오래된 피드백은 재계산 때 모델에서 빠짐
+    private Duration recomputeWindow = Duration.ofDays(180);
+
+    // 재계산 시작 전 이 시간 안(또는 실행 중)에 온라인으로 학습한 회원은 덮어쓰지 않음 (재생 목록에 없는 피드백이 있을 수 있음)
+    private Duration recomputeSettle = Duration.ofMinutes(10);
+}
@@ -0,0 +1,200 @@
+package com.admc.closet_cast.comfort;
+
+import com.admc.closet_cast.entity.ComfortModel;
+import com.admc.closet_cast.entity.FeedbackType;
+import com.admc.closet_cast.entity.Tendency;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 recompute-window(기본 180일) 안의 피드백으로 체감 모델을 다시 계산합니다.
+ * 온라인 갱신은 순서가 뒤섞이거나 유실될 수 있으므로 주기적으로 created_at 순서대로 다시 재생해서 맞춥니다.
+ * 기간 밖의 피드백은 재생하지 않으므로 오래된 피드백은 이때 모델에서 빠집니다. (체질/취향 변화 반영)
+ * 회원을 chunk 단위로 나눠 여러 스레드가 동시에 읽고/계산하고/배치로 저장합니다.
+ *
+ * 모든 노드에서 같은 시각에 실행되므로 MySQL 이름 잠금(GET_LOCK)을 얻은 노드 하나만 계산합니다.
+ * 잠금은 잡은 커넥션에 묶여 있어서 실행 중인 노드가 죽으면 바로 풀립니다.
+ * 재생하는 동안 온라인으로 학습한 피드백은 읽은 목록에 없으므로,
+ * 시작 전 recompute-settle 안이나 실행 중에 학습한 회원은 덮어쓰지 않고 다음 실행에 맞춥니다.
+ */
+@Slf4j
+@Component
+public class ComfortRecomputeJob {
+
+    private static final String MEMBERS_WITH_FEEDBACK = """
+            SELECT DISTINCT member_id FROM recommendation_feedback
+            WHERE created_at >= :since""";
+    private static final String TENDENCIES = """
+            SELECT member_id, tendency FROM member_tendencies
+            WHERE member_id IN (:ids)""";
+    private static final String FEEDBACKS = """
+            SELECT member_id, feedback, outer_item, top_item, bottom_item FROM recommendation_feedback
+            WHERE member_id IN (:ids) AND created_at >= :since
+            ORDER BY member_id, created_at, id""";
+    private static final String UPDATE_MEMBER = """
+            UPDATE member
+            SET comfort_offset = :offset, comfort_samples = :samples, comfort_error = :error, comfort_cloth = :cloth
+            WHERE id = :id AND (comfort_learned_at IS NULL OR comfort_learned_at < :settledBefore)""";
+    private static final String LOCK_NAME = "closetcast.comfort-recompute";
+
+    private final ComfortProperties properties;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ComfortService comfortService;
+
+    private final Timer duration;
+    private final Counter members;
+    private final Counter skippedMembers;
+    private final Counter failedChunks;
+
+    public ComfortRecomputeJob(ComfortProperties properties, NamedParameterJdbcTemplate jdbcTemplate,
+                               ComfortService comfortService, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.comfortService = comfortService;
+        this.duration = Timer.builder("comfort.recompute")
+                .register(meterRegistry);
+        this.members = Counter.builder("comfort.recompute.members")
+                .register(meterRegistry);
+        this.skippedMembers = Counter.builder("comfort.recompute.skipped")
+                .description("Members left as-is because they learned from feedback while the job was replaying")
+                .register(meterRegistry);
+        this.failedChunks = Counter.builder("comfort.recompute.failed")
+                .description("Member chunks whose comfort models could not be recomputed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${comfort.recompute-cron:0 30 4 * * *}")
+    public void recompute() {
+        Boolean ran = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Boolean>) connection -> {
+            if (!namedLock(connection, "SELECT GET_LOCK(?, 0)")) {
+                return false;
+            }
+            try {
+                recomputeAll();
+                return true;
+            } finally {
+                namedLock(connection, "SELECT RELEASE_LOCK(?)");
+            }
+        });
+        if (!Boolean.TRUE.equals(ran)) {
+            log.info("다른 노드에서 체감 모델을 재계산 중이라 건너뜀");
+        }
+    }
+
+    private static boolean namedLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void recomputeAll() {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp since = Timestamp.valueOf(now.minus(properties.getRecomputeWindow()));
+        Timestamp settledBefore = Timestamp.valueOf(now.minus(properties.getRecomputeSettle()));
+        List<Long> ids = jdbcTemplate.queryForList(MEMBERS_WITH_FEEDBACK, Map.of("since", since), Long.class);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        int chunkSize = properties.getRecomputeChunkSize();
+        try (ExecutorService executor = Executors.newFixedThreadPool(properties.getRecomputeParallelism())) {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + chunkSize));
+                futures.add(executor.submit(() -> recomputeChunk(chunk, since, settledBefore)));
+            }
+            int updated = 0;
+            for (Future<Integer> future : futures) {
+                try {
+                    updated += future.get();
+                } catch (ExecutionException e) {
+                    failedChunks.increment();
+                    log.error("체감 모델 재계산 실패", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            log.info("체감 모델 재계산: 회원 {}명, {}ms", updated, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private int recomputeChunk(List<Long> ids, Timestamp since, Timestamp settledBefore) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("since", since);
+
+        Map<Long, List<Tendency>> tendencies = new HashMap<>();
+        jdbcTemplate.query(TENDENCIES, params, rs -> {
+            String tendency = rs.getString("tendency");
+            if (tendency != null) {
+                tendencies.computeIfAbsent(rs.getLong("member_id"), id -> new ArrayList<>())
+                        .add(Tendency.valueOf(tendency));
+            }
+        });
+
+        Map<Long, List<FeedbackRow>> feedbacks = new HashMap<>();
+        jdbcTemplate.query(FEEDBACKS, params, rs -> {
+            FeedbackRow row = new FeedbackRow(
+                    rs.getLong("member_id"),
+                    FeedbackType.valueOf(rs.getString("feedback")),
+                    rs.getString("outer_item"),
+                    rs.getString("top_item"),
+                    rs.getString("bottom_item"));
+            feedbacks.computeIfAbsent(row.memberId(), id -> new ArrayList<>()).add(row);
+        });
+
+        List<SqlParameterSource> updates = new ArrayList<>(feedbacks.size());
+        feedbacks.forEach((memberId, rows) -> {
+            ComfortModel model = comfortService.replay(
+                    ComfortModel.initial(tendencies.getOrDefault(memberId, List.of())), rows);
+            updates.add(new MapSqlParameterSource()
+                    .addValue("offset", model.getOffset())
+                    .addValue("samples", model.getSamples())
+                    .addValue("error", model.getError())
+                    .addValue("cloth", model.getClothAdjustments())
+                    .addValue("id", memberId)
+                    .addValue("settledBefore", settledBefore));
+        });
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(UPDATE_MEMBER, updates.toArray(SqlParameterSource[]::new))) {
+            // 배치 결과를 모르는 드라이버(SUCCESS_NO_INFO)는 갱신된 것으로 봄
+            if (count != 0) {
+                updated++;
+            }
+        }
+        members.increment(updated);
+        skippedMembers.increment(updates.size() - updated);
+        return updated;
+    }
+}
@@ -0,0 +1,67 @@
+package com.admc.closet_cast.comfort;
+
+import com.admc.closet_cast.apiPayload.exception.handler.MemberHandler;
+import com.admc.closet_cast.apiPayload.form.status.ErrorStatus;
+import com.admc.closet_cast.catalog.GarmentCatalog;
+import com.admc.closet_cast.catalog.GarmentIndex;
+import com.admc.closet_cast.entity.ComfortModel;
+import com.admc.closet_cast.entity.FeedbackType;
+import com.admc.closet_cast.entity.Garment;
+import com.admc.closet_cast.entity.Member;
+import com.admc.closet_cast.entity.RecommendationHistory;
+import com.admc.closet_cast.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 피드백 한 건을 회원 체감 모델에 바로 반영합니다. (O(1), 회원 행 하나만 갱신)
+ * 검증하고 중복을 걸러낸 피드백만 들어옵니다. (RecommendHistoryService.recordFeedback)
+ */
+@Service
+@RequiredArgsConstructor
+public class ComfortService {
+
+    private final MemberRepository memberRepository;
+    private final GarmentCatalog garmentCatalog;
+
+    @Transactional
+    public void learn(Long memberId, FeedbackType feedback, RecommendationHistory recommendation) {
+        Member member = memberRepository.findById(memberId).orElseThrow(
+                () -> new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND)
+        );
+        if (member.getComfort() == null) {
+            member.resetComfort();
+        }
+        member.getComfort().apply(feedback,
+                worn(recommendation.getOuterItem(), recommendation.getTopItem(), recommendation.getBottomItem()));
+        member.getComfort().markLearned(LocalDateTime.now());
+    }
+
+    /**
+     * 추천 문자열("JEANS", "None" 등)을 카탈로그 항목으로. 모르는 값(None, 목록 밖의 이름)은 건너뜀
+     */
+    List<Garment> worn(String... items) {
+        GarmentIndex catalog = garmentCatalog.current();
+        List<Garment> worn = new ArrayList<>(items.length);
+        for (String item : items) {
+            if (item != null && !item.isBlank()) {
+                catalog.find(item.trim().toUpperCase(Locale.ROOT)).ifPresent(worn::add);
+            }
+        }
+        return worn;
+    }
+
+    ComfortModel replay(ComfortModel seed, Iterable<FeedbackRow> feedbacks) {
+        ComfortModel model = seed.copy();
+        for (FeedbackRow row : feedbacks) {
+            model.apply(row.feedback(), worn(row.outer(), row.top(), row.bottom()));
+        }
+        return model;
+    }
+}
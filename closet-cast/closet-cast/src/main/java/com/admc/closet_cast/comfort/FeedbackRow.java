@@ -0,0 +1,13 @@
+package com.admc.closet_cast.comfort;
+
+import com.admc.closet_cast.entity.FeedbackType;
+
+// 재계산용 피드백 한 줄
+record FeedbackRow(
+        long memberId,
+        FeedbackType feedback,
+        String outer,
+        String top,
+        String bottom
+) {
+}
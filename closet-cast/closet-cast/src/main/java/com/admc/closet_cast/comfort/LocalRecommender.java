@@ -0,0 +1,88 @@
+package com.admc.closet_cast.comfort;
+
+import com.admc.closet_cast.catalog.GarmentCatalog;
+import com.admc.closet_cast.catalog.GarmentIndex;
+import com.admc.closet_cast.dto.RecommendDto;
+import com.admc.closet_cast.entity.ComfortModel;
+import com.admc.closet_cast.entity.Garment;
+import com.admc.closet_cast.entity.GarmentCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 학습된 체감 모델로 LLM 없이 (아우터, 상의, 하의)를 고릅니다.
+ * 카탈로그의 보온 점수 인덱스에서 보정된 체감온도에 맞는 범위만 찾고, 그중 가진 옷 중 가장 가까운 것을 고릅니다.
+ * 가진 옷 중에 허용치 안에 드는 게 없으면 null 을 돌려주고 LLM 에 맡깁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LocalRecommender {
+
+    public static final String NONE = "None";
+
+    // 이 체감온도 이상이면 아우터 없이
+    private static final double NO_OUTER_ABOVE = 22.0;
+
+    private final ComfortProperties properties;
+    private final GarmentCatalog garmentCatalog;
+
+    /**
+     * 모델을 믿을 만큼 피드백이 쌓였는지
+     */
+    public boolean isConfident(ComfortModel model) {
+        return model != null && model.isConfident(properties.getMinSamples(), properties.getMaxError());
+    }
+
+    /**
+     * @param owned 가진 옷 (garment.code)
+     * @return 추천 조합. 자신 없으면 null
+     */
+    public RecommendDto recommend(ComfortModel model, Collection<String> owned, double maxFeel, double minFeel) {
+        GarmentIndex catalog = garmentCatalog.current();
+        double comfortTemp = (maxFeel + minFeel) / 2 - model.getOffset();
+
+        String outer = NONE;
+        if (comfortTemp < NO_OUTER_ABOVE) {
+            Garment pick = pick(catalog, GarmentCategory.OUTER, model, owned, comfortTemp);
+            if (pick == null) {
+                return null;
+            }
+            outer = pick.getCode();
+        }
+        Garment top = pick(catalog, GarmentCategory.TOP, model, owned, comfortTemp);
+        Garment bottom = pick(catalog, GarmentCategory.BOTTOM, model, owned, comfortTemp);
+        if (top == null || bottom == null) {
+            return null;
+        }
+        return RecommendDto.of(outer, top.getCode(), bottom.getCode());
+    }
+
+    // 보정된 보온 점수 (덜 따뜻했던 옷은 점수를 낮춤)
+    static double effectiveWarmth(Garment garment, ComfortModel model) {
+        return garment.getWarmth() + model.clothAdjustment(garment);
+    }
+
+    private Garment pick(GarmentIndex catalog, GarmentCategory category, ComfortModel model,
+                         Collection<String> owned, double comfortTemp) {
+        double target = catalog.clampWarmth(category, GarmentIndex.requiredWarmth(comfortTemp));
+        double tolerance = properties.getTolerance();
+        // 보정값만큼 넓혀서 찾은 뒤 정확한 거리로 다시 거름
+        double slack = tolerance + model.maxClothAdjustment();
+
+        Garment best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (Garment garment : catalog.warmthBetween(category, target - slack, target + slack)) {
+            if (!owned.contains(garment.getCode())) {
+                continue;
+            }
+            double distance = Math.abs(effectiveWarmth(garment, model) - target);
+            if (distance < bestDistance) {
+                best = garment;
+                bestDistance = distance;
+            }
+        }
+        return bestDistance <= tolerance ? best : null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.admc.closet_cast.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 노드별 로컬 캐시 (spring.cache.caffeine.spec 으로 크기/만료 설정)
+ * 다른 노드에서 바뀐 값은 change_event 아웃박스를 통해 무효화됩니다. (CacheInvalidator)
+ * 노드 사이에 공유하는 캐시(예보, GPT 추천)는 TieredCache 를 씁니다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 회원 프로필 (MemberDto, key: 회원 id)
+    public static final String MEMBERS = "members";
+}
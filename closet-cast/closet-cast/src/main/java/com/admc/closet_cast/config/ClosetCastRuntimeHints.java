@@ -0,0 +1,120 @@
+package com.admc.closet_cast.config;
+
+import com.admc.closet_cast.apiPayload.ApiResponse;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.MappedSuperclass;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 네이티브 이미지용 리플렉션/리소스 힌트.
+ * 컨트롤러 반환 타입은 스프링이 알아서 등록하지만, 제네릭 안쪽 DTO, WebClient 로 주고받는 private record,
+ * JJWT 가 이름으로 로딩하는 구현 클래스는 직접 알려줘야 함. AOT 처리(빌드 시점)에 한 번 실행됨.
+ */
+public class ClosetCastRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String BASE_PACKAGE = "com.admc.closet_cast";
+
+    // OpenAI 요청/응답 (RecommendService 안의 private record)
+    private static final List<String> OPENAI_PAYLOADS = List.of(
+            BASE_PACKAGE + ".service.RecommendService$ChatRequest",
+            BASE_PACKAGE + ".service.RecommendService$ChatMessage",
+            BASE_PACKAGE + ".service.RecommendService$ChatResponse",
+            BASE_PACKAGE + ".service.RecommendService$Choice",
+            BASE_PACKAGE + ".service.RecommendService$Usage"
+    );
+
+    // jjwt 0.11.x 는 api 모듈에서 impl 클래스를 Classes.newInstance(이름) 으로 생성함
+    private static final List<String> JJWT_IMPL = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    );
+
+    // datasource-proxy(쿼리 집계)가 JDBC 객체마다 만드는 JDK 프록시 인터페이스
+    private static final String PROXY_JDBC_OBJECT = "net.ttddyy.dsproxy.proxy.ProxyJdbcObject";
+    private static final List<String> JDBC_PROXIED = List.of(
+            "java.sql.Connection",
+            "java.sql.Statement",
+            "java.sql.PreparedStatement",
+            "java.sql.CallableStatement",
+            "java.sql.ResultSet"
+    );
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Lombok DTO: getter/생성자 기반 Jackson 바인딩
+        for (Class<?> dto : scan(classLoader, BASE_PACKAGE + ".dto", new RegexPatternTypeFilter(Pattern.compile(".*")))) {
+            bindingRegistrar.registerReflectionHints(hints.reflection(), dto);
+        }
+        bindingRegistrar.registerReflectionHints(hints.reflection(), ApiResponse.class);
+
+        for (String name : OPENAI_PAYLOADS) {
+            bindingRegistrar.registerReflectionHints(hints.reflection(), ClassUtils.resolveClassName(name, classLoader));
+        }
+
+        // 엔티티: Hibernate 가 필드 접근 + protected 기본 생성자로 프록시/인스턴스 생성
+        for (Class<?> entity : scan(classLoader, BASE_PACKAGE + ".entity",
+                new AnnotationTypeFilter(Entity.class),
+                new AnnotationTypeFilter(MappedSuperclass.class),
+                new AnnotationTypeFilter(Embeddable.class))) {
+            hints.reflection().registerType(entity,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        for (String name : JJWT_IMPL) {
+            hints.reflection().registerTypeIfPresent(classLoader, name,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+        if (ClassUtils.isPresent(PROXY_JDBC_OBJECT, classLoader)) {
+            for (String name : JDBC_PROXIED) {
+                hints.proxies().registerJdkProxy(TypeReference.of(PROXY_JDBC_OBJECT), TypeReference.of(name));
+            }
+        }
+    }
+
+    private static List<Class<?>> scan(ClassLoader classLoader, String basePackage,
+                                       TypeFilter... filters) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition definition) {
+                return definition.getMetadata().isIndependent(); // 추상 클래스(BaseEntity), static 중첩 클래스도 포함
+            }
+        };
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        for (TypeFilter filter : filters) {
+            scanner.addIncludeFilter(filter);
+        }
+        return scanner.findCandidateComponents(basePackage).stream()
+                .map(BeanDefinition::getBeanClassName)
+                .<Class<?>>map(name -> ClassUtils.resolveClassName(name, classLoader))
+                .toList();
+    }
+}
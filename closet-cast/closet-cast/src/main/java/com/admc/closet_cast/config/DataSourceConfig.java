@@ -0,0 +1,96 @@
+package com.admc.closet_cast.config;
+
+import com.admc.closet_cast.datasource.DataSourceRole;
+import com.admc.closet_cast.datasource.ReadWriteRoutingDataSource;
+import com.admc.closet_cast.datasource.ReadYourWritesTracker;
+import com.admc.closet_cast.datasource.ReplicaLagMonitor;
+import com.admc.closet_cast.datasource.ReplicaProperties;
+import com.admc.closet_cast.datasource.RoutingSubjectInterceptor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * datasource.replica.enabled=true 일 때 primary/replica 두 개의 Hikari 풀을 만들고
+ * readOnly 트랜잭션을 복제본으로 보내는 DataSource 를 기본 DataSource 로 등록합니다.
+ * 경로에 memberId 가 있는 API 는 그 회원 기준으로 read-your-writes 를 판단합니다. (RoutingSubjectInterceptor)
+ * 풀 이름(primary, replica)이 hikaricp.* 지표의 pool 태그가 됩니다.
+ * 꺼져 있으면 스프링 부트 기본 DataSource 를 그대로 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaProperties replica, DataSourceProperties primary) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(replica.getUrl())
+                .username(replica.getUsername() != null ? replica.getUsername() : primary.determineUsername())
+                .password(replica.getPassword() != null ? replica.getPassword() : primary.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties properties) {
+        return new ReadYourWritesTracker(properties);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") HikariDataSource replica,
+                                               ReplicaProperties properties, MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replica, properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                 @Qualifier("replicaDataSource") HikariDataSource replica,
+                                 ReadYourWritesTracker tracker, ReplicaLagMonitor lagMonitor,
+                                 MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica),
+                tracker, lagMonitor, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    // 경로의 memberId 를 read-your-writes 키로
+    @Bean
+    public WebMvcConfigurer routingSubjectConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new RoutingSubjectInterceptor()).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.admc.closet_cast.config;
+
+import com.admc.closet_cast.client.HttpClientProperties;
+import com.admc.closet_cast.client.InstrumentedConnectionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.HttpComponentsClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.URI;
+
+/**
+ * 외부 API(기상청, OpenAI) 호출에 공통으로 쓰는 HTTP 클라이언트
+ * 하나의 커넥션 풀(keep-alive, 호스트별 한도, 가능하면 HTTP/2)을 공유합니다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Bean
+    public InstrumentedConnectionManager httpConnectionManager(HttpClientProperties properties, MeterRegistry meterRegistry) {
+        PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxTotal())
+                .setMaxConnPerRoute(properties.getMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .setTimeToLive(TimeValue.of(properties.getTimeToLive()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .setDefaultTlsConfig(TlsConfig.custom()
+                        .setVersionPolicy(properties.isHttp2() ? HttpVersionPolicy.NEGOTIATE : HttpVersionPolicy.FORCE_HTTP_1)
+                        .build())
+                .build();
+
+        properties.getMaxPerHost().forEach((url, max) ->
+                connectionManager.setMaxPerRoute(routeOf(url), max));
+
+        return new InstrumentedConnectionManager(connectionManager, meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient httpAsyncClient(InstrumentedConnectionManager connectionManager, HttpClientProperties properties) {
+        CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .setConnectionKeepAlive(TimeValue.of(properties.getKeepAlive()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getEvictIdle()))
+                .build();
+        client.start();
+        return client;
+    }
+
+    @Bean
+    public WebClient kmaWebClient(WebClient.Builder builder, CloseableHttpAsyncClient httpAsyncClient,
+                                  HttpClientProperties properties,
+                                  @Value("${kma.base-url:https://apihub.kma.go.kr/api/typ02/openApi/VilageFcstInfoService_2.0}") String baseUrl) {
+        return webClient(builder, httpAsyncClient, properties)
+                .baseUrl(baseUrl)
+                .build();
+    }
+
+    @Bean
+    public WebClient openAiWebClient(WebClient.Builder builder, CloseableHttpAsyncClient httpAsyncClient,
+                                     HttpClientProperties properties,
+                                     @Value("${openai.base-url:https://api.openai.com/v1}") String baseUrl,
+                                     @Value("${openai.secret-key}") String apiKey) {
+        return webClient(builder, httpAsyncClient, properties)
+                .baseUrl(baseUrl)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .build();
+    }
+
+    private WebClient.Builder webClient(WebClient.Builder builder, CloseableHttpAsyncClient httpAsyncClient, HttpClientProperties properties) {
+        int maxInMemorySize = (int) properties.getMaxResponseSize().toBytes();
+        return builder.clone()
+                .clientConnector(new HttpComponentsClientHttpConnector(httpAsyncClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxInMemorySize));
+    }
+
+    private static HttpRoute routeOf(String url) {
+        URI uri = URI.create(url);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() > 0 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
+    }
+}
@@ -0,0 +1,22 @@
+package com.admc.closet_cast.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 리액티브 모드(closetcast.web.mode=reactive) 전용 설정
+ * JPA 는 블로킹이므로 커넥션 풀 크기만큼의 전용 스케줄러에 격리합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "closetcast.web.mode", havingValue = "reactive")
+public class ReactiveConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jpaScheduler(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        return Schedulers.newBoundedElastic(poolSize, 10_000, "jpa");
+    }
+}
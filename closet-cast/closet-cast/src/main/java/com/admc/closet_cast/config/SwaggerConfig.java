@@ -6,10 +6,13 @@ import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+// -PnoSwagger 로 빌드하면 springdoc 이 빠지므로 이 설정도 같이 빠짐
 @Configuration
+@ConditionalOnClass(name = "org.springdoc.core.configuration.SpringDocConfiguration")
 public class SwaggerConfig {
 
     @Bean
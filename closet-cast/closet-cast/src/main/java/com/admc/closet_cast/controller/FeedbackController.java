@@ -0,0 +1,25 @@
+package com.admc.closet_cast.controller;
+
+import com.admc.closet_cast.apiPayload.ApiResponse;
+import com.admc.closet_cast.dto.FeedbackRequestDto;
+import com.admc.closet_cast.service.RecommendHistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/recommend")
+@RequiredArgsConstructor
+public class FeedbackController {
+
+    private final RecommendHistoryService recommendHistoryService;
+
+    @Operation(summary = "추천 피드백", description = "추천받은 옷에 대한 피드백(TOO_COLD, TOO_HOT, LIKED)을 남깁니다. 추천 하나에 한 번만 반영됩니다.")
+    @PostMapping("/{memberId}/feedback")
+    public ResponseEntity<ApiResponse<Void>> feedback(@PathVariable("memberId") Long memberId,
+                                                      @RequestBody FeedbackRequestDto feedbackRequestDto) {
+        recommendHistoryService.recordFeedback(memberId, feedbackRequestDto);
+        return ResponseEntity.ok(ApiResponse.onSuccess(null));
+    }
+}
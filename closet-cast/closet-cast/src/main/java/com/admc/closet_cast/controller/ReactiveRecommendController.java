@@ -0,0 +1,36 @@
+package com.admc.closet_cast.controller;
+
+import com.admc.closet_cast.admission.AdmissionController;
+import com.admc.closet_cast.admission.Priority;
+import com.admc.closet_cast.apiPayload.ApiResponse;
+import com.admc.closet_cast.dto.RecommendDto;
+import com.admc.closet_cast.service.ReactiveRecommendService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/recommend")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "closetcast.web.mode", havingValue = "reactive")
+public class ReactiveRecommendController {
+
+    private final ReactiveRecommendService recommendService;
+    private final AdmissionController admissionController;
+
+    @Operation(summary = "옷 추천 받기", description = "LLM으로부터 옷 추천을 받아옵니다.")
+    @GetMapping("/{memberId}")
+    public Mono<ResponseEntity<ApiResponse<RecommendDto>>> getRecommend(
+            @PathVariable("memberId") Long memberId,
+            @RequestHeader(value = "X-Request-Priority", required = false) String priority,
+            @RequestHeader(value = "X-Request-Deadline", required = false) Long deadline,
+            @RequestHeader(value = "X-Request-Timeout", required = false) Long timeout) {
+
+        long deadlineNanos = admissionController.deadlineFrom(deadline, timeout);
+        return recommendService.getReply(memberId, Priority.fromHeader(priority), deadlineNanos)
+                .map(result -> ResponseEntity.ok(ApiResponse.onSuccess(result)));
+    }
+}
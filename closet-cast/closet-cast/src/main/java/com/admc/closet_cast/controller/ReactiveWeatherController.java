@@ -0,0 +1,82 @@
+package com.admc.closet_cast.controller;
+
+import com.admc.closet_cast.dto.DailyWeatherDto;
+import com.admc.closet_cast.dto.WeatherDeltaDto;
+import com.admc.closet_cast.dto.WeatherWireFormat;
+import com.admc.closet_cast.service.ReactiveWeatherService;
+import com.admc.closet_cast.service.WeatherService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/weather")
+@ConditionalOnProperty(name = "closetcast.web.mode", havingValue = "reactive")
+public class ReactiveWeatherController {
+
+    private final ReactiveWeatherService weatherService;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmm");
+
+    @Scheduled(cron = "0 30 2,5,8,11,14,17,20,23 * * *", zone = "Asia/Seoul")
+    public void scheduledIngest() {
+        getWeather().subscribe(
+                response -> log.info("날씨 정보 저장 완료"),
+                e -> log.error("날씨 정보 저장 실패", e));
+    }
+
+    @Operation(summary = "날씨 정보 저장", description = "정해진 시간마다 기상청으로부터 날씨 정보를 받아옵니다.")
+    @GetMapping("/get")
+    public Mono<ResponseEntity<List<DailyWeatherDto>>> getWeather() {
+        // 현재 시각 기준 (예: 05:30이라면 time=0500)
+        LocalDateTime now = LocalDateTime.now().minusMinutes(30);
+
+        String date = now.format(WeatherService.DATE_FORMAT);
+        String time = now.format(TIME_FORMAT);
+        return weatherService.getForecast(date, time, WeatherService.NX, WeatherService.NY)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "날씨 정보 불러오기",
+            description = "최근 3일 간의 날씨 정보를 불러옵니다. Accept 가 " + WeatherWireFormat.COLUMNAR_JSON_VALUE
+                    + " 이면 열 단위 JSON, " + WeatherWireFormat.CBOR_VALUE + " 이면 같은 구조의 CBOR 로 받습니다.")
+    @GetMapping("/read")
+    public Mono<ResponseEntity<?>> readWeather(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        MediaType compact = WeatherWireFormat.select(accept);
+        return weatherService.getDailyWeather(LocalDate.now())
+                .<ResponseEntity<?>>map(days -> compact == null
+                        ? ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(days)
+                        : ResponseEntity.ok()
+                                .varyBy(HttpHeaders.ACCEPT)
+                                .contentType(compact)
+                                .body(WeatherWireFormat.write(compact, days)));
+    }
+
+    @Operation(summary = "날씨 변경분 불러오기",
+            description = "가진 예보 버전(since) 이후 바뀐 시간별/일별 값만 받습니다. 바뀐 게 없으면 304, 너무 오래된 버전이면 전체를 받습니다.")
+    @GetMapping("/delta")
+    public Mono<ResponseEntity<WeatherDeltaDto>> readWeatherDelta(@RequestParam(value = "since", required = false) Long since) {
+        return weatherService.getDelta(LocalDate.now(), since)
+                .map(delta -> delta
+                        .map(body -> ResponseEntity.ok().eTag(String.valueOf(body.version())).body(body))
+                        .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(String.valueOf(since)).build()));
+    }
+}
@@ -1,23 +1,35 @@
 package com.admc.closet_cast.controller;
 
+import com.admc.closet_cast.admission.AdmissionController;
+import com.admc.closet_cast.admission.Priority;
 import com.admc.closet_cast.apiPayload.ApiResponse;
 import com.admc.closet_cast.dto.RecommendDto;
 import com.admc.closet_cast.service.RecommendService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/api/recommend")
+@ConditionalOnProperty(name = "closetcast.web.mode", havingValue = "servlet", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RecommendController {
 
     private final RecommendService recommendService;
+    private final AdmissionController admissionController;
 
     @Operation(summary = "옷 추천 받기", description = "LLM으로부터 옷 추천을 받아옵니다.")
     @GetMapping("/{memberId}")
-    public ResponseEntity<ApiResponse<RecommendDto>> getRecommend(@PathVariable("memberId") Long memberId) throws Exception {
-        return ResponseEntity.ok(ApiResponse.onSuccess(recommendService.getReply(memberId)));
+    public ResponseEntity<ApiResponse<RecommendDto>> getRecommend(
+            @PathVariable("memberId") Long memberId,
+            @RequestHeader(value = "X-Request-Priority", required = false) String priority,
+            @RequestHeader(value = "X-Request-Deadline", required = false) Long deadline,
+            @RequestHeader(value = "X-Request-Timeout", required = false) Long timeout) throws Exception {
+
+        long deadlineNanos = admissionController.deadlineFrom(deadline, timeout);
+        RecommendDto result = recommendService.getReply(memberId, Priority.fromHeader(priority), deadlineNanos);
+        return ResponseEntity.ok(ApiResponse.onSuccess(result));
     }
 }
@@ -1,17 +1,25 @@
 package com.admc.closet_cast.controller;
 
 import com.admc.closet_cast.dto.DailyWeatherDto;
+import com.admc.closet_cast.dto.WeatherDeltaDto;
+import com.admc.closet_cast.dto.WeatherWireFormat;
 import com.admc.closet_cast.service.WeatherService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -19,12 +27,12 @@ import java.util.List;
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/weather")
+@ConditionalOnProperty(name = "closetcast.web.mode", havingValue = "servlet", matchIfMissing = true)
 @EnableScheduling
 public class WeatherController {
 
     private final WeatherService weatherService;
-    private static final int NX = 55;
-    private static final int NY = 127;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmm");
 
     @Operation(summary = "날씨 정보 저장", description = "정해진 시간마다 기상청으로부터 날씨 정보를 받아옵니다.")
     @Scheduled(cron = "0 30 2,5,8,11,14,17,20,23 * * *", zone = "Asia/Seoul")
@@ -33,16 +41,33 @@ public class WeatherController {
         // 현재 시각 기준 (예: 05:30이라면 time=0500)
         LocalDateTime now = LocalDateTime.now().minusMinutes(30);
 
-        String date = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String time = now.format(DateTimeFormatter.ofPattern("HHmm"));
-        return ResponseEntity.ok(weatherService.getForecast(date, time, NX, NY));
+        String date = now.format(WeatherService.DATE_FORMAT);
+        String time = now.format(TIME_FORMAT);
+        return ResponseEntity.ok(weatherService.getForecast(date, time, WeatherService.NX, WeatherService.NY));
     }
 
-    @Operation(summary = "날씨 정보 불러오기", description = "최근 3일 간의 날씨 정보를 불러옵니다.")
+    @Operation(summary = "날씨 정보 불러오기",
+            description = "최근 3일 간의 날씨 정보를 불러옵니다. Accept 가 " + WeatherWireFormat.COLUMNAR_JSON_VALUE
+                    + " 이면 열 단위 JSON, " + WeatherWireFormat.CBOR_VALUE + " 이면 같은 구조의 CBOR 로 받습니다.")
     @GetMapping("/read")
-    public ResponseEntity<List<DailyWeatherDto>> readWeather() {
-        LocalDateTime now = LocalDateTime.now();
-        String date = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        return ResponseEntity.ok(weatherService.getDailyWeather(date));
+    public ResponseEntity<?> readWeather(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        List<DailyWeatherDto> days = weatherService.getDailyWeather(LocalDate.now());
+        MediaType compact = WeatherWireFormat.select(accept);
+        if (compact == null) {
+            return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(days);
+        }
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(compact)
+                .body(WeatherWireFormat.write(compact, days));
+    }
+
+    @Operation(summary = "날씨 변경분 불러오기",
+            description = "가진 예보 버전(since) 이후 바뀐 시간별/일별 값만 받습니다. 바뀐 게 없으면 304, 너무 오래된 버전이면 전체를 받습니다.")
+    @GetMapping("/delta")
+    public ResponseEntity<WeatherDeltaDto> readWeatherDelta(@RequestParam(value = "since", required = false) Long since) {
+        return weatherService.getDelta(LocalDate.now(), since)
+                .map(delta -> ResponseEntity.ok().eTag(String.valueOf(delta.version())).body(delta))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(String.valueOf(since)).build());
     }
 }
@@ -0,0 +1,6 @@
+package com.admc.closet_cast.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
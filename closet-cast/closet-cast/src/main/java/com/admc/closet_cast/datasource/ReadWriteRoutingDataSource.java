@@ -0,0 +1,94 @@
+package com.admc.closet_cast.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+/**
+ * readOnly 트랜잭션은 복제본, 나머지는 primary 로 보냅니다.
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 쿼리 시점에 대상을 고르게 해야 합니다.
+ *
+ * 다음 경우에는 readOnly 라도 primary 를 사용합니다.
+ * - 같은 회원이 maxLag 안에 쓰기 트랜잭션을 커밋한 경우 (read-your-writes)
+ *   회원은 RoutingSubject(경로의 memberId 등)로, 없으면 인증 주체(loginId)로 구분합니다.
+ * - 복제 지연이 허용치를 넘었거나 복제가 멈춘 경우
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker tracker;
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final Counter readWrite;
+    private final Counter readOnly;
+    private final Counter recentWrite;
+    private final Counter replicaLagging;
+
+    public ReadWriteRoutingDataSource(Map<Object, Object> targets, ReadYourWritesTracker tracker,
+                                      ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.tracker = tracker;
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(targets.get(DataSourceRole.PRIMARY));
+
+        this.readWrite = route(meterRegistry, DataSourceRole.PRIMARY, "read_write");
+        this.readOnly = route(meterRegistry, DataSourceRole.REPLICA, "read_only");
+        this.recentWrite = route(meterRegistry, DataSourceRole.PRIMARY, "recent_write");
+        this.replicaLagging = route(meterRegistry, DataSourceRole.PRIMARY, "replica_lag");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String subject = currentSubject();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (subject != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        tracker.recordWrite(subject);
+                    }
+                });
+            }
+            readWrite.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (subject != null && tracker.wroteRecently(subject)) {
+            recentWrite.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (!lagMonitor.isHealthy()) {
+            replicaLagging.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        readOnly.increment();
+        return DataSourceRole.REPLICA;
+    }
+
+    // RoutingSubject 가 없으면 JwtFilter 가 넣어 둔 loginId. 스케줄 작업 등 둘 다 없으면 null
+    private static String currentSubject() {
+        String subject = RoutingSubject.current();
+        if (subject != null) {
+            return subject;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static Counter route(MeterRegistry meterRegistry, DataSourceRole target, String reason) {
+        return Counter.builder("datasource.route")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
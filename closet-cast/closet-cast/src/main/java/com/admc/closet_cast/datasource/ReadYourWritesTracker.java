@@ -0,0 +1,46 @@
+package com.admc.closet_cast.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 마지막 쓰기(커밋) 시각
+ * 복제가 따라오기 전에 자기 변경을 다시 읽는 경우를 primary 로 보내기 위해 사용합니다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public ReadYourWritesTracker(ReplicaProperties properties) {
+        this.windowNanos = properties.getMaxLag().toNanos();
+    }
+
+    public void recordWrite(String principal) {
+        lastWrites.put(principal, System.nanoTime());
+    }
+
+    public boolean wroteRecently(String principal) {
+        Long writtenAt = lastWrites.get(principal);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < windowNanos) {
+            return true;
+        }
+        lastWrites.remove(principal, writtenAt);
+        return false;
+    }
+
+    int size() {
+        return lastWrites.size();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.sweep-interval:PT1M}")
+    public void sweep() {
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+}
@@ -0,0 +1,81 @@
+package com.admc.closet_cast.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 복제본의 지연(Seconds_Behind_Source)을 주기적으로 확인합니다.
+ * 지연이 허용치를 넘거나 복제가 멈춘 경우 healthy=false 가 되어 읽기도 primary 로 갑니다.
+ * 조회 권한(REPLICATION CLIENT)이 없으면 한 번 경고하고 복제본을 정상으로 간주합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+
+    private volatile boolean healthy = true;
+    private volatile double lagSeconds = 0;
+    private volatile boolean unsupported = false;
+
+    public ReplicaLagMonitor(DataSource replica, ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.maxLagSeconds = Math.max(1, properties.getMaxLag().toSeconds());
+        Gauge.builder("datasource.replica.lag", this, m -> m.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.healthy", this, m -> m.healthy ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        if (unsupported) {
+            return;
+        }
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                // 복제 설정이 없는 단일 인스턴스 (로컬 개발 등)
+                update(0, true);
+                return;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            if (rs.wasNull()) {
+                update(Double.NaN, false); // 복제 스레드 중단
+            } else {
+                update(lag, lag <= maxLagSeconds);
+            }
+        } catch (SQLException e) {
+            if (e.getErrorCode() == 1227) { // ER_SPECIFIC_ACCESS_DENIED_ERROR
+                unsupported = true;
+                log.warn("복제 지연을 확인할 권한이 없어 지연 검사를 끕니다: {}", e.getMessage());
+                update(0, true);
+            } else {
+                log.warn("복제본 상태 확인 실패", e);
+                update(Double.NaN, false);
+            }
+        }
+    }
+
+    private void update(double lag, boolean ok) {
+        if (healthy != ok) {
+            log.warn("복제본 상태 변경: healthy={} lag={}s", ok, lag);
+        }
+        lagSeconds = lag;
+        healthy = ok;
+    }
+}
@@ -0,0 +1,32 @@
+package com.admc.closet_cast.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 복제본(replica) 설정. 풀 설정은 datasource.replica.hikari.* 로 따로 줍니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    private String url;
+
+    // 비어 있으면 spring.datasource 의 계정을 사용
+    private String username;
+    private String password;
+
+    // 복제 지연 허용치. 회원이 직접 쓴 뒤 이 시간 동안은 그 회원의 읽기를 primary 로 보냄
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    // SHOW REPLICA STATUS 주기. 지연이 maxLag 를 넘으면 모든 읽기를 primary 로 보냄
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+}
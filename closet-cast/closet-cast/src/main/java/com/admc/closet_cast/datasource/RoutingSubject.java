@@ -0,0 +1,48 @@
+package com.admc.closet_cast.datasource;
+
+/**
+ * read-your-writes 판단에 쓰는 "누구의 데이터인가" 키 (현재 스레드)
+ * 회원 API 는 인증 없이 경로의 memberId 로 동작하므로 JWT 주체 대신 회원 ID 를 키로 씁니다.
+ * 열린 키가 없으면 ReadWriteRoutingDataSource 는 인증 주체(loginId)를 씁니다.
+ */
+public final class RoutingSubject {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private RoutingSubject() {
+    }
+
+    public static String member(Long memberId) {
+        return "member:" + memberId;
+    }
+
+    // 닫으면 이전 키로 돌아감
+    public static Scope open(String subject) {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(subject);
+        return scope;
+    }
+
+    // 열린 키가 없으면 null
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final String previous;
+
+        private Scope(String previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
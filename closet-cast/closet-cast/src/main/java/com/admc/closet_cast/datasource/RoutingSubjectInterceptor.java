@@ -0,0 +1,48 @@
+package com.admc.closet_cast.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 경로에 {memberId} 가 있는 요청은 그 회원을 read-your-writes 키로 씁니다.
+ * 회원 수정/삭제/피드백처럼 인증 없이 memberId 로 쓰는 API 의 쓰기도 기록되어 바로 이어지는 조회가 primary 로 갑니다.
+ */
+public class RoutingSubjectInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SCOPE = RoutingSubjectInterceptor.class.getName() + ".scope";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables instanceof Map<?, ?> map && map.get("memberId") instanceof String memberId) {
+            try {
+                request.setAttribute(SCOPE, RoutingSubject.open(RoutingSubject.member(Long.valueOf(memberId))));
+            } catch (NumberFormatException e) {
+                // 컨트롤러에서 400 으로 처리됨
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        close(request);
+    }
+
+    // Mono 를 반환하는 핸들러는 요청 스레드를 먼저 돌려줌 (이후 조회는 RecommendContextLoader 가 직접 키를 엶)
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        close(request);
+    }
+
+    private static void close(HttpServletRequest request) {
+        if (request.getAttribute(SCOPE) instanceof RoutingSubject.Scope scope) {
+            request.removeAttribute(SCOPE);
+            scope.close();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.admc.closet_cast.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 하루치 예보 변경분
+ * tmx/tmn 은 바뀐 경우에만, hourly 는 바뀌거나 새로 생긴 시각만, removed 는 사라진 시각(HHmm)입니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record DailyWeatherChangeDto(
+        String date,
+        Double tmx,
+        Double tmn,
+        List<HourlyWeatherDto> hourly,
+        List<String> removed
+) {
+}
@@ -1,5 +1,6 @@
 package com.admc.closet_cast.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,7 +19,8 @@ public class DailyWeatherDto{
     private Double tmn;  // 최저기온
     private List<HourlyWeatherDto> hourlyList = new ArrayList<>();
 
-    // 체감온도 임시 저장 (시간별)
+    // 체감온도 임시 저장 (시간별). hourlyList 에 같은 값이 있으므로 응답/캐시에는 싣지 않음
+    @JsonIgnore
     private transient Map<String, Double> apparentMap = new HashMap<>();
 
     public DailyWeatherDto(String date) {
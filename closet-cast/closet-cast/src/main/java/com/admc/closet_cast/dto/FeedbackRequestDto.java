@@ -0,0 +1,10 @@
+package com.admc.closet_cast.dto;
+
+import com.admc.closet_cast.entity.FeedbackType;
+
+// 입은 옷은 요청 값이 아니라 저장된 추천 이력에서 가져옴
+public record FeedbackRequestDto(
+        String recommendationId,
+        FeedbackType feedback
+) {
+}
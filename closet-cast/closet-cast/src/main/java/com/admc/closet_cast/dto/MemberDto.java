@@ -1,6 +1,5 @@
 package com.admc.closet_cast.dto;
 
-import com.admc.closet_cast.entity.Cloth;
 import com.admc.closet_cast.entity.Preference;
 import com.admc.closet_cast.entity.Tendency;
 
@@ -12,9 +11,9 @@ public record MemberDto(
         String loginId,
         List<Preference> preference,
         List<Tendency> tendencies,
-        List<Cloth> clothes
+        List<String> clothes
 ) {
-    public static MemberDto of(Long memberId, String name, String loginId, List<Preference> preference, List<Tendency> tendencies, List<Cloth> clothes) {
+    public static MemberDto of(Long memberId, String name, String loginId, List<Preference> preference, List<Tendency> tendencies, List<String> clothes) {
         return new MemberDto(memberId, name, loginId, preference, tendencies, clothes);
     }
 }
@@ -1,6 +1,5 @@
 package com.admc.closet_cast.dto;
 
-import com.admc.closet_cast.entity.Cloth;
 import com.admc.closet_cast.entity.Preference;
 import com.admc.closet_cast.entity.Tendency;
 
@@ -11,9 +10,9 @@ public record MemberUpdateResponseDto(
         String password,
         List<Preference> preference,
         List<Tendency> tendencies,
-        List<Cloth> clothes
+        List<String> clothes
 ) {
-    public static MemberUpdateResponseDto of(Long memberId, String password, List<Preference> preference, List<Tendency> tendencies, List<Cloth> clothes) {
+    public static MemberUpdateResponseDto of(Long memberId, String password, List<Preference> preference, List<Tendency> tendencies, List<String> clothes) {
         return new MemberUpdateResponseDto(memberId, password, preference, tendencies, clothes);
     }
 }
@@ -1,16 +1,20 @@
 package com.admc.closet_cast.dto;
 
-import com.admc.closet_cast.entity.Cloth;
-import com.admc.closet_cast.entity.Tendency;
-
-import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 public record RecommendDto(
         String outer,
         String top,
-        String bottom
+        String bottom,
+        // 피드백을 보낼 때 사용하는 추천 이력 ID
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String recommendationId
 ) {
     public static RecommendDto of(String outer, String top, String bottom) {
-        return new RecommendDto(outer, top, bottom);
+        return new RecommendDto(outer, top, bottom, null);
+    }
+
+    public RecommendDto withRecommendationId(String recommendationId) {
+        return new RecommendDto(outer, top, bottom, recommendationId);
     }
 }
@@ -0,0 +1,26 @@
+package com.admc.closet_cast.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 델타 동기화 응답
+ * full=false 면 changes 만, full=true 면 (클라이언트 버전이 너무 오래됐을 때) 3일 치 전체를 days 에 담습니다.
+ * 클라이언트는 version 을 저장해 두었다가 다음 요청의 since 로 보냅니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WeatherDeltaDto(
+        long version,
+        boolean full,
+        List<DailyWeatherChangeDto> changes,
+        List<DailyWeatherDto> days
+) {
+    public static WeatherDeltaDto delta(long version, List<DailyWeatherChangeDto> changes) {
+        return new WeatherDeltaDto(version, false, changes, null);
+    }
+
+    public static WeatherDeltaDto snapshot(long version, List<DailyWeatherDto> days) {
+        return new WeatherDeltaDto(version, true, null, days);
+    }
+}
@@ -0,0 +1,135 @@
+package com.admc.closet_cast.dto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 3일 치 예보의 압축 표현
+ * 하루마다 시간별 객체 대신 평행 배열(times, temp, apparent)로 써서 필드 이름이 한 번만 나갑니다.
+ * DTO 를 다시 만들지 않고 캐시된 목록에서 바로 JsonGenerator 로 쓰며, 같은 코드로 JSON 과 CBOR 를 만듭니다.
+ * /delta 는 바뀐 시각만 보내서 이미 작고 모양(WeatherDeltaDto)도 달라서 기존 JSON 만 씁니다.
+ *
+ * [{"date":"20261019","tmx":21.0,"tmn":12.0,"times":["0000",...],"temp":[13.1,...],"apparent":[11.8,...]}, ...]
+ */
+public final class WeatherWireFormat {
+
+    public static final String COLUMNAR_JSON_VALUE = "application/vnd.closetcast.weather+json";
+    public static final MediaType COLUMNAR_JSON = MediaType.parseMediaType(COLUMNAR_JSON_VALUE);
+    public static final String CBOR_VALUE = MediaType.APPLICATION_CBOR_VALUE;
+    public static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final CBORFactory CBOR_FACTORY = new CBORFactory();
+
+    private WeatherWireFormat() {
+    }
+
+    /**
+     * Accept 헤더에서 압축 표현을 고름. 기존 JSON(application/json 이나 와일드카드)이 더 우선이면 null
+     * 명시적으로 요청한 클라이언트만 바뀌도록 produces 매핑 대신 직접 고릅니다.
+     */
+    public static MediaType select(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+        List<MediaType> types;
+        try {
+            types = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        types.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : types) {
+            if (type.getQualityValue() == 0) {
+                break;
+            }
+            if (type.equalsTypeAndSubtype(COLUMNAR_JSON)) {
+                return COLUMNAR_JSON;
+            }
+            if (type.equalsTypeAndSubtype(CBOR)) {
+                return CBOR;
+            }
+            if (type.isWildcardType() || type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    public static byte[] write(MediaType type, List<DailyWeatherDto> days) {
+        return CBOR.equalsTypeAndSubtype(type) ? toCbor(days) : toColumnarJson(days);
+    }
+
+    public static byte[] toColumnarJson(List<DailyWeatherDto> days) {
+        return write(JSON_FACTORY, days);
+    }
+
+    public static byte[] toCbor(List<DailyWeatherDto> days) {
+        return write(CBOR_FACTORY, days);
+    }
+
+    private static byte[] write(JsonFactory factory, List<DailyWeatherDto> days) {
+        // 하루 24시간 기준 대략적인 크기
+        ByteArrayOutputStream out = new ByteArrayOutputStream(days.size() * 512);
+        try (JsonGenerator gen = factory.createGenerator(out)) {
+            gen.writeStartArray();
+            for (DailyWeatherDto day : days) {
+                writeDay(gen, day);
+            }
+            gen.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeDay(JsonGenerator gen, DailyWeatherDto day) throws IOException {
+        List<HourlyWeatherDto> hours = day.getHourlyList();
+        gen.writeStartObject();
+        gen.writeStringField("date", day.getDate());
+        writeNumberField(gen, "tmx", day.getTmx());
+        writeNumberField(gen, "tmn", day.getTmn());
+
+        gen.writeArrayFieldStart("times");
+        for (HourlyWeatherDto hour : hours) {
+            gen.writeString(hour.getFcstTime());
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("temp");
+        for (HourlyWeatherDto hour : hours) {
+            writeNumber(gen, hour.getTemperature());
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("apparent");
+        for (HourlyWeatherDto hour : hours) {
+            writeNumber(gen, hour.getApparentTemp());
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    private static void writeNumberField(JsonGenerator gen, String name, Double value) throws IOException {
+        gen.writeFieldName(name);
+        writeNumber(gen, value);
+    }
+
+    // 기온은 소수 첫째 자리까지라 float 로 충분. CBOR 에서 9바이트 대신 5바이트
+    private static void writeNumber(JsonGenerator gen, Double value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.floatValue());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.admc.closet_cast.entity;
+
+/**
+ * 변경 이벤트 대상. aggregate_key 는 MEMBER 면 회원 id, WEATHER 면 "nx:ny"
+ */
+public enum ChangeAggregate {
+    MEMBER,
+    WEATHER
+}
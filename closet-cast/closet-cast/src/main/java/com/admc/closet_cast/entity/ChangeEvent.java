@@ -0,0 +1,38 @@
+package com.admc.closet_cast.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스
+ * 엔티티 변경과 같은 트랜잭션에서 저장되고, 각 노드의 ChangeEventPoller 가 id 순서로 읽어 로컬 캐시를 무효화합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "change_event", indexes = @Index(name = "idx_change_event_created_at", columnList = "created_at"))
+public class ChangeEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ChangeAggregate aggregate;
+
+    @Column(name = "aggregate_key", nullable = false, length = 64)
+    private String aggregateKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public ChangeEvent(ChangeAggregate aggregate, String aggregateKey) {
+        this.aggregate = aggregate;
+        this.aggregateKey = aggregateKey;
+        this.createdAt = LocalDateTime.now();
+    }
+}
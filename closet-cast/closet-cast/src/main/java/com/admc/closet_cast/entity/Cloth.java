@@ -1,17 +0,0 @@
-package com.admc.closet_cast.entity;
-
-public enum Cloth {
-    PUFFER_JACKET,
-    COAT,
-    FLEECE,
-    JACKET,
-    WINDBREAKER,
-    SWEATER,
-    HOODIE,
-    SHIRT,
-    LONG_SLEEVE,
-    SHORT_SLEEVE,
-    JEANS,
-    COTTON_PANTS,
-    SHORTS
-}
@@ -0,0 +1,160 @@
+package com.admc.closet_cast.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 회원별 체감 모델
+ * 피드백 한 건마다 O(1)로 갱신되고, 회원 행에 숫자 세 개와 카탈로그 항목별 1바이트로 저장됩니다.
+ *
+ * offset: 체감온도 보정(°C). 양수면 같은 날씨에 더 춥게 느낌
+ * clothAdjustments[Garment.slot]: 옷별 보온 보정 (0.5°C 단위). 음수면 생각보다 덜 따뜻함
+ * error: 최근 피드백 중 불만족(TOO_COLD/TOO_HOT) 비율의 지수이동평균 (0~1)
+ * learnedAt: 마지막으로 온라인 학습(ComfortService.learn)한 시각. 야간 재계산이 이후 학습을 덮어쓰지 않게 함
+ */
+@Getter
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ComfortModel {
+
+    public static final double CLOTH_UNIT = 0.5;
+    public static final int MAX_SLOTS = 255;
+
+    private static final double STEP = 2.0;          // 학습률 1 일 때 한 번에 움직이는 보정값(°C)
+    private static final double MIN_RATE = 0.1;      // 샘플이 쌓여도 최근 피드백을 이 정도는 반영
+    private static final double MAX_OFFSET = 10.0;
+    private static final double ERROR_ALPHA = 0.2;
+    private static final double TENDENCY_OFFSET = 2.0;
+
+    @Column(name = "comfort_offset", nullable = false)
+    private double offset;
+
+    @Column(name = "comfort_samples", nullable = false)
+    private int samples;
+
+    @Column(name = "comfort_error", nullable = false)
+    private double error = 1.0;
+
+    @Column(name = "comfort_cloth", length = MAX_SLOTS)
+    private byte[] clothAdjustments;
+
+    @Column(name = "comfort_learned_at")
+    private LocalDateTime learnedAt;
+
+    /**
+     * 피드백이 없을 때는 HOT/COLD 성향을 초기값으로 사용
+     */
+    public static ComfortModel initial(Collection<Tendency> tendencies) {
+        ComfortModel model = new ComfortModel();
+        if (tendencies != null) {
+            if (tendencies.contains(Tendency.COLD)) {
+                model.offset += TENDENCY_OFFSET;
+            }
+            if (tendencies.contains(Tendency.HOT)) {
+                model.offset -= TENDENCY_OFFSET;
+            }
+        }
+        return model;
+    }
+
+    public static ComfortModel of(double offset, int samples, double error, byte[] clothAdjustments) {
+        ComfortModel model = new ComfortModel();
+        model.offset = offset;
+        model.samples = samples;
+        model.error = error;
+        model.clothAdjustments = clothAdjustments;
+        return model;
+    }
+
+    public void apply(FeedbackType feedback, Collection<Garment> worn) {
+        int direction = switch (feedback) {
+            case TOO_COLD -> 1;
+            case TOO_HOT -> -1;
+            case LIKED -> 0;
+        };
+        double rate = Math.max(MIN_RATE, 1.0 / (samples + 2));
+        offset = Math.max(-MAX_OFFSET, Math.min(MAX_OFFSET, offset + direction * STEP * rate));
+        error += ERROR_ALPHA * ((direction == 0 ? 0 : 1) - error);
+        samples++;
+
+        if (direction != 0 && worn != null && !worn.isEmpty()) {
+            byte[] adjustments = ensureAdjustments(worn);
+            for (Garment garment : worn) {
+                int slot = garment.getSlot();
+                if (slot < 0 || slot >= MAX_SLOTS) {
+                    continue;
+                }
+                int value = adjustments[slot] - direction; // 추웠으면 그 옷은 덜 따뜻한 것
+                adjustments[slot] = (byte) Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, value));
+            }
+            clothAdjustments = adjustments;
+        }
+    }
+
+    public void markLearned(LocalDateTime at) {
+        this.learnedAt = at;
+    }
+
+    // 옷별 보온 보정(°C)
+    public double clothAdjustment(Garment garment) {
+        int slot = garment.getSlot();
+        if (clothAdjustments == null || slot < 0 || slot >= clothAdjustments.length) {
+            return 0;
+        }
+        return clothAdjustments[slot] * CLOTH_UNIT;
+    }
+
+    // 가장 크게 보정된 옷의 보정값(°C). 범위 조회를 이만큼 넓혀야 보정된 옷을 놓치지 않음
+    public double maxClothAdjustment() {
+        int max = 0;
+        if (clothAdjustments != null) {
+            for (byte adjustment : clothAdjustments) {
+                max = Math.max(max, Math.abs(adjustment));
+            }
+        }
+        return max * CLOTH_UNIT;
+    }
+
+    public boolean isConfident(int minSamples, double maxError) {
+        return samples >= minSamples && error <= maxError;
+    }
+
+    public void replaceWith(ComfortModel other) {
+        this.offset = other.offset;
+        this.samples = other.samples;
+        this.error = other.error;
+        this.clothAdjustments = other.clothAdjustments == null ? null : other.clothAdjustments.clone();
+    }
+
+    // 트랜잭션 밖에서 쓰기 위한 복사본
+    public ComfortModel copy() {
+        ComfortModel copy = of(offset, samples, error, clothAdjustments == null ? null : clothAdjustments.clone());
+        copy.learnedAt = learnedAt;
+        return copy;
+    }
+
+    private byte[] ensureAdjustments(Collection<Garment> worn) {
+        int size = clothAdjustments == null ? 0 : clothAdjustments.length;
+        for (Garment garment : worn) {
+            size = Math.max(size, Math.min(MAX_SLOTS, garment.getSlot() + 1));
+        }
+        if (clothAdjustments == null) {
+            return new byte[size];
+        }
+        return Arrays.copyOf(clothAdjustments, size);
+    }
+
+    @Override
+    public String toString() {
+        return "ComfortModel{offset=" + offset + ", samples=" + samples + ", error=" + error
+                + ", cloth=" + (clothAdjustments == null ? List.of() : Arrays.toString(clothAdjustments)) + "}";
+    }
+}
@@ -0,0 +1,7 @@
+package com.admc.closet_cast.entity;
+
+public enum FeedbackType {
+    TOO_COLD,
+    TOO_HOT,
+    LIKED
+}
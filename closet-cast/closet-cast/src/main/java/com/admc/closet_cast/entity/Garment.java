@@ -0,0 +1,61 @@
+package com.admc.closet_cast.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 의상 카탈로그 항목
+ * 회원 옷장(member_garments)은 code 로 이 테이블을 참조합니다.
+ *
+ * warmth: 보온 점수. 이 옷이 딱 맞는 체감온도가 (30 - warmth)°C 가 되도록 잡습니다. (GarmentIndex.requiredWarmth)
+ * slot: 회원 체감 모델(ComfortModel)의 옷별 보정 바이트 위치. 한 번 정하면 바꾸지 않습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "garment", uniqueConstraints = @UniqueConstraint(
+        name = "uk_garment_slot", columnNames = "slot"))
+public class Garment {
+    @Id
+    @Column(length = 50)
+    private String code;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private GarmentCategory category;
+
+    @Column(nullable = false)
+    private double warmth;
+
+    @Column(nullable = false)
+    private boolean rainProof;
+
+    @Column(nullable = false)
+    private boolean windProof;
+
+    @Column(nullable = false)
+    private int slot;
+
+    // 더 이상 고를 수 없는 항목. 이미 가진 회원의 옷장에는 남음
+    @Column(nullable = false)
+    private boolean active;
+
+    @Builder
+    public Garment(String code, String name, GarmentCategory category, double warmth,
+                   boolean rainProof, boolean windProof, int slot, boolean active) {
+        this.code = code;
+        this.name = name;
+        this.category = category;
+        this.warmth = warmth;
+        this.rainProof = rainProof;
+        this.windProof = windProof;
+        this.slot = slot;
+        this.active = active;
+    }
+}
@@ -0,0 +1,7 @@
+package com.admc.closet_cast.entity;
+
+public enum GarmentCategory {
+    OUTER,
+    TOP,
+    BOTTOM
+}
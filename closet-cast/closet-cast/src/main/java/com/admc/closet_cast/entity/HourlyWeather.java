@@ -7,7 +7,8 @@ import lombok.*;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "hourly_weather")
+@Table(name = "hourly_weather", uniqueConstraints = @UniqueConstraint(
+        name = "uk_hourly_weather_time", columnNames = {"weather_id", "fcst_time"}))
 public class HourlyWeather {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -4,13 +4,13 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "member")
+@Table(name = "member", uniqueConstraints = @UniqueConstraint(
+        name = "uk_member_login_id", columnNames = "login_id"))
 public class Member extends BaseEntity{
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -47,24 +47,33 @@ public class Member extends BaseEntity{
     @Enumerated(EnumType.STRING)
     private List<Tendency> tendencies;
 
+    // 가진 옷 (garment.code)
     @Setter
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(
-            name = "member_clothes",
+            name = "member_garments",
             joinColumns = @JoinColumn(name = "member_id")
     )
-    @Column(name = "cloth")
-    @Enumerated(EnumType.STRING)
-    private List<Cloth> clothes;
+    @Column(name = "garment_code", length = 50)
+    private List<String> garments;
+
+    // 피드백으로 학습한 체감 모델
+    @Embedded
+    private ComfortModel comfort;
 
     @Builder
-    public Member(String name, String loginId, String password, List<Preference> preference, List<Tendency> tendencies) {
+    public Member(String name, String loginId, String password, List<Preference> preference, List<Tendency> tendencies, List<String> garments) {
         this.name = name;
         this.loginId = loginId;
         this.password = password;
         this.preferences = preference;
         this.tendencies = tendencies;
-        this.clothes = new ArrayList<>();
-        Collections.addAll(this.clothes, Cloth.values());
+        this.garments = garments == null ? new ArrayList<>() : new ArrayList<>(garments);
+        this.comfort = ComfortModel.initial(tendencies);
+    }
+
+    // 피드백 없이 성향만으로 다시 시작
+    public void resetComfort() {
+        this.comfort = ComfortModel.initial(tendencies);
     }
 }
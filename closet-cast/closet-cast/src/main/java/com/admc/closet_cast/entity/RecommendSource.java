@@ -0,0 +1,7 @@
+package com.admc.closet_cast.entity;
+
+// 추천을 만든 곳
+public enum RecommendSource {
+    LLM,
+    LOCAL   // 학습된 체감 모델로 로컬에서 고른 추천
+}
@@ -0,0 +1,40 @@
+package com.admc.closet_cast.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천에 대한 피드백 (조회 전용, 저장은 HistoryWriter)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "recommendation_feedback",
+        indexes = @Index(name = "idx_feedback_member", columnList = "member_id, created_at"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_feedback_recommendation", columnNames = "recommendation_id"))
+public class RecommendationFeedback {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recommendation_id", nullable = false, length = 36)
+    private String recommendationId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FeedbackType feedback;
+
+    private String outerItem;
+    private String topItem;
+    private String bottomItem;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
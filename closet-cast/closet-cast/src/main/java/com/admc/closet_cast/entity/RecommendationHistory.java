@@ -0,0 +1,47 @@
+package com.admc.closet_cast.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 추천 이력 (조회 전용)
+ * 저장은 HistoryWriter 가 JDBC 배치로 하므로 ID(UUID)는 애플리케이션에서 만듭니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "recommendation_history", indexes = @Index(
+        name = "idx_history_member_date", columnList = "member_id, recommend_date"))
+public class RecommendationHistory {
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "recommend_date", nullable = false)
+    private LocalDate recommendDate;
+
+    // 추천 당시 날씨
+    private Double tmx;
+    private Double tmn;
+    private Double maxFeel;
+    private Double minFeel;
+
+    private String outerItem;
+    private String topItem;
+    private String bottomItem;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecommendSource source;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -3,20 +3,32 @@ package com.admc.closet_cast.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "weather")
+@Table(name = "weather", uniqueConstraints = @UniqueConstraint(
+        name = "uk_weather_grid_date", columnNames = {"nx", "ny", "forecast_date"}))
 public class Weather {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 기상청 격자 좌표
     @Setter
-    private String date;   // yyyyMMdd
+    @Column(nullable = false)
+    private int nx;
+
+    @Setter
+    @Column(nullable = false)
+    private int ny;
+
+    @Setter
+    @Column(name = "forecast_date", nullable = false)
+    private LocalDate date;
 
     @Setter
     private Double tmx;    // 최고기온
@@ -27,8 +39,22 @@ public class Weather {
     @OneToMany(mappedBy = "weather", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<HourlyWeather> hourlyList = new ArrayList<>();
 
+    // 시간별 예보 요약. 시간별 행을 고칠 때마다 refreshSummary() 로 다시 계산
+    @Embedded
+    private WeatherSummary summary;
+
     public void addHourly(HourlyWeather hour) {
         hourlyList.add(hour);
         hour.setWeather(this);
     }
+
+    // hourlyList 를 읽으므로 아직 안 읽었으면 시간별 행 조회가 한 번 나감
+    public void refreshSummary() {
+        summary = WeatherSummary.of(hourlyList);
+    }
+
+    // 요약 컬럼이 모두 null 이면 Hibernate 가 null 로 채움
+    public WeatherSummary getSummary() {
+        return summary != null ? summary : WeatherSummary.EMPTY;
+    }
 }
@@ -0,0 +1,129 @@
+package com.admc.closet_cast.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 하루치 시간별 예보의 요약. 수집할 때 계산해서 weather 행에 같이 저장합니다.
+ * 추천은 시간별 행을 읽지 않고 이 값만 씁니다.
+ *
+ * maxTemp/minTemp: 시간별 기온의 최고/최저 (기상청 일 최고/최저 tmx/tmn 과는 발표 시각에 따라 다를 수 있음)
+ * maxFeel/minFeel: 시간별 체감온도의 최고/최저. 풍속이 없어 체감온도가 비어 있는 시각은 기온으로 대신함
+ * morningFeel/afternoonFeel/eveningFeel: 06~12시, 12~18시, 18~24시 체감온도 평균
+ * 시간별 예보가 없으면 모두 null
+ */
+@Getter
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WeatherSummary {
+
+    public static final WeatherSummary EMPTY = new WeatherSummary();
+
+    // 시간대 시작 시각 (fcstTime 의 시)
+    public static final int MORNING_FROM = 6;
+    public static final int AFTERNOON_FROM = 12;
+    public static final int EVENING_FROM = 18;
+
+    @Column(name = "max_temp")
+    private Double maxTemp;
+
+    @Column(name = "min_temp")
+    private Double minTemp;
+
+    @Column(name = "max_feel")
+    private Double maxFeel;
+
+    @Column(name = "min_feel")
+    private Double minFeel;
+
+    @Column(name = "morning_feel")
+    private Double morningFeel;
+
+    @Column(name = "afternoon_feel")
+    private Double afternoonFeel;
+
+    @Column(name = "evening_feel")
+    private Double eveningFeel;
+
+    public static WeatherSummary of(Iterable<HourlyWeather> hours) {
+        Accumulator accumulator = new Accumulator();
+        for (HourlyWeather hour : hours) {
+            accumulator.add(hour.getFcstTime(), hour.getTemperature(), hour.getApparentTemp());
+        }
+        return accumulator.build();
+    }
+
+    /**
+     * 시간별 값을 하나씩 넣어서 요약을 만듦 (엔티티 없이 JDBC 로 읽은 행에도 사용)
+     */
+    public static final class Accumulator {
+
+        private double maxTemp = Double.NEGATIVE_INFINITY;
+        private double minTemp = Double.POSITIVE_INFINITY;
+        private double maxFeel = Double.NEGATIVE_INFINITY;
+        private double minFeel = Double.POSITIVE_INFINITY;
+        private final double[] windowSum = new double[3];
+        private final int[] windowCount = new int[3];
+
+        public Accumulator add(String fcstTime, Double temperature, Double apparentTemp) {
+            if (temperature != null) {
+                maxTemp = Math.max(maxTemp, temperature);
+                minTemp = Math.min(minTemp, temperature);
+            }
+            Double feel = apparentTemp != null ? apparentTemp : temperature;
+            if (feel == null) {
+                return this;
+            }
+            maxFeel = Math.max(maxFeel, feel);
+            minFeel = Math.min(minFeel, feel);
+            int window = window(fcstTime);
+            if (window >= 0) {
+                windowSum[window] += feel;
+                windowCount[window]++;
+            }
+            return this;
+        }
+
+        public WeatherSummary build() {
+            WeatherSummary summary = new WeatherSummary();
+            summary.maxTemp = finite(maxTemp);
+            summary.minTemp = finite(minTemp);
+            summary.maxFeel = finite(maxFeel);
+            summary.minFeel = finite(minFeel);
+            summary.morningFeel = average(0);
+            summary.afternoonFeel = average(1);
+            summary.eveningFeel = average(2);
+            return summary;
+        }
+
+        private Double average(int window) {
+            if (windowCount[window] == 0) {
+                return null;
+            }
+            return Math.round(windowSum[window] / windowCount[window] * 10) / 10.0;
+        }
+
+        // 0: 오전, 1: 오후, 2: 저녁, -1: 새벽(0~6시) 또는 형식이 다른 시각
+        private static int window(String fcstTime) {
+            if (fcstTime == null || fcstTime.length() < 2
+                    || !Character.isDigit(fcstTime.charAt(0)) || !Character.isDigit(fcstTime.charAt(1))) {
+                return -1;
+            }
+            int hour = (fcstTime.charAt(0) - '0') * 10 + (fcstTime.charAt(1) - '0');
+            if (hour < MORNING_FROM || hour >= 24) {
+                return -1;
+            }
+            if (hour < AFTERNOON_FROM) {
+                return 0;
+            }
+            return hour < EVENING_FROM ? 1 : 2;
+        }
+
+        private static Double finite(double value) {
+            return Double.isInfinite(value) ? null : value;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.admc.closet_cast.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 격자별 예보 버전
+ * 저장할 때 실제로 바뀐 값이 있으면 1씩 올립니다. 클라이언트는 이 값으로 델타 동기화를 요청합니다.
+ */
+@Entity
+@Getter
+@IdClass(WeatherVersion.Grid.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "weather_version")
+public class WeatherVersion {
+    @Id
+    private int nx;
+
+    @Id
+    private int ny;
+
+    @Column(nullable = false)
+    private long version;
+
+    public WeatherVersion(int nx, int ny) {
+        this.nx = nx;
+        this.ny = ny;
+    }
+
+    public long increment() {
+        return ++version;
+    }
+
+    // 복합 키 (nx, ny)
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Grid implements Serializable {
+        private int nx;
+        private int ny;
+    }
+}
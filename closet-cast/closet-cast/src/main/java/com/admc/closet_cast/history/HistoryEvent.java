@@ -0,0 +1,28 @@
+package com.admc.closet_cast.history;
+
+import com.admc.closet_cast.entity.RecommendSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 쓰기 버퍼에 쌓이는 항목
+ */
+public sealed interface HistoryEvent {
+
+    record Recommendation(
+            String id,
+            Long memberId,
+            LocalDate recommendDate,
+            Double tmx,
+            Double tmn,
+            Double maxFeel,
+            Double minFeel,
+            String outer,
+            String top,
+            String bottom,
+            RecommendSource source,
+            LocalDateTime createdAt
+    ) implements HistoryEvent {
+    }
+}
@@ -0,0 +1,30 @@
+package com.admc.closet_cast.history;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "history")
+public class HistoryProperties {
+
+    // 버퍼 최대 건수. 가득 차면 요청을 기다리게 하지 않고 버림 (history.dropped)
+    private int capacity = 10_000;
+
+    // 한 번에 묶어서 insert 할 최대 건수
+    private int batchSize = 500;
+
+    // 배치가 차지 않아도 이 간격으로 저장
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    // 배치 저장 실패 시 재시도 횟수
+    private int maxAttempts = 3;
+
+    // 종료 시 남은 버퍼를 비우는 데 기다리는 최대 시간
+    private Duration drainTimeout = Duration.ofSeconds(30);
+}
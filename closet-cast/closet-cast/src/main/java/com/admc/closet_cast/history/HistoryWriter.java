@@ -0,0 +1,207 @@
+package com.admc.closet_cast.history;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 이력 write-behind 버퍼
+ * (피드백은 검증과 중복 제거가 필요해서 RecommendHistoryService 가 바로 저장)
+ * 요청 스레드는 큐에 넣기만 하고, 전용 스레드가 모아서 JDBC 배치로 저장합니다.
+ * 큐 크기를 제한해서 DB 장애 시에도 메모리가 무한히 늘지 않고, 종료 시에는 남은 항목을 모두 저장한 뒤 멈춥니다.
+ */
+@Slf4j
+@Component
+public class HistoryWriter implements SmartLifecycle {
+
+    private static final String INSERT_RECOMMENDATION = """
+            INSERT INTO recommendation_history
+                (id, member_id, recommend_date, tmx, tmn, max_feel, min_feel,
+                 outer_item, top_item, bottom_item, source, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private final HistoryProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<HistoryEvent> queue;
+
+    private final Counter dropped;
+    private final Counter failed;
+    private final Timer flushTimer;
+    private final DistributionSummary batchSize;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public HistoryWriter(HistoryProperties properties, JdbcTemplate jdbcTemplate,
+                         TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(properties.getCapacity());
+
+        Gauge.builder("history.buffer.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        this.dropped = Counter.builder("history.dropped")
+                .description("History events dropped because the buffer was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("history.write.failed")
+                .description("History events lost after all write attempts failed")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("history.flush")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("history.flush.batch")
+                .baseUnit("rows")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 경로에서 호출. 절대 기다리지 않습니다.
+     */
+    public boolean offer(HistoryEvent event) {
+        boolean accepted = queue.offer(event);
+        if (!accepted) {
+            dropped.increment();
+        }
+        return accepted;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform()
+                .name("history-writer")
+                .start(this::flushLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join(properties.getDrainTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            log.error("추천 이력 버퍼를 {} 안에 비우지 못함 (남은 {}건)", properties.getDrainTimeout(), queue.size());
+            return;
+        }
+        // 멈추는 사이에 들어온 항목
+        drainOnce();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버가 요청을 다 처리하고 멈춘 뒤, DataSource 가 닫히기 전에 비움
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void flushLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                HistoryEvent first = queue.poll(properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<HistoryEvent> batch = new ArrayList<>(properties.getBatchSize());
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // 종료 중에도 남은 항목은 계속 저장
+            } catch (RuntimeException e) {
+                log.error("추천 이력 저장 스레드 오류", e);
+            }
+        }
+    }
+
+    private void drainOnce() {
+        List<HistoryEvent> batch = new ArrayList<>();
+        queue.drainTo(batch);
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<HistoryEvent> batch) {
+        List<HistoryEvent.Recommendation> recommendations = new ArrayList<>(batch.size());
+        for (HistoryEvent event : batch) {
+            switch (event) {
+                case HistoryEvent.Recommendation r -> recommendations.add(r);
+            }
+        }
+
+        long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(INSERT_RECOMMENDATION, recommendations, recommendations.size(), HistoryWriter::bindRecommendation));
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                batchSize.record(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    failed.increment(batch.size());
+                    log.error("추천 이력 {}건 저장 실패", batch.size(), e);
+                    return;
+                }
+                log.warn("추천 이력 저장 재시도 ({}/{}): {}", attempt, properties.getMaxAttempts(), e.toString());
+                sleep(200L * attempt);
+            }
+        }
+    }
+
+    private static void bindRecommendation(PreparedStatement ps, HistoryEvent.Recommendation r) throws SQLException {
+        ps.setString(1, r.id());
+        ps.setLong(2, r.memberId());
+        ps.setDate(3, Date.valueOf(r.recommendDate()));
+        setDouble(ps, 4, r.tmx());
+        setDouble(ps, 5, r.tmn());
+        setDouble(ps, 6, r.maxFeel());
+        setDouble(ps, 7, r.minFeel());
+        ps.setString(8, r.outer());
+        ps.setString(9, r.top());
+        ps.setString(10, r.bottom());
+        ps.setString(11, r.source().name());
+        ps.setTimestamp(12, Timestamp.valueOf(r.createdAt()));
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.DOUBLE);
+        } else {
+            ps.setDouble(index, value);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.admc.closet_cast.ingest;
+
+import com.admc.closet_cast.client.KmaClient;
+import com.admc.closet_cast.metrics.IngestMetrics;
+import com.admc.closet_cast.service.WeatherService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 초단기예보 수집
+ * 정규 수집(하루 8번) 사이에 앞으로 6시간의 기온/풍속만 받아서 저장된 시간별 예보에 병합합니다.
+ * 발표 시각(매시 30분)마다 한 번만 병합하고, 같은 발표를 다시 받으면 건너뜁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "weather.nowcast.enabled", havingValue = "true", matchIfMissing = true)
+public class NowcastIngestJob {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmm");
+
+    private final KmaClient kmaClient;
+    private final WeatherService weatherService;
+    private final IngestMetrics ingestMetrics;
+
+    // 마지막으로 병합한 발표 시각 (yyyyMMddHHmm)
+    private volatile String lastMerged;
+
+    @Scheduled(cron = "${weather.nowcast.cron:0 */10 * * * *}", zone = "Asia/Seoul")
+    public void ingest() {
+        // 발표 후 약 45분부터 제공 (예: 10:50 이면 1030, 10:40 이면 0930)
+        LocalDateTime base = LocalDateTime.now(KST).minusMinutes(45)
+                .truncatedTo(ChronoUnit.HOURS)
+                .plusMinutes(30);
+        String baseDate = base.format(WeatherService.DATE_FORMAT);
+        String baseTime = base.format(TIME_FORMAT);
+        String key = baseDate + baseTime;
+        if (key.equals(lastMerged)) {
+            ingestMetrics.getNowcastSkipped().increment();
+            return;
+        }
+
+        try {
+            String json = kmaClient.getUltraSrtFcst(baseDate, baseTime, WeatherService.NX, WeatherService.NY).block();
+            int changed = weatherService.ingestNowcast(json, WeatherService.NX, WeatherService.NY);
+            if (changed < 0) {
+                return; // 아직 제공 전이면 다음 주기에 다시 받음
+            }
+            lastMerged = key;
+            log.debug("초단기예보 {} 병합: {}개 시각 변경", key, changed);
+        } catch (Exception e) {
+            log.warn("초단기예보 {} 수집 실패: {}", key, e.toString());
+        }
+    }
+}
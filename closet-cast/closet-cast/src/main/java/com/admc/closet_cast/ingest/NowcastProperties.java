@@ -0,0 +1,19 @@
+package com.admc.closet_cast.ingest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "weather.nowcast")
+public class NowcastProperties {
+
+    // 초단기예보 수집 여부
+    private boolean enabled = true;
+
+    // 수집 주기. 발표(매시 30분, 약 45분에 제공)를 놓치지 않을 만큼만 자주
+    private String cron = "0 */10 * * * *";
+}
@@ -0,0 +1,52 @@
+package com.admc.closet_cast.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기상청 예보 수집(조회, 파싱, 저장) 관련 지표
+ * 요청마다 registry 를 조회하지 않도록 미리 등록해 둡니다.
+ */
+@Getter
+@Component
+public class IngestMetrics {
+
+    private final Timer kmaFetchSuccess;
+    private final Timer kmaFetchError;
+    private final DistributionSummary kmaPayloadSize;
+    private final Timer parseTimer;
+    private final Counter parseErrors;
+    private final DistributionSummary rowsPersisted;
+    private final DistributionSummary nowcastRows;
+    private final Counter nowcastSkipped;
+
+    public IngestMetrics(MeterRegistry meterRegistry) {
+        this.kmaFetchSuccess = Timer.builder("kma.fetch")
+                .tag("outcome", "success")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.kmaFetchError = Timer.builder("kma.fetch")
+                .tag("outcome", "error")
+                .register(meterRegistry);
+        this.kmaPayloadSize = DistributionSummary.builder("kma.payload.size")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.parseTimer = Timer.builder("weather.parse")
+                .register(meterRegistry);
+        this.parseErrors = Counter.builder("weather.parse.errors")
+                .register(meterRegistry);
+        this.rowsPersisted = DistributionSummary.builder("weather.ingest.rows")
+                .baseUnit("rows")
+                .register(meterRegistry);
+        this.nowcastRows = DistributionSummary.builder("weather.nowcast.rows")
+                .baseUnit("rows")
+                .register(meterRegistry);
+        this.nowcastSkipped = Counter.builder("weather.nowcast.skipped")
+                .description("Nowcast runs skipped because the base time was already merged")
+                .register(meterRegistry);
+    }
+}
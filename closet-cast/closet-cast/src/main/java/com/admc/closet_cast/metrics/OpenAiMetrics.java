@@ -0,0 +1,70 @@
+package com.admc.closet_cast.metrics;
+
+import com.admc.closet_cast.prompt.PromptLayout;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAI 호출 지연(상태 코드별)과 토큰 사용량
+ * 토큰과 추천 한 건의 GPT 대기 시간은 프롬프트 구성(layout)별로 나눠서 두 방식을 비교할 수 있게 합니다.
+ * cached 는 prompt 중 프롬프트 캐시에서 읽은 토큰 수입니다.
+ */
+@Component
+public class OpenAiMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> latencyByStatus = new ConcurrentHashMap<>();
+    private final Map<PromptLayout, Usage> usageByLayout = new EnumMap<>(PromptLayout.class);
+
+    public OpenAiMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (PromptLayout layout : PromptLayout.values()) {
+            usageByLayout.put(layout, new Usage(
+                    tokens(meterRegistry, layout, "prompt"),
+                    tokens(meterRegistry, layout, "cached"),
+                    tokens(meterRegistry, layout, "completion"),
+                    Timer.builder("openai.completion")
+                            .tag("layout", layout.tag())
+                            .publishPercentileHistogram()
+                            .register(meterRegistry)));
+        }
+    }
+
+    // status: HTTP 상태 코드, 연결 실패 등은 "IO_ERROR"
+    public void recordLatency(String status, long nanos) {
+        latencyByStatus.computeIfAbsent(status, s -> Timer.builder("openai.request")
+                        .tag("status", s)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUsage(PromptLayout layout, int prompt, int cached, int completion) {
+        Usage usage = usageByLayout.get(layout);
+        usage.prompt().increment(prompt);
+        usage.cached().increment(cached);
+        usage.completion().increment(completion);
+    }
+
+    // 요청을 보내서 응답을 받을 때까지 (성공한 호출만)
+    public void recordCompletion(PromptLayout layout, long nanos) {
+        usageByLayout.get(layout).latency().record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Counter tokens(MeterRegistry meterRegistry, PromptLayout layout, String type) {
+        return Counter.builder("openai.tokens")
+                .tag("type", type)
+                .tag("layout", layout.tag())
+                .register(meterRegistry);
+    }
+
+    private record Usage(Counter prompt, Counter cached, Counter completion, Timer latency) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.admc.closet_cast.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천을 어디서 만들었는지 (LLM 호출 / 체감 모델 / 오늘 이력 재사용)와 LLM 응답 검증 결과
+ * recommend.context{mode}: 회원/예보/이력 조회 시간 (parallel, sequential)
+ * recommend.pre_llm: 추천 요청을 받은 뒤 GPT 호출을 시작하기까지 걸린 시간 (GPT 를 부르는 요청만)
+ */
+@Component
+public class RecommendMetrics {
+
+    private final Counter llm;
+    private final Counter local;
+    private final Counter cache;
+    private final Timer contextParallel;
+    private final Timer contextSequential;
+    private final Timer preLlm;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> replies = new ConcurrentHashMap<>();
+    private final Map<String, Counter> repairs = new ConcurrentHashMap<>();
+
+    public RecommendMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.llm = source(meterRegistry, "llm");
+        this.local = source(meterRegistry, "local");
+        this.cache = source(meterRegistry, "cache");
+        this.contextParallel = context(meterRegistry, "parallel");
+        this.contextSequential = context(meterRegistry, "sequential");
+        this.preLlm = Timer.builder("recommend.pre_llm")
+                .description("Time from receiving a recommendation request until the LLM call starts")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void context(boolean parallel, long nanos) {
+        (parallel ? contextParallel : contextSequential).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void preLlm(long nanos) {
+        preLlm.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void llm() {
+        llm.increment();
+    }
+
+    public void local() {
+        local.increment();
+    }
+
+    public void cache() {
+        cache.increment();
+    }
+
+    // outcome: valid, repaired, invalid
+    public void reply(String outcome) {
+        replies.computeIfAbsent(outcome, o -> Counter.builder("recommend.reply")
+                        .tag("outcome", o)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    // reason: unparseable, normalized, category, filled
+    public void replyRepaired(String reason) {
+        repairs.computeIfAbsent(reason, r -> Counter.builder("recommend.reply.repair")
+                        .tag("reason", r)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private static Timer context(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("recommend.context")
+                .tag("mode", mode)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter source(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("recommend.source")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
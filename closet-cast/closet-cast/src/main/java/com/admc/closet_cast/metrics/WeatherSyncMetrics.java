@@ -0,0 +1,36 @@
+package com.admc.closet_cast.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 날씨 델타 동기화 결과와 변경량
+ */
+@Getter
+@Component
+public class WeatherSyncMetrics {
+
+    private final Counter notModified;
+    private final Counter delta;
+    private final Counter snapshot;
+    private final DistributionSummary changedHours;
+
+    public WeatherSyncMetrics(MeterRegistry meterRegistry) {
+        this.notModified = result(meterRegistry, "not_modified");
+        this.delta = result(meterRegistry, "delta");
+        this.snapshot = result(meterRegistry, "snapshot");
+        this.changedHours = DistributionSummary.builder("weather.ingest.changes")
+                .description("Hourly entries inserted, updated or removed per ingest")
+                .baseUnit("rows")
+                .register(meterRegistry);
+    }
+
+    private static Counter result(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("weather.sync")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
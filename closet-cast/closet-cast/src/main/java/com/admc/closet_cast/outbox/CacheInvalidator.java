@@ -0,0 +1,41 @@
+package com.admc.closet_cast.outbox;
+
+import com.admc.closet_cast.cache.TieredCache;
+import com.admc.closet_cast.config.CacheConfig;
+import com.admc.closet_cast.entity.ChangeAggregate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * 변경 이벤트를 로컬 캐시 무효화로 바꿉니다.
+ * 값을 싣지 않고 지우기만 하므로 같은 이벤트를 여러 번, 또는 순서가 바뀌어 받아도 다음 조회가 DB 의 최신 값을 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final TieredCache tieredCache;
+
+    public void invalidate(ChangeAggregate aggregate, Collection<String> keys) {
+        switch (aggregate) {
+            case MEMBER -> {
+                Cache members = cacheManager.getCache(CacheConfig.MEMBERS);
+                if (members != null) {
+                    for (String key : keys) {
+                        members.evict(Long.valueOf(key));
+                    }
+                }
+            }
+            // 예보는 버전별 키라서 지우지 않아도 새로 읽지만, 지난 버전이 near 캐시에 남지 않게 비움
+            case WEATHER -> tieredCache.invalidateNear(TieredCache.FORECAST);
+        }
+        log.debug("{} 캐시 무효화: {}", aggregate, keys);
+    }
+}
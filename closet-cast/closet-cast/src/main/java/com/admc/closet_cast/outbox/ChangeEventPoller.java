@@ -0,0 +1,176 @@
+package com.admc.closet_cast.outbox;
+
+import com.admc.closet_cast.entity.ChangeAggregate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 각 노드에서 change_event 를 id 순서로 읽어 로컬 캐시를 무효화합니다. (외부 브로커 없음)
+ *
+ * 기동 시점 이후의 이벤트만 봅니다. (그 전에는 캐시가 비어 있음)
+ * AUTO_INCREMENT id 는 커밋 순서가 아니라서, 읽은 id 사이가 비어 있으면 아직 커밋 안 된 트랜잭션일 수 있습니다.
+ * 빈 id 는 gapTimeout 동안 따로 다시 확인하고, 그래도 없으면 롤백된 것으로 보고 버립니다.
+ * 같은 키의 이벤트는 id 순서대로 적용되고, 무효화는 멱등이라 늦게 채워진 이벤트를 다시 적용해도 결과가 같습니다.
+ * 조회는 트랜잭션 없이 하므로 복제본이 아니라 primary 에서 읽습니다.
+ */
+@Slf4j
+@Component
+public class ChangeEventPoller {
+
+    private static final String SELECT_AFTER = """
+            SELECT id, aggregate, aggregate_key, created_at FROM change_event
+            WHERE id > ? ORDER BY id LIMIT ?""";
+    private static final String SELECT_GAPS = """
+            SELECT id, aggregate, aggregate_key, created_at FROM change_event
+            WHERE id IN (:ids) ORDER BY id""";
+
+    private final OutboxProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final CacheInvalidator cacheInvalidator;
+
+    // 빈 id -> 포기할 시각(nanoTime)
+    private final Map<Long, Long> gaps = new ConcurrentHashMap<>();
+    private long lastId = -1;
+
+    private final Timer lag;
+    private final Timer pollTimer;
+    private final Counter expiredGaps;
+    private final Map<ChangeAggregate, Counter> applied = new EnumMap<>(ChangeAggregate.class);
+
+    public ChangeEventPoller(OutboxProperties properties, JdbcTemplate jdbcTemplate,
+                             NamedParameterJdbcTemplate namedJdbcTemplate, CacheInvalidator cacheInvalidator,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.cacheInvalidator = cacheInvalidator;
+
+        this.lag = Timer.builder("outbox.lag")
+                .description("Time from writing a change event to invalidating the local cache")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.pollTimer = Timer.builder("outbox.poll")
+                .register(meterRegistry);
+        this.expiredGaps = Counter.builder("outbox.gaps.expired")
+                .description("Skipped event ids that never appeared (rolled back)")
+                .register(meterRegistry);
+        Gauge.builder("outbox.gaps", gaps, Map::size)
+                .register(meterRegistry);
+        for (ChangeAggregate aggregate : ChangeAggregate.values()) {
+            applied.put(aggregate, Counter.builder("outbox.events")
+                    .tag("aggregate", aggregate.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    // 스케줄 밖에서 불러도(테스트, 수동 실행) 커서와 빈 id 목록이 겹쳐 갱신되지 않게 synchronized
+    @Scheduled(fixedDelayString = "${outbox.poll-interval:PT1S}")
+    public synchronized void poll() {
+        long start = System.nanoTime();
+        try {
+            if (lastId < 0) {
+                Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM change_event", Long.class);
+                lastId = max == null ? 0 : max;
+                return;
+            }
+            List<Event> events = new ArrayList<>(pollGaps());
+            List<Event> fresh = jdbcTemplate.query(SELECT_AFTER, ChangeEventPoller::map, lastId, properties.getBatchSize());
+            for (Event event : fresh) {
+                trackGaps(event.id());
+                lastId = event.id();
+            }
+            events.addAll(fresh);
+            apply(events);
+        } catch (RuntimeException e) {
+            log.warn("변경 이벤트 조회 실패: {}", e.toString());
+        } finally {
+            pollTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Scheduled(cron = "${outbox.purge-cron:0 15 * * * *}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minus(properties.getRetention());
+        int deleted = jdbcTemplate.update("DELETE FROM change_event WHERE created_at < ? LIMIT 10000", Timestamp.valueOf(before));
+        if (deleted > 0) {
+            log.info("변경 이벤트 {}건 정리", deleted);
+        }
+    }
+
+    private List<Event> pollGaps() {
+        if (gaps.isEmpty()) {
+            return List.of();
+        }
+        List<Event> found = namedJdbcTemplate.query(SELECT_GAPS,
+                new MapSqlParameterSource("ids", gaps.keySet()), ChangeEventPoller::map);
+        for (Event event : found) {
+            gaps.remove(event.id());
+        }
+        long now = System.nanoTime();
+        for (Iterator<Map.Entry<Long, Long>> it = gaps.entrySet().iterator(); it.hasNext(); ) {
+            if (it.next().getValue() - now < 0) {
+                it.remove();
+                expiredGaps.increment();
+            }
+        }
+        return found;
+    }
+
+    private void trackGaps(long id) {
+        long deadline = System.nanoTime() + properties.getGapTimeout().toNanos();
+        for (long missing = lastId + 1; missing < id && gaps.size() < properties.getMaxGaps(); missing++) {
+            gaps.put(missing, deadline);
+        }
+    }
+
+    // 같은 대상끼리 모아서 한 번에 무효화 (키 순서는 처음 나온 id 순서)
+    private void apply(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Map<ChangeAggregate, Set<String>> keys = new LinkedHashMap<>();
+        for (Event event : events) {
+            keys.computeIfAbsent(event.aggregate(), aggregate -> new LinkedHashSet<>()).add(event.key());
+        }
+        keys.forEach(cacheInvalidator::invalidate);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Event event : events) {
+            applied.get(event.aggregate()).increment();
+            lag.record(Duration.between(event.createdAt(), now).toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Event map(ResultSet rs, int rowNum) throws SQLException {
+        return new Event(rs.getLong("id"), ChangeAggregate.valueOf(rs.getString("aggregate")),
+                rs.getString("aggregate_key"), rs.getTimestamp("created_at").toLocalDateTime());
+    }
+
+    private record Event(long id, ChangeAggregate aggregate, String key, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.admc.closet_cast.outbox;
+
+import com.admc.closet_cast.entity.ChangeAggregate;
+import com.admc.closet_cast.entity.ChangeEvent;
+import com.admc.closet_cast.repository.ChangeEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 변경 이벤트를 호출한 쪽의 트랜잭션 안에서 저장합니다. (롤백되면 이벤트도 없음)
+ * 이 노드의 캐시는 커밋 직후 바로 지우고, 다른 노드는 ChangeEventPoller 가 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeEventPublisher {
+
+    private final ChangeEventRepository changeEventRepository;
+    private final CacheInvalidator cacheInvalidator;
+
+    public void publish(ChangeAggregate aggregate, String key) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("변경 이벤트는 엔티티 변경과 같은 트랜잭션에서 저장해야 합니다");
+        }
+        changeEventRepository.save(new ChangeEvent(aggregate, key));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cacheInvalidator.invalidate(aggregate, List.of(key));
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.admc.closet_cast.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    // 변경 이벤트 테이블을 읽는 주기 (다른 노드 캐시가 늦어지는 최대 시간에 가까움)
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    // 한 번에 읽는 이벤트 수
+    private int batchSize = 500;
+
+    // 건너뛴 id(아직 커밋 안 된 트랜잭션)를 다시 확인하는 기간. 지나면 롤백된 것으로 봄
+    private Duration gapTimeout = Duration.ofMinutes(1);
+
+    // 한 번에 추적하는 빈 id 수 상한
+    private int maxGaps = 1000;
+
+    // 이벤트 보관 기간과 정리 주기
+    private Duration retention = Duration.ofDays(1);
+    private String purgeCron = "0 15 * * * *";
+}
@@ -0,0 +1,36 @@
+package com.admc.closet_cast.prompt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * GPT 에 보낼 system/user 메시지와 응답 형식
+ */
+public record Prompt(
+        PromptLayout layout,
+        String system,
+        String user,
+        // response_format (structured output 을 끄면 null)
+        Map<String, Object> responseFormat
+) {
+
+    // 같은 답을 기대할 수 있는 프롬프트끼리 같은 키 (GPT 답 캐시용)
+    public String cacheKey() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(layout.name().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(system.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(user.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(responseFormat).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
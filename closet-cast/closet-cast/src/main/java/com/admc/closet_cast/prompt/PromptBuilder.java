@@ -0,0 +1,148 @@
+package com.admc.closet_cast.prompt;
+
+import com.admc.closet_cast.catalog.GarmentCatalog;
+import com.admc.closet_cast.catalog.GarmentIndex;
+import com.admc.closet_cast.entity.Garment;
+import com.admc.closet_cast.entity.GarmentCategory;
+import com.admc.closet_cast.reply.OutfitSchema;
+import com.admc.closet_cast.reply.ReplyProperties;
+import com.admc.closet_cast.service.RecommendContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 옷 추천 GPT 프롬프트
+ *
+ * COMPACT: system 프롬프트는 카탈로그와 출력 형식만 담아서 모든 회원이 같은 문자열을 보냅니다.
+ * 회원마다 다른 값(기온, 옷장, 선호, 성향)은 user 메시지에 "t=12/3 f=10/-1 c=COAT,HOODIE,JEANS ..." 처럼 코드로만 넣습니다.
+ * 같은 접두부가 반복되므로 OpenAI 프롬프트 캐시가 적중하고, 입력 토큰도 줄어듭니다.
+ * response_format 도 접두부에 포함되므로 가진 옷이 아니라 카탈로그 전체로 만든 schema 를 쓰고, 가진 옷인지는 OutfitValidator 가 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PromptBuilder {
+
+    private static final Map<GarmentCategory, String> CATEGORY_LABELS = new EnumMap<>(Map.of(
+            GarmentCategory.OUTER, "아우터",
+            GarmentCategory.TOP, "상의",
+            GarmentCategory.BOTTOM, "하의"
+    ));
+
+    private final GarmentCatalog garmentCatalog;
+    private final PromptProperties promptProperties;
+    private final ReplyProperties replyProperties;
+
+    // 카탈로그가 바뀔 때만 다시 만듦
+    private volatile Prefix prefix;
+
+    public Prompt build(RecommendContext context) {
+        return switch (promptProperties.getLayout()) {
+            case COMPACT -> compact(context);
+            case VERBOSE -> verbose(context);
+        };
+    }
+
+    private Prompt compact(RecommendContext context) {
+        Prefix current = prefix(garmentCatalog.current(), replyProperties.isStructuredOutput());
+        String user = "t=" + round(context.maxTemp()) + "/" + round(context.minTemp())
+                + " f=" + round(context.maxFeel()) + "/" + round(context.minFeel())
+                + " c=" + codes(context.garments())
+                + " p=" + codes(context.preferences())
+                + " k=" + codes(context.tendencies());
+        return new Prompt(PromptLayout.COMPACT, current.system(), user, current.responseFormat());
+    }
+
+    private Prefix prefix(GarmentIndex catalog, boolean structured) {
+        Prefix current = prefix;
+        if (current != null && current.catalog() == catalog && current.structured() == structured) {
+            return current;
+        }
+        StringBuilder system = new StringBuilder()
+                .append("너는 날씨와 사용자의 옷장에 맞는 옷 조합 하나를 고르는 패션 어시스턴트야.\n")
+                .append("옷 코드 (숫자는 보온 지수, 클수록 따뜻함):\n");
+        for (GarmentCategory category : GarmentCategory.values()) {
+            system.append(category.name().charAt(0)).append(' ').append(CATEGORY_LABELS.get(category)).append(": ")
+                    .append(catalog.category(category).stream()
+                            .map(garment -> garment.getCode() + " " + Math.round(garment.getWarmth()))
+                            .collect(Collectors.joining(", ")))
+                    .append('\n');
+        }
+        system.append("입력: t=최고/최저기온 f=체감 최고/최저기온(°C) c=가진 옷 코드 p=선호 스타일 k=성향(HOT 더위 탐, COLD 추위 탐)\n")
+                .append("규칙: c 에 있는 코드로만 아우터(O), 상의(T), 하의(B)를 하나씩 고르고, 아우터가 필요 없으면 None.\n")
+                .append(structured
+                        ? "출력: outer, top, bottom 세 필드만 있는 JSON."
+                        : "출력: 설명 없이 (아우터, 상의, 하의) 형식만. 예: (COAT, HOODIE, JEANS), (None, SHORT_SLEEVE, SHORTS)");
+        current = new Prefix(catalog, structured, system.toString(),
+                structured ? OutfitSchema.responseFormat(catalog) : null);
+        prefix = current;
+        return current;
+    }
+
+    private Prompt verbose(RecommendContext context) {
+        String clothes = describeCloset(context.garments()); // ex: "아우터: [COAT(코트)], 상의: [HOODIE(후드티)], ..."
+        String preference = context.preferences().toString();     // ex: "편안한 스타일 선호"
+        String tendencies = context.tendencies().toString(); // ex: "[추위 많이 탐]"
+
+        boolean structured = replyProperties.isStructuredOutput();
+        String systemPrompt = String.format(
+                "너는 사용자의 옷장 정보를 기반으로 날씨에 맞는 옷을 추천하는 패션 어시턴트야. " +
+                        "사용자가 가진 옷 목록은 종류별로 다음과 같아: %s. " +
+                        "반드시 이 목록 안의 코드로만 (아우터, 상의, 하의) 조합을 추천해야 해. " +
+                        "%s" +
+                        "만약 아우터가 필요 없는 날씨라면, 아우터칸은 None으로 대답해줘.",
+                clothes,
+                structured
+                        ? "outer, top, bottom 세 필드만 있는 JSON 으로 대답해. "
+                        : "다른 설명, 인사, 날씨 브리핑 없이 오직 (아우터, 상의 아이템, 하의 아이템) 형식으로만 대답해야 해. " +
+                          "예시: (COAT, HOODIE, JEANS), 또는 (None, SHORT_SLEEVE, SHORTS). "
+        );
+
+        String userPrompt = String.format(
+                "오늘 최고기온 %f도, 최저기온 %f도, 체감 최고기온 %f도, 체감 최저기온 %f도야. " +
+                        "내 패션 선호도는 '%s'이고, 내 성향은 '%s'이야. " +
+                        "내가 가진 옷 중에서 (아우터, 상의, 하의) 조합 하나만 추천해줘.",
+                context.maxTemp(), context.minTemp(), context.maxFeel(), context.minFeel(), preference, tendencies
+        );
+
+        return new Prompt(PromptLayout.VERBOSE, systemPrompt, userPrompt,
+                structured ? OutfitSchema.responseFormat(garmentCatalog.current(), context.garments()) : null);
+    }
+
+    /**
+     * 가진 옷을 카탈로그 종류별로 "아우터: [CODE(이름), ...]" 형태로 나열합니다.
+     */
+    private String describeCloset(List<String> owned) {
+        GarmentIndex catalog = garmentCatalog.current();
+        Map<GarmentCategory, List<String>> byCategory = new EnumMap<>(GarmentCategory.class);
+        for (String code : owned) {
+            catalog.find(code).ifPresent(garment -> byCategory
+                    .computeIfAbsent(garment.getCategory(), category -> new ArrayList<>())
+                    .add(garment.getCode() + "(" + garment.getName() + ")"));
+        }
+        return CATEGORY_LABELS.entrySet().stream()
+                .map(label -> label.getValue() + ": " + byCategory.getOrDefault(label.getKey(), List.of()))
+                .collect(Collectors.joining(", "));
+    }
+
+    // 소수점은 옷 고르는 데 의미가 없어서 정수로 (null 은 "-")
+    private static String round(Double value) {
+        return value == null ? "-" : String.valueOf(Math.round(value));
+    }
+
+    private static String codes(Collection<?> values) {
+        if (values == null || values.isEmpty()) {
+            return "-";
+        }
+        return values.stream().map(Object::toString).collect(Collectors.joining(","));
+    }
+
+    private record Prefix(GarmentIndex catalog, boolean structured, String system, Map<String, Object> responseFormat) {
+    }
+}
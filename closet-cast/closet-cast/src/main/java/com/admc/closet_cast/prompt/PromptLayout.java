@@ -0,0 +1,15 @@
+package com.admc.closet_cast.prompt;
+
+/**
+ * GPT 프롬프트 구성 방식. 지표의 layout 태그로 쓰여서 두 방식의 토큰/지연을 비교할 수 있습니다.
+ */
+public enum PromptLayout {
+    // 고정된 system 프롬프트(카탈로그, 출력 형식) + 짧은 코드로 된 user 입력. 프롬프트 캐시 적중
+    COMPACT,
+    // 예전 방식. 회원 옷장과 %f 기온을 문장으로 풀어서 system/user 에 넣음
+    VERBOSE;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
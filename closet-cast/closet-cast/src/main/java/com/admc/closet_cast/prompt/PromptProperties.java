@@ -0,0 +1,19 @@
+package com.admc.closet_cast.prompt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "recommend.prompt")
+public class PromptProperties {
+
+    // 프롬프트 구성 방식 (compact / verbose)
+    private PromptLayout layout = PromptLayout.COMPACT;
+
+    // OpenAI prompt_cache_key. 같은 접두부 요청을 같은 캐시로 보냄. 비우면 보내지 않음
+    private String cacheKey = "closet-cast-outfit";
+}
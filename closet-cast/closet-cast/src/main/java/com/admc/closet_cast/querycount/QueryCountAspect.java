@@ -0,0 +1,33 @@
+package com.admc.closet_cast.querycount;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * @Scheduled 작업 한 번을 집계 범위로 묶음 (name = 클래스.메서드)
+ * HTTP 로도 호출되는 작업(/api/weather/get)은 요청 범위 안에 따로 열리고, 요청 범위에도 더해집니다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "query-count.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountAspect {
+
+    private final QueryCountRecorder recorder;
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled)")
+    public Object count(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        QueryCounter.Scope scope = QueryCounter.open(name);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scope.close();
+            recorder.record(QueryCountRecorder.JOB, name, scope.stats());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.admc.closet_cast.querycount;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 기본 DataSource(dataSource 빈)를 datasource-proxy 로 감싸서 JPA/JdbcTemplate 의 모든 SQL 을 집계
+ * 복제본 라우팅을 켜면 라우팅 DataSource 바깥을 감싸므로 primary/replica 모두 집계되고,
+ * primaryDataSource/replicaDataSource(Hikari) 빈은 그대로라 풀 지표와 지연 확인에는 영향이 없습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "query-count.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public QueryCountListener queryCountListener(MeterRegistry meterRegistry) {
+        return new QueryCountListener(meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor queryCountDataSourcePostProcessor(ObjectProvider<QueryCountListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                QueryCountListener counter = listener.getObject();
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(DATA_SOURCE_BEAN)
+                        .listener(counter)
+                        .methodListener(counter)
+                        .proxyResultSet()
+                        .build();
+            }
+        };
+    }
+}
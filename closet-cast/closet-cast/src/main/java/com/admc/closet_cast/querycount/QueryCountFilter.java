@@ -0,0 +1,46 @@
+package com.admc.closet_cast.querycount;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 하나를 집계 범위로 묶음
+ * 보안 필터(JwtFilter)와 open-in-view 의 지연 로딩까지 들어가도록 가장 바깥에서 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "query-count.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final QueryCountRecorder recorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.Scope scope = QueryCounter.open(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            recorder.record(QueryCountRecorder.HTTP, name(request), scope.stats());
+        }
+    }
+
+    // 지표 태그는 URI 대신 매핑된 패턴 (/api/recommend/{memberId}). 매핑이 없으면(404 등) 하나로 묶음
+    private static String name(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+    }
+}
@@ -0,0 +1,82 @@
+package com.admc.closet_cast.querycount;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * datasource-proxy 로 감싼 DataSource 의 모든 SQL 실행과 ResultSet.next() 를 현재 범위(QueryCounter)에 더합니다.
+ * 범위 밖(HistoryWriter 스레드, 리액티브 모드의 jpa 스케줄러 등)에서 보낸 SQL 은 db.statements{scope=none} 에만 남습니다.
+ */
+public class QueryCountListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private final Counter scoped;
+    private final Counter unscoped;
+
+    public QueryCountListener(MeterRegistry meterRegistry) {
+        this.scoped = statements(meterRegistry, "scoped");
+        this.unscoped = statements(meterRegistry, "none");
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryStats stats = QueryCounter.current();
+        if (stats == null) {
+            unscoped.increment();
+            return;
+        }
+        scoped.increment();
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.getFirst().getQuery();
+        stats.statement(sql, execInfo.getElapsedTime(), updatedRows(execInfo.getResult()));
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    // 읽은 행 수는 ResultSet.next() 가 true 를 돌려준 횟수
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (!"next".equals(executionContext.getMethod().getName())
+                || !(executionContext.getTarget() instanceof ResultSet)
+                || !Boolean.TRUE.equals(executionContext.getResult())) {
+            return;
+        }
+        QueryStats stats = QueryCounter.current();
+        if (stats != null) {
+            stats.rowRead();
+        }
+    }
+
+    private static long updatedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(0, count);
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                sum += Math.max(0, count); // SUCCESS_NO_INFO(-2) 는 0 으로
+            }
+            return sum;
+        }
+        return 0;
+    }
+
+    private static Counter statements(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("db.statements")
+                .description("JDBC statements executed, by whether a request/job scope was open")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+}
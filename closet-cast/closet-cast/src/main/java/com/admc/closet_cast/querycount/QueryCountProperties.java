@@ -0,0 +1,27 @@
+package com.admc.closet_cast.querycount;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "query-count")
+public class QueryCountProperties {
+
+    // false 면 DataSource 를 감싸지 않음 (지표/로그 모두 없음)
+    private boolean enabled = true;
+
+    // 요청/작업 하나가 이보다 많은 SQL 을 보내면 경고 로그
+    private int warnStatements = 20;
+
+    // 요청/작업 하나의 SQL 실행 시간 합이 이보다 길면 경고 로그
+    private Duration warnTime = Duration.ofMillis(500);
+
+    // 같은 SQL 이 이만큼 반복되면 N+1 로 보고 경고 로그 + db.repeated 증가
+    private int repeatThreshold = 5;
+}
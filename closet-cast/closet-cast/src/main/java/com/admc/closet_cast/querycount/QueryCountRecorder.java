@@ -0,0 +1,68 @@
+package com.admc.closet_cast.querycount;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 닫힌 범위의 집계를 지표로 남기고, 기준을 넘으면 로그
+ * scope: http(name = URI 패턴) / job(name = 클래스.메서드)
+ *
+ * db.queries{scope,name}: 범위 하나의 SQL 수 분포
+ * db.rows{scope,name}: 범위 하나에서 읽거나 고친 행 수 분포
+ * db.time{scope,name}: 범위 하나의 SQL 실행 시간 합
+ * db.repeated{scope,name}: 같은 SQL 이 repeat-threshold 번 이상 반복된 범위 수 (N+1 의심)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryCountRecorder {
+
+    public static final String HTTP = "http";
+    public static final String JOB = "job";
+
+    private final QueryCountProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public void record(String scope, String name, QueryStats stats) {
+        DistributionSummary.builder("db.queries")
+                .baseUnit("statements")
+                .tag("scope", scope)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(stats.statements());
+        if (stats.statements() == 0) {
+            return;
+        }
+        DistributionSummary.builder("db.rows")
+                .baseUnit("rows")
+                .tag("scope", scope)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(stats.rows());
+        Timer.builder("db.time")
+                .tag("scope", scope)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(stats.time());
+
+        int repeats = stats.maxRepeats();
+        if (repeats >= properties.getRepeatThreshold()) {
+            Counter.builder("db.repeated")
+                    .tag("scope", scope)
+                    .tag("name", name)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("N+1 의심 {} {}: 같은 SQL {}번 - {}", scope, name, repeats, stats.mostRepeated());
+        }
+        if (stats.statements() > properties.getWarnStatements()
+                || stats.time().compareTo(properties.getWarnTime()) > 0) {
+            log.warn("SQL 과다 {} {}: {}건, {}행, {}ms", scope, name,
+                    stats.statements(), stats.rows(), stats.time().toMillis());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.admc.closet_cast.querycount;
+
+/**
+ * 현재 스레드의 SQL 집계 범위
+ * HTTP 요청(QueryCountFilter)과 @Scheduled 작업(QueryCountAspect)이 범위를 열고, QueryCountListener 가 채웁니다.
+ * 다른 스레드(리액티브 모드의 jpa 스케줄러 등)에서 보낸 SQL 은 어느 범위에도 들어가지 않습니다.
+ * 요청 안에서 가상 스레드로 나눈 작업은 각자 범위를 열고 끝난 뒤 include 로 요청 범위에 더합니다.
+ *
+ * 통합 테스트에서는 범위를 직접 열어서 엔드포인트 하나가 보내는 SQL 수를 확인할 수 있습니다.
+ * <pre>
+ * try (QueryCounter.Scope scope = QueryCounter.open("read")) {
+ *     mockMvc.perform(get("/api/weather/read"));
+ *     assertThat(scope.stats().statements()).isLessThanOrEqualTo(5);
+ * }
+ * </pre>
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static Scope open(String name) {
+        QueryStats stats = new QueryStats(name, CURRENT.get());
+        CURRENT.set(stats);
+        return new Scope(stats);
+    }
+
+    // 열린 범위가 없으면 null
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 다른 스레드에서 연 범위의 집계를 현재 범위에 더함 (병렬로 나눈 작업이 모두 끝난 뒤 호출)
+     */
+    public static void include(QueryStats stats) {
+        QueryStats current = CURRENT.get();
+        if (current != null && stats != null) {
+            current.add(stats);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final QueryStats stats;
+
+        private Scope(QueryStats stats) {
+            this.stats = stats;
+        }
+
+        public QueryStats stats() {
+            return stats;
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() != stats) {
+                return; // 이미 닫힘
+            }
+            if (stats.parent() == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(stats.parent());
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.admc.closet_cast.querycount;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청/작업 하나에서 보낸 SQL 집계
+ * 한 스레드에서만 갱신됩니다. 안쪽 범위의 집계는 바깥 범위에도 더해집니다.
+ */
+public final class QueryStats {
+
+    private final String name;
+    private final QueryStats parent;
+
+    private int statements;
+    private long rows;
+    private long millis;
+    private final Map<String, Integer> repeats = new HashMap<>();
+
+    QueryStats(String name, QueryStats parent) {
+        this.name = name;
+        this.parent = parent;
+    }
+
+    void statement(String sql, long elapsedMillis, long affectedRows) {
+        for (QueryStats stats = this; stats != null; stats = stats.parent) {
+            stats.statements++;
+            stats.rows += affectedRows;
+            stats.millis += elapsedMillis;
+            stats.repeats.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void rowRead() {
+        for (QueryStats stats = this; stats != null; stats = stats.parent) {
+            stats.rows++;
+        }
+    }
+
+    // 다른 스레드에서 끝난 범위를 이 범위(와 바깥 범위)에 더함
+    void add(QueryStats other) {
+        for (QueryStats stats = this; stats != null; stats = stats.parent) {
+            stats.statements += other.statements;
+            stats.rows += other.rows;
+            stats.millis += other.millis;
+            for (Map.Entry<String, Integer> entry : other.repeats.entrySet()) {
+                stats.repeats.merge(entry.getKey(), entry.getValue(), Integer::sum);
+            }
+        }
+    }
+
+    QueryStats parent() {
+        return parent;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    // DB 왕복 횟수 (배치는 한 번)
+    public int statements() {
+        return statements;
+    }
+
+    // 읽은 행 + 수정된 행
+    public long rows() {
+        return rows;
+    }
+
+    public Duration time() {
+        return Duration.ofMillis(millis);
+    }
+
+    // 가장 많이 반복된 SQL 의 실행 횟수 (N+1 이면 보통 부모 행 수만큼)
+    public int maxRepeats() {
+        int max = 0;
+        for (int count : repeats.values()) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+
+    public String mostRepeated() {
+        String sql = null;
+        int max = 0;
+        for (Map.Entry<String, Integer> entry : repeats.entrySet()) {
+            if (entry.getValue() > max) {
+                max = entry.getValue();
+                sql = entry.getKey();
+            }
+        }
+        return sql;
+    }
+
+    @Override
+    public String toString() {
+        return name + "{statements=" + statements + ", rows=" + rows + ", time=" + millis + "ms, maxRepeats=" + maxRepeats() + "}";
+    }
+}
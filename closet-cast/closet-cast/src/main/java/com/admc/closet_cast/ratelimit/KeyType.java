@@ -0,0 +1,6 @@
+package com.admc.closet_cast.ratelimit;
+
+public enum KeyType {
+    MEMBER, // 로그인 사용자 기준 (익명이면 IP + 경로의 {memberId})
+    IP
+}
@@ -0,0 +1,45 @@
+package com.admc.closet_cast.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // X-Forwarded-For 헤더를 신뢰할지 여부 (프록시 뒤에서만 true)
+    private boolean trustForwardedFor = false;
+
+    // 가득 찬 상태로 이 시간 이상 사용되지 않은 키는 제거
+    private Duration idleEviction = Duration.ofMinutes(10);
+
+    private List<Rule> rules = new ArrayList<>(List.of(
+            new Rule("recommend", "/api/recommend/{memberId}", KeyType.MEMBER, 5, 1, Duration.ofSeconds(30)),
+            new Rule("weather-ingest", "/api/weather/get", KeyType.IP, 2, 1, Duration.ofMinutes(10))
+    ));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private String name;
+        private String pattern;
+        private KeyType key = KeyType.IP;
+        private int capacity = 10;                          // 최대 버스트
+        private int refillTokens = 1;                       // refillPeriod마다 채워지는 토큰 수
+        private Duration refillPeriod = Duration.ofSeconds(1);
+    }
+}
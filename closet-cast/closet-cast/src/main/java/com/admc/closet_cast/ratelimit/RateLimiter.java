@@ -0,0 +1,152 @@
+package com.admc.closet_cast.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 규칙에 따라 키(로그인 사용자 또는 IP)마다 토큰 버킷을 관리합니다.
+ * 버킷 조회는 CHM get, 토큰 차감은 CAS 한 번이므로 요청 경로에서 락을 잡지 않습니다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final int STRIPES = 16;
+
+    private final RateLimitProperties properties;
+    private final List<CompiledRule> rules = new ArrayList<>();
+    private int sweepCursor = 0;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        PathPatternParser parser = new PathPatternParser();
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            CompiledRule compiled = new CompiledRule(rule, parser.parse(rule.getPattern()), meterRegistry);
+            rules.add(compiled);
+        }
+    }
+
+    /**
+     * @return 허용되면 0, 거절되면 Retry-After 로 내려줄 대기 시간(ns)
+     */
+    public long tryAcquire(HttpServletRequest request) {
+        if (!properties.isEnabled() || rules.isEmpty()) {
+            return 0;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (CompiledRule rule : rules) {
+            PathPattern.PathMatchInfo match = rule.pattern.matchAndExtract(path);
+            if (match == null) {
+                continue;
+            }
+            String key = resolveKey(rule.rule.getKey(), match.getUriVariables(), request);
+            long now = System.nanoTime();
+            long wait = rule.bucket(key, now).tryAcquire(now);
+            if (wait > 0) {
+                rule.rejected.increment();
+                return wait;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * MEMBER 규칙은 JwtFilter 가 인증한 사용자 기준입니다.
+     * 경로의 {memberId} 는 누구나 넣을 수 있으므로 익명 요청은 IP 와 묶어서, 남의 버킷을 비우지 못하게 합니다.
+     */
+    String resolveKey(KeyType keyType, Map<String, String> uriVariables, HttpServletRequest request) {
+        String ip = "ip:" + clientIp(request);
+        if (keyType != KeyType.MEMBER) {
+            return ip;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "u:" + authentication.getName();
+        }
+        String memberId = uriVariables.get("memberId");
+        return memberId == null ? ip : ip + ":m:" + memberId;
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                int comma = forwarded.indexOf(',');
+                return (comma < 0 ? forwarded : forwarded.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * 한 번에 스트라이프 하나씩만 훑어서 유휴 키를 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval:PT5S}")
+    public void evictIdleKeys() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleEviction().toNanos();
+        int stripe = sweepCursor;
+        sweepCursor = (stripe + 1) % STRIPES;
+        for (CompiledRule rule : rules) {
+            rule.stripes[stripe].values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        }
+    }
+
+    private static class CompiledRule {
+        private final RateLimitProperties.Rule rule;
+        private final PathPattern pattern;
+        private final long intervalNanos;
+        private final Counter rejected;
+        @SuppressWarnings("unchecked")
+        private final Map<String, TokenBucket>[] stripes = new Map[STRIPES];
+
+        CompiledRule(RateLimitProperties.Rule rule, PathPattern pattern, MeterRegistry meterRegistry) {
+            this.rule = rule;
+            this.pattern = pattern;
+            this.intervalNanos = rule.getRefillPeriod().toNanos() / rule.getRefillTokens();
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new ConcurrentHashMap<>();
+            }
+            this.rejected = Counter.builder("ratelimit.rejected")
+                    .tag("rule", rule.getName())
+                    .register(meterRegistry);
+            Gauge.builder("ratelimit.keys", this, CompiledRule::size)
+                    .tag("rule", rule.getName())
+                    .register(meterRegistry);
+        }
+
+        TokenBucket bucket(String key, long now) {
+            Map<String, TokenBucket> stripe = stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+            TokenBucket bucket = stripe.get(key);
+            if (bucket != null) {
+                return bucket;
+            }
+            return stripe.computeIfAbsent(key, k -> new TokenBucket(intervalNanos, rule.getCapacity(), now));
+        }
+
+        double size() {
+            long total = 0;
+            for (Map<String, TokenBucket> stripe : stripes) {
+                total += stripe.size();
+            }
+            return total;
+        }
+    }
+}
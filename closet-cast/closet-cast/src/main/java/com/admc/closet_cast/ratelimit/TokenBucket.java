@@ -0,0 +1,46 @@
+package com.admc.closet_cast.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없이 동작하는 토큰 버킷 (GCRA 방식)
+ * 남은 토큰 수 대신 "다음 토큰이 도착하는 이론적 시각" 하나만 CAS로 갱신합니다.
+ */
+class TokenBucket {
+
+    private final long intervalNanos;  // 토큰 1개가 채워지는 데 걸리는 시간
+    private final long burstNanos;     // (capacity - 1) * interval
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long intervalNanos, int capacity, long now) {
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = intervalNanos * (capacity - 1);
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * 토큰 하나를 가져갑니다.
+     * @return 허용되면 0, 거절되면 다음 토큰까지 기다려야 하는 시간(ns)
+     */
+    long tryAcquire(long now) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = tat - now > 0 ? tat : now;
+            long wait = base - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(tat, base + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 뒤로 idleNanos 이상 지났는지 확인합니다.
+     * 가득 찬 버킷은 새로 만든 버킷과 구분되지 않으므로 제거해도 안전합니다.
+     */
+    boolean isIdle(long now, long idleNanos) {
+        return now - theoreticalArrival.get() >= idleNanos;
+    }
+}
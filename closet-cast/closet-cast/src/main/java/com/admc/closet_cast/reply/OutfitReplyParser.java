@@ -0,0 +1,182 @@
+package com.admc.closet_cast.reply;
+
+/**
+ * LLM 응답 파서
+ * - structured output: {"outer":"COAT","top":"SWEATER","bottom":"JEANS"}
+ * - 이전 형식: (COAT, SWEATER, JEANS)
+ *
+ * 응답이 짧고 형식이 고정이라 JSON 트리나 정규식 없이 한 번 훑으면서 값 세 개만 잘라냅니다.
+ * 형식이 깨졌으면 찾은 값까지만 채우고 나머지는 null 로 두어 OutfitValidator 가 고치게 합니다.
+ */
+public final class OutfitReplyParser {
+
+    /**
+     * @return 파싱 결과. 아무 값도 찾지 못하면 null
+     */
+    public static RawOutfit parse(CharSequence reply) {
+        if (reply == null) {
+            return null;
+        }
+        int start = skipWhitespace(reply, 0);
+        if (start < reply.length() && reply.charAt(start) == '{') {
+            return parseJson(reply, start);
+        }
+        return parseTuple(reply, start);
+    }
+
+    private static RawOutfit parseJson(CharSequence reply, int from) {
+        String outer = null;
+        String top = null;
+        String bottom = null;
+        int i = from + 1;
+        int length = reply.length();
+        while (i < length) {
+            int keyStart = indexOf(reply, '"', i);
+            if (keyStart < 0) {
+                break;
+            }
+            int keyEnd = endOfString(reply, keyStart + 1);
+            if (keyEnd < 0) {
+                break;
+            }
+            int colon = skipWhitespace(reply, keyEnd + 1);
+            if (colon >= length || reply.charAt(colon) != ':') {
+                i = keyEnd + 1;
+                continue;
+            }
+            int valueStart = skipWhitespace(reply, colon + 1);
+            String value = null;
+            int next;
+            if (valueStart < length && reply.charAt(valueStart) == '"') {
+                int valueEnd = endOfString(reply, valueStart + 1);
+                if (valueEnd < 0) {
+                    break;
+                }
+                value = unescape(reply, valueStart + 1, valueEnd);
+                next = valueEnd + 1;
+            } else {
+                // null 또는 다른 타입 값은 건너뜀
+                next = valueStart;
+                while (next < length && reply.charAt(next) != ',' && reply.charAt(next) != '}') {
+                    next++;
+                }
+            }
+            if (regionMatches(reply, keyStart + 1, keyEnd, "outer")) {
+                outer = value;
+            } else if (regionMatches(reply, keyStart + 1, keyEnd, "top")) {
+                top = value;
+            } else if (regionMatches(reply, keyStart + 1, keyEnd, "bottom")) {
+                bottom = value;
+            }
+            i = next;
+        }
+        return outer == null && top == null && bottom == null ? null : new RawOutfit(outer, top, bottom);
+    }
+
+    private static RawOutfit parseTuple(CharSequence reply, int from) {
+        String[] parts = new String[3];
+        int count = 0;
+        int tokenStart = from;
+        int length = reply.length();
+        for (int i = from; i <= length && count < 3; i++) {
+            char c = i < length ? reply.charAt(i) : ',';
+            if (c == ',' || c == ')' || c == '\n' || i == length) {
+                String token = trim(reply, tokenStart, i);
+                if (token != null) {
+                    parts[count++] = token;
+                }
+                tokenStart = i + 1;
+                if (c == ')') {
+                    break;
+                }
+            }
+        }
+        return count == 0 ? null : new RawOutfit(parts[0], parts[1], parts[2]);
+    }
+
+    // 앞뒤 공백, 괄호, 따옴표 제거. 비어 있으면 null
+    private static String trim(CharSequence s, int start, int end) {
+        while (start < end && isNoise(s.charAt(start))) {
+            start++;
+        }
+        while (end > start && isNoise(s.charAt(end - 1))) {
+            end--;
+        }
+        return start == end ? null : s.subSequence(start, end).toString();
+    }
+
+    private static boolean isNoise(char c) {
+        return Character.isWhitespace(c) || c == '(' || c == ')' || c == '"' || c == '\'' || c == '`';
+    }
+
+    private static int skipWhitespace(CharSequence s, int i) {
+        while (i < s.length() && Character.isWhitespace(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int indexOf(CharSequence s, char c, int from) {
+        for (int i = from; i < s.length(); i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 닫는 따옴표 위치 (이스케이프 고려)
+    private static int endOfString(CharSequence s, int from) {
+        for (int i = from; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String unescape(CharSequence s, int start, int end) {
+        if (indexOf(s.subSequence(start, end), '\\', 0) < 0) {
+            return s.subSequence(start, end).toString();
+        }
+        StringBuilder out = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < end) {
+                char escaped = s.charAt(++i);
+                if (escaped == 'u' && i + 4 < end) {
+                    out.append((char) Integer.parseInt(s.subSequence(i + 1, i + 5).toString(), 16));
+                    i += 4;
+                } else {
+                    out.append(switch (escaped) {
+                        case 'n' -> '\n';
+                        case 't' -> '\t';
+                        case 'r' -> '\r';
+                        default -> escaped;
+                    });
+                }
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean regionMatches(CharSequence s, int start, int end, String expected) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (s.charAt(start + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private OutfitReplyParser() {
+    }
+}
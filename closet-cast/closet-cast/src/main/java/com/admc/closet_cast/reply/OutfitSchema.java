@@ -0,0 +1,86 @@
+package com.admc.closet_cast.reply;
+
+import com.admc.closet_cast.catalog.GarmentIndex;
+import com.admc.closet_cast.comfort.LocalRecommender;
+import com.admc.closet_cast.entity.Garment;
+import com.admc.closet_cast.entity.GarmentCategory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원이 가진 옷으로만 답하도록 하는 OpenAI response_format (json_schema, strict)
+ * 카테고리별로 가진 옷 코드만 enum 에 넣으므로 모델이 목록 밖의 값을 만들 수 없습니다.
+ */
+public final class OutfitSchema {
+
+    public static Map<String, Object> responseFormat(GarmentIndex catalog, Collection<String> owned) {
+        Map<GarmentCategory, List<String>> codes = emptyCodes();
+        for (String code : owned) {
+            catalog.find(code).map(Garment::getCategory).ifPresent(category -> codes.get(category).add(code));
+        }
+        return responseFormat(codes);
+    }
+
+    /**
+     * 카탈로그 전체(활성 항목)로 만든 schema. 회원과 무관하게 같으므로 프롬프트 캐시 접두부에 둘 수 있습니다.
+     * 가진 옷인지는 OutfitValidator 가 확인해야 합니다.
+     */
+    public static Map<String, Object> responseFormat(GarmentIndex catalog) {
+        Map<GarmentCategory, List<String>> codes = emptyCodes();
+        for (GarmentCategory category : GarmentCategory.values()) {
+            for (Garment garment : catalog.category(category)) {
+                codes.get(category).add(garment.getCode());
+            }
+        }
+        return responseFormat(codes);
+    }
+
+    private static Map<GarmentCategory, List<String>> emptyCodes() {
+        Map<GarmentCategory, List<String>> codes = new EnumMap<>(GarmentCategory.class);
+        for (GarmentCategory category : GarmentCategory.values()) {
+            codes.put(category, new ArrayList<>());
+        }
+        codes.get(GarmentCategory.OUTER).add(LocalRecommender.NONE);
+        return codes;
+    }
+
+    // 프롬프트 캐시는 직렬화된 바이트가 같아야 하므로 키 순서를 고정 (Map.of 는 JVM 마다 순서가 다름)
+    private static Map<String, Object> responseFormat(Map<GarmentCategory, List<String>> codes) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("outer", enumOf(codes.get(GarmentCategory.OUTER)));
+        properties.put("top", enumOf(codes.get(GarmentCategory.TOP)));
+        properties.put("bottom", enumOf(codes.get(GarmentCategory.BOTTOM)));
+
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("type", "object");
+        schema.put("properties", properties);
+        schema.put("required", List.of("outer", "top", "bottom"));
+        schema.put("additionalProperties", false);
+
+        Map<String, Object> jsonSchema = new LinkedHashMap<>();
+        jsonSchema.put("name", "outfit");
+        jsonSchema.put("strict", true);
+        jsonSchema.put("schema", schema);
+
+        Map<String, Object> responseFormat = new LinkedHashMap<>();
+        responseFormat.put("type", "json_schema");
+        responseFormat.put("json_schema", jsonSchema);
+        return Collections.unmodifiableMap(responseFormat);
+    }
+
+    private static Map<String, Object> enumOf(List<String> codes) {
+        Map<String, Object> property = new LinkedHashMap<>();
+        property.put("type", "string");
+        property.put("enum", List.copyOf(codes));
+        return property;
+    }
+
+    private OutfitSchema() {
+    }
+}
@@ -0,0 +1,164 @@
+package com.admc.closet_cast.reply;
+
+import com.admc.closet_cast.apiPayload.exception.handler.RecommendHandler;
+import com.admc.closet_cast.apiPayload.form.status.ErrorStatus;
+import com.admc.closet_cast.catalog.GarmentCatalog;
+import com.admc.closet_cast.catalog.GarmentIndex;
+import com.admc.closet_cast.comfort.LocalRecommender;
+import com.admc.closet_cast.dto.RecommendDto;
+import com.admc.closet_cast.entity.Garment;
+import com.admc.closet_cast.entity.GarmentCategory;
+import com.admc.closet_cast.metrics.RecommendMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * LLM 응답을 회원 옷장 기준으로 검증하고, 틀린 부분은 다시 호출하지 않고 로컬에서 고칩니다.
+ *
+ * 고치는 순서
+ * 1. 대소문자/공백/밑줄 차이, 표시 이름(코트)으로 답한 경우 -> 코드로 바꿈 (normalized)
+ * 2. 카테고리 자리를 바꿔 답한 경우 -> 제자리로 옮김 (category)
+ * 3. 그래도 비었거나 가진 옷이 아니면 -> 오늘 체감온도에 가장 가까운 가진 옷으로 채움 (filled)
+ * 채울 옷도 없으면 실패로 봅니다. 결과는 recommend.reply{outcome}, recommend.reply.repair{reason} 로 셉니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutfitValidator {
+
+    // 체감온도를 모를 때 쓰는 값
+    private static final double DEFAULT_FEEL = 20.0;
+    private static final double NO_OUTER_ABOVE = 22.0;
+
+    private final GarmentCatalog garmentCatalog;
+    private final ReplyProperties properties;
+    private final RecommendMetrics recommendMetrics;
+
+    public RecommendDto validate(RawOutfit raw, Collection<String> owned, Double maxFeel, Double minFeel) {
+        GarmentIndex catalog = garmentCatalog.current();
+        List<String> repairs = new ArrayList<>(3);
+        if (raw == null) {
+            repairs.add("unparseable");
+            raw = new RawOutfit(null, null, null);
+        }
+
+        Map<GarmentCategory, Garment> picked = new EnumMap<>(GarmentCategory.class);
+        boolean outerNone = isNone(raw.outer());
+
+        String[] answers = {raw.outer(), raw.top(), raw.bottom()};
+        GarmentCategory[] slots = {GarmentCategory.OUTER, GarmentCategory.TOP, GarmentCategory.BOTTOM};
+        for (int i = 0; i < answers.length; i++) {
+            if (answers[i] == null || (i == 0 && outerNone)) {
+                continue;
+            }
+            Garment garment = catalog.find(answers[i]).filter(g -> owned.contains(g.getCode())).orElse(null);
+            if (garment == null) {
+                garment = resolve(catalog, owned, answers[i]);
+                if (garment != null) {
+                    repairs.add("normalized");
+                }
+            }
+            if (garment == null) {
+                continue;
+            }
+            if (garment.getCategory() != slots[i]) {
+                repairs.add("category");
+            }
+            picked.putIfAbsent(garment.getCategory(), garment);
+        }
+        if (picked.containsKey(GarmentCategory.OUTER)) {
+            outerNone = false;
+        }
+
+        double feel = averageFeel(maxFeel, minFeel);
+        for (GarmentCategory category : slots) {
+            if (picked.containsKey(category) || (category == GarmentCategory.OUTER && (outerNone || feel >= NO_OUTER_ABOVE))) {
+                continue;
+            }
+            Garment fill = nearestOwned(catalog, owned, category, feel);
+            if (fill == null) {
+                if (category == GarmentCategory.OUTER) {
+                    continue;
+                }
+                return invalid();
+            }
+            repairs.add("filled");
+            picked.put(category, fill);
+        }
+
+        if (!repairs.isEmpty() && !properties.isRepair()) {
+            return invalid();
+        }
+        repairs.forEach(recommendMetrics::replyRepaired);
+        recommendMetrics.reply(repairs.isEmpty() ? "valid" : "repaired");
+
+        Garment outer = picked.get(GarmentCategory.OUTER);
+        return RecommendDto.of(
+                outer == null ? LocalRecommender.NONE : outer.getCode(),
+                picked.get(GarmentCategory.TOP).getCode(),
+                picked.get(GarmentCategory.BOTTOM).getCode());
+    }
+
+    private RecommendDto invalid() {
+        recommendMetrics.reply("invalid");
+        throw new RecommendHandler(ErrorStatus.RECOMMEND_INVALID_REPLY);
+    }
+
+    private static boolean isNone(String value) {
+        if (value == null) {
+            return false;
+        }
+        String trimmed = value.trim();
+        return trimmed.equalsIgnoreCase(LocalRecommender.NONE) || trimmed.equals("없음") || trimmed.equalsIgnoreCase("null");
+    }
+
+    // 코드 표기가 조금 다르거나 표시 이름으로 답한 경우
+    private static Garment resolve(GarmentIndex catalog, Collection<String> owned, String answer) {
+        String key = normalize(answer);
+        for (String code : owned) {
+            Garment garment = catalog.find(code).orElse(null);
+            if (garment != null && (normalize(code).equals(key) || normalize(garment.getName()).equals(key))) {
+                return garment;
+            }
+        }
+        return null;
+    }
+
+    private static String normalize(String value) {
+        StringBuilder out = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                out.append(c);
+            }
+        }
+        return out.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private static Garment nearestOwned(GarmentIndex catalog, Collection<String> owned, GarmentCategory category, double feel) {
+        double target = catalog.clampWarmth(category, GarmentIndex.requiredWarmth(feel));
+        Garment best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (Garment garment : catalog.category(category)) {
+            double distance = Math.abs(garment.getWarmth() - target);
+            if (owned.contains(garment.getCode()) && distance < bestDistance) {
+                best = garment;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    private static double averageFeel(Double maxFeel, Double minFeel) {
+        if (maxFeel == null || minFeel == null) {
+            return DEFAULT_FEEL;
+        }
+        return (maxFeel + minFeel) / 2;
+    }
+}
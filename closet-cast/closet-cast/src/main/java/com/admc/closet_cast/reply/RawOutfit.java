@@ -0,0 +1,11 @@
+package com.admc.closet_cast.reply;
+
+/**
+ * 검증 전의 LLM 응답 (아우터, 상의, 하의). 값이 없으면 null
+ */
+public record RawOutfit(
+        String outer,
+        String top,
+        String bottom
+) {
+}
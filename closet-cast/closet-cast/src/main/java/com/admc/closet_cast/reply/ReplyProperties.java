@@ -0,0 +1,19 @@
+package com.admc.closet_cast.reply;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "recommend.reply")
+public class ReplyProperties {
+
+    // 회원 옷장으로 만든 JSON schema 로 응답 형식을 강제 (response_format: json_schema)
+    private boolean structuredOutput = true;
+
+    // 검증에 실패한 항목을 가진 옷 중에서 채워 넣음. 끄면 바로 오류
+    private boolean repair = true;
+}
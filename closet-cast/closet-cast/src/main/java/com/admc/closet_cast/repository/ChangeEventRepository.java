@@ -0,0 +1,9 @@
+package com.admc.closet_cast.repository;
+
+import com.admc.closet_cast.entity.ChangeEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+}
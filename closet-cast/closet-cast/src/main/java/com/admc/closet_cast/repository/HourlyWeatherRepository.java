@@ -5,9 +5,13 @@ import com.admc.closet_cast.entity.Weather;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface HourlyWeatherRepository extends JpaRepository<HourlyWeather, Long> {
     List<HourlyWeather> findByWeather(Weather weather);
+
+    // uk_hourly_weather_time (weather_id, fcst_time)
+    List<HourlyWeather> findByWeatherAndFcstTimeIn(Weather weather, Collection<String> fcstTimes);
 }
@@ -1,9 +1,11 @@
 package com.admc.closet_cast.repository;
 
 import com.admc.closet_cast.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +13,6 @@ public interface MemberRepository extends JpaRepository<Member,Long> {
     boolean existsByLoginId(String s);
 
     Optional<Member> findByLoginId(String loginId);
+
+    List<Member> findAllByOrderByUpdatedAtDesc(Pageable pageable);
 }
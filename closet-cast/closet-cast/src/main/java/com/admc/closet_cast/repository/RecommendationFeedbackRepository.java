@@ -0,0 +1,34 @@
+package com.admc.closet_cast.repository;
+
+import com.admc.closet_cast.entity.FeedbackType;
+import com.admc.closet_cast.entity.RecommendationFeedback;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RecommendationFeedbackRepository extends JpaRepository<RecommendationFeedback, Long> {
+    List<RecommendationFeedback> findByMemberIdAndCreatedAtAfter(Long memberId, LocalDateTime after);
+
+    boolean existsByRecommendationIdAndFeedbackIn(String recommendationId, Collection<FeedbackType> feedbacks);
+
+    // 추천 하나에 피드백 하나 (uk_feedback_recommendation). 이미 있으면 0
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO recommendation_feedback
+                (recommendation_id, member_id, feedback, outer_item, top_item, bottom_item, created_at)
+            VALUES (:recommendationId, :memberId, :feedback, :outer, :top, :bottom, :createdAt)""", nativeQuery = true)
+    int insertIfAbsent(@Param("recommendationId") String recommendationId,
+                       @Param("memberId") Long memberId,
+                       @Param("feedback") String feedback,
+                       @Param("outer") String outer,
+                       @Param("top") String top,
+                       @Param("bottom") String bottom,
+                       @Param("createdAt") LocalDateTime createdAt);
+}
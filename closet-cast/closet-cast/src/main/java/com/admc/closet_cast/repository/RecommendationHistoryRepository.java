@@ -0,0 +1,18 @@
+package com.admc.closet_cast.repository;
+
+import com.admc.closet_cast.entity.RecommendationHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RecommendationHistoryRepository extends JpaRepository<RecommendationHistory, String> {
+    List<RecommendationHistory> findByMemberIdAndRecommendDateOrderByCreatedAtDesc(Long memberId, LocalDate recommendDate);
+
+    Optional<RecommendationHistory> findFirstByMemberIdAndRecommendDateOrderByCreatedAtDesc(Long memberId, LocalDate recommendDate);
+
+    Optional<RecommendationHistory> findByIdAndMemberId(String id, Long memberId);
+}
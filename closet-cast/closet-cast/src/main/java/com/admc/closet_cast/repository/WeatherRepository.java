@@ -4,9 +4,14 @@ import com.admc.closet_cast.entity.Weather;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface WeatherRepository extends JpaRepository<Weather, Long> {
-    Optional<Weather> findByDate(String date);
+    // uk_weather_grid_date (nx, ny, forecast_date) 인덱스를 그대로 사용
+    Optional<Weather> findByNxAndNyAndDate(int nx, int ny, LocalDate date);
+
+    List<Weather> findByNxAndNyAndDateBetweenOrderByDateAsc(int nx, int ny, LocalDate from, LocalDate to);
 }
@@ -0,0 +1,17 @@
+package com.admc.closet_cast.repository;
+
+import com.admc.closet_cast.entity.WeatherVersion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface WeatherVersionRepository extends JpaRepository<WeatherVersion, WeatherVersion.Grid> {
+
+    // 같은 격자를 동시에 저장해도 버전이 겹치지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<WeatherVersion> findByNxAndNy(int nx, int ny);
+}
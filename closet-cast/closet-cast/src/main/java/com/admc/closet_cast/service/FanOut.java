@@ -0,0 +1,155 @@
+package com.admc.closet_cast.service;
+
+import com.admc.closet_cast.datasource.RoutingSubject;
+import com.admc.closet_cast.querycount.QueryCounter;
+import com.admc.closet_cast.querycount.QueryStats;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 서로 기다릴 필요 없는 작업을 가상 스레드마다 하나씩 동시에 실행하고 모두 끝날 때까지 기다립니다.
+ * StructuredTaskScope.ShutdownOnFailure 와 같은 규칙: 하나가 실패하거나 제한 시간을 넘기면 나머지를 인터럽트로 취소하고
+ * 첫 실패를 호출한 스레드에서 그대로 던집니다. (Java 21 에서는 StructuredTaskScope 가 preview 라 직접 구현)
+ *
+ * 요청 스레드의 인증 정보와 RoutingSubject(복제본 라우팅의 read-your-writes 판단에 사용)는 작업 스레드로 넘기고,
+ * 작업마다 SQL 집계 범위를 따로 열어서 끝난 뒤 요청 범위에 더합니다.
+ * 취소된 작업이 JDBC 호출 중이면 바로 멈추지 않을 수 있지만, 결과는 버리고 기다리지 않습니다.
+ */
+final class FanOut implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Subtask<?>> subtasks = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final SecurityContext securityContext = SecurityContextHolder.getContext();
+    private final String routingSubject = RoutingSubject.current();
+
+    <T> Subtask<T> fork(String name, Duration timeout, Callable<T> task) {
+        Subtask<T> subtask = new Subtask<>(name, timeout);
+        subtasks.add(subtask);
+        subtask.future = executor.submit(() -> run(subtask, task));
+        if (failure.get() != null) {
+            subtask.future.cancel(true); // 앞 작업이 이미 실패함
+        }
+        return subtask;
+    }
+
+    /**
+     * 모든 작업이 끝나길 기다림. 작업이 던진 RuntimeException 은 그대로,
+     * 제한 시간을 넘기면 SubtaskTimeoutException 을 던집니다.
+     */
+    void join() {
+        try {
+            for (Subtask<?> subtask : subtasks) {
+                long remaining = subtask.deadlineNanos - System.nanoTime();
+                try {
+                    subtask.future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+                } catch (ExecutionException | CancellationException e) {
+                    break; // 실패는 run 에서 기록하고 나머지를 취소함
+                } catch (TimeoutException e) {
+                    fail(new SubtaskTimeoutException(subtask.name, subtask.timeout));
+                    break;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    fail(e);
+                    break;
+                }
+            }
+        } finally {
+            for (Subtask<?> subtask : subtasks) {
+                if (subtask.future.isDone() && !subtask.future.isCancelled()) {
+                    QueryCounter.include(subtask.queries);
+                }
+            }
+        }
+
+        Throwable cause = failure.get();
+        if (cause == null) {
+            return;
+        }
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        throw new IllegalStateException("병렬 작업 실패", cause);
+    }
+
+    // 남은 작업을 취소하고 끝나길 기다리지 않음
+    @Override
+    public void close() {
+        cancelAll();
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Subtask<T> subtask, Callable<T> task) throws Exception {
+        SecurityContextHolder.setContext(securityContext);
+        RoutingSubject.Scope subject = RoutingSubject.open(routingSubject);
+        QueryCounter.Scope scope = QueryCounter.open(subtask.name);
+        try {
+            return task.call();
+        } catch (Throwable e) {
+            fail(e);
+            throw e;
+        } finally {
+            scope.close();
+            subtask.queries = scope.stats();
+            subject.close();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private void fail(Throwable cause) {
+        if (failure.compareAndSet(null, cause)) {
+            cancelAll();
+        }
+    }
+
+    private void cancelAll() {
+        for (Subtask<?> subtask : subtasks) {
+            if (subtask.future != null) {
+                subtask.future.cancel(true);
+            }
+        }
+    }
+
+    static final class Subtask<T> {
+
+        private final String name;
+        private final Duration timeout;
+        private final long deadlineNanos;
+        private volatile Future<T> future;
+        private volatile QueryStats queries;
+
+        private Subtask(String name, Duration timeout) {
+            this.name = name;
+            this.timeout = timeout;
+            this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+        }
+
+        // join() 이 정상적으로 끝난 뒤에만 호출
+        T get() {
+            return future.resultNow();
+        }
+    }
+
+    static final class SubtaskTimeoutException extends RuntimeException {
+
+        SubtaskTimeoutException(String name, Duration timeout) {
+            super(name + " 이(가) " + timeout.toMillis() + "ms 안에 끝나지 않음");
+        }
+    }
+}
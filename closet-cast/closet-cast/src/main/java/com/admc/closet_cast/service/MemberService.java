@@ -2,22 +2,30 @@ package com.admc.closet_cast.service;
 
 import com.admc.closet_cast.apiPayload.exception.handler.MemberHandler;
 import com.admc.closet_cast.apiPayload.form.status.ErrorStatus;
+import com.admc.closet_cast.catalog.GarmentCatalog;
+import com.admc.closet_cast.catalog.GarmentIndex;
+import com.admc.closet_cast.config.CacheConfig;
 import com.admc.closet_cast.config.JwtProvider;
 import com.admc.closet_cast.dto.*;
-import com.admc.closet_cast.entity.Cloth;
+import com.admc.closet_cast.entity.ChangeAggregate;
+import com.admc.closet_cast.entity.GarmentCategory;
 import com.admc.closet_cast.entity.Member;
 import com.admc.closet_cast.entity.Preference;
 import com.admc.closet_cast.entity.Tendency;
+import com.admc.closet_cast.outbox.ChangeEventPublisher;
 import com.admc.closet_cast.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,28 +36,8 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
-
-    private final List<Cloth> outer = List.of(
-            Cloth.PUFFER_JACKET,
-            Cloth.COAT,
-            Cloth.FLEECE,
-            Cloth.JACKET,
-            Cloth.WINDBREAKER
-    );
-
-    private final List<Cloth> top = List.of(
-            Cloth.SWEATER,
-            Cloth.HOODIE,
-            Cloth.SHIRT,
-            Cloth.LONG_SLEEVE,
-            Cloth.SHORT_SLEEVE
-    );
-
-    private final List<Cloth> bottom = List.of(
-            Cloth.JEANS,
-            Cloth.COTTON_PANTS,
-            Cloth.SHORTS
-    );
+    private final GarmentCatalog garmentCatalog;
+    private final ChangeEventPublisher changeEventPublisher;
 
     @Transactional
     public SignUpResponseDto signUp(SignUpRequestDto signupDto) {
@@ -65,6 +53,7 @@ public class MemberService {
                 .password(encodedPassword)
                 .preference(signupDto.preference())
                 .tendencies(signupDto.tendencies())
+                .garments(garmentCatalog.current().activeCodes())
                 .build();
 
         memberRepository.save(member);
@@ -99,17 +88,18 @@ public class MemberService {
                         member.getLoginId(),
                         member.getPreferences(),
                         member.getTendencies(),
-                        member.getClothes())
+                        member.getGarments())
                 ).collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.MEMBERS, key = "#memberId")
     public MemberDto findMemberById(Long memberId) {
         Member member = memberRepository.findById(memberId).orElseThrow(
                 () -> new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND)
         );
 
-        return MemberDto.of(member.getId(), member.getName(), member.getLoginId(), member.getPreferences(), member.getTendencies(), member.getClothes());
+        return MemberDto.of(member.getId(), member.getName(), member.getLoginId(), member.getPreferences(), member.getTendencies(), member.getGarments());
     }
 
     @Transactional
@@ -133,23 +123,12 @@ public class MemberService {
             member.setTendencies(requestDto.tendencies());
         }
         if (requestDto.clothes() != null) {
-
-            if (requestDto.clothes().stream().noneMatch(outer::contains)) {
-                throw new MemberHandler(ErrorStatus.INVALID_CLOTHES);
-            }
-
-            if (requestDto.clothes().stream().noneMatch(top::contains)) {
-                throw new MemberHandler(ErrorStatus.INVALID_CLOTHES);
-            }
-
-            if (requestDto.clothes().stream().noneMatch(bottom::contains)) {
-                throw new MemberHandler(ErrorStatus.INVALID_CLOTHES);
-            }
-
-            member.setClothes(requestDto.clothes());
+            validateCloset(requestDto.clothes());
+            member.setGarments(new ArrayList<>(requestDto.clothes()));
         }
+        changeEventPublisher.publish(ChangeAggregate.MEMBER, String.valueOf(member.getId()));
 
-        return MemberUpdateResponseDto.of(member.getId(), member.getPassword(), member.getPreferences(), member.getTendencies(), member.getClothes());
+        return MemberUpdateResponseDto.of(member.getId(), member.getPassword(), member.getPreferences(), member.getTendencies(), member.getGarments());
     }
 
     @Transactional
@@ -158,9 +137,25 @@ public class MemberService {
                 () -> new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND)
         );
 
-        MemberDto dto = MemberDto.of(member.getId(), member.getName(), member.getLoginId(), member.getPreferences(), member.getTendencies(), member.getClothes());
+        MemberDto dto = MemberDto.of(member.getId(), member.getName(), member.getLoginId(), member.getPreferences(), member.getTendencies(), member.getGarments());
         memberRepository.deleteById(memberId);
+        changeEventPublisher.publish(ChangeAggregate.MEMBER, String.valueOf(memberId));
 
         return dto;
     }
+
+    // 카탈로그에 있는 옷만, 아우터/상의/하의 각각 최소 하나
+    private void validateCloset(List<String> codes) {
+        GarmentIndex catalog = garmentCatalog.current();
+        Set<GarmentCategory> categories = EnumSet.noneOf(GarmentCategory.class);
+        for (String code : codes) {
+            if (!catalog.isSelectable(code)) {
+                throw new MemberHandler(ErrorStatus.UNKNOWN_GARMENT);
+            }
+            catalog.find(code).ifPresent(garment -> categories.add(garment.getCategory()));
+        }
+        if (categories.size() < GarmentCategory.values().length) {
+            throw new MemberHandler(ErrorStatus.INVALID_CLOTHES);
+        }
+    }
 }
@@ -0,0 +1,28 @@
+package com.admc.closet_cast.service;
+
+import com.admc.closet_cast.admission.Priority;
+import com.admc.closet_cast.dto.RecommendDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * RecommendService 의 논블로킹 버전
+ * 회원/날씨 조회만 jpaScheduler 에서 하고, GPT 호출은 이벤트 루프에서 이어 받습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "closetcast.web.mode", havingValue = "reactive")
+public class ReactiveRecommendService {
+
+    private final RecommendService recommendService;
+    private final Scheduler jpaScheduler;
+
+    public Mono<RecommendDto> getReply(Long memberId, Priority priority, long deadlineNanos) {
+        return Mono.fromCallable(() -> recommendService.loadContext(memberId))
+                .subscribeOn(jpaScheduler)
+                .flatMap(context -> recommendService.requestReply(context, priority, deadlineNanos));
+    }
+}
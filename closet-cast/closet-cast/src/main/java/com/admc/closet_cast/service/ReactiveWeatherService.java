@@ -0,0 +1,44 @@
+package com.admc.closet_cast.service;
+
+import com.admc.closet_cast.client.KmaClient;
+import com.admc.closet_cast.dto.DailyWeatherDto;
+import com.admc.closet_cast.dto.WeatherDeltaDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * WeatherService 의 논블로킹 버전
+ * 외부 호출은 그대로 이어 붙이고, DB 작업만 jpaScheduler 에서 실행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "closetcast.web.mode", havingValue = "reactive")
+public class ReactiveWeatherService {
+
+    private final KmaClient kmaClient;
+    private final WeatherService weatherService;
+    private final Scheduler jpaScheduler;
+
+    public Mono<List<DailyWeatherDto>> getForecast(String baseDate, String baseTime, int nx, int ny) {
+        return kmaClient.getVilageFcst(baseDate, baseTime, nx, ny)
+                .publishOn(jpaScheduler)
+                .map(json -> weatherService.ingest(json, nx, ny));
+    }
+
+    public Mono<Optional<WeatherDeltaDto>> getDelta(LocalDate today, Long since) {
+        return Mono.fromCallable(() -> weatherService.getDelta(today, since))
+                .subscribeOn(jpaScheduler);
+    }
+
+    public Mono<List<DailyWeatherDto>> getDailyWeather(LocalDate today) {
+        return Mono.fromCallable(() -> weatherService.getDailyWeather(today))
+                .subscribeOn(jpaScheduler);
+    }
+}
@@ -0,0 +1,31 @@
+package com.admc.closet_cast.service;
+
+import com.admc.closet_cast.dto.RecommendDto;
+import com.admc.closet_cast.entity.ComfortModel;
+import com.admc.closet_cast.entity.Preference;
+import com.admc.closet_cast.entity.Tendency;
+
+import java.util.List;
+
+/**
+ * 추천 요청에 필요한 회원/날씨 정보 스냅샷
+ * 트랜잭션 밖(다른 스레드)에서도 지연 로딩 없이 쓸 수 있도록 값만 담습니다.
+ */
+public record RecommendContext(
+        Long memberId,
+        // 가진 옷 (garment.code)
+        List<String> garments,
+        List<Preference> preferences,
+        List<Tendency> tendencies,
+        Double maxTemp,
+        Double minTemp,
+        Double maxFeel,
+        Double minFeel,
+        // 회원 체감 모델 복사본
+        ComfortModel comfort,
+        // 오늘 같은 날씨로 이미 받은 추천 (없으면 null)
+        RecommendDto cached,
+        // 조회를 시작한 시각 (System.nanoTime). GPT 호출 전까지 걸린 시간 측정용
+        long startedNanos
+) {
+}
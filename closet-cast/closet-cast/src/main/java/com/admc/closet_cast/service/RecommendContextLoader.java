@@ -0,0 +1,208 @@
+package com.admc.closet_cast.service;
+
+import com.admc.closet_cast.apiPayload.exception.handler.MemberHandler;
+import com.admc.closet_cast.apiPayload.exception.handler.RecommendHandler;
+import com.admc.closet_cast.apiPayload.exception.handler.WeatherHandler;
+import com.admc.closet_cast.apiPayload.form.status.ErrorStatus;
+import com.admc.closet_cast.comfort.ComfortProperties;
+import com.admc.closet_cast.comfort.LocalRecommender;
+import com.admc.closet_cast.datasource.RoutingSubject;
+import com.admc.closet_cast.dto.RecommendDto;
+import com.admc.closet_cast.entity.ComfortModel;
+import com.admc.closet_cast.entity.FeedbackType;
+import com.admc.closet_cast.entity.Member;
+import com.admc.closet_cast.entity.Preference;
+import com.admc.closet_cast.entity.RecommendationHistory;
+import com.admc.closet_cast.entity.Tendency;
+import com.admc.closet_cast.entity.Weather;
+import com.admc.closet_cast.entity.WeatherSummary;
+import com.admc.closet_cast.metrics.RecommendMetrics;
+import com.admc.closet_cast.repository.MemberRepository;
+import com.admc.closet_cast.repository.RecommendationFeedbackRepository;
+import com.admc.closet_cast.repository.RecommendationHistoryRepository;
+import com.admc.closet_cast.repository.WeatherRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 추천에 필요한 값을 모아 RecommendContext 를 만듭니다.
+ * 회원(옷장/선호/성향/체감 모델), 오늘 예보 요약, 오늘 마지막 추천 이력은 서로 기다릴 필요가 없어서
+ * 가상 스레드에서 동시에 읽고(FanOut), 셋이 다 모이면 이력을 다시 쓸 수 있는지 메모리에서 판단합니다.
+ * 조회마다 따로 readOnly 트랜잭션(복제본)을 쓰므로 트랜잭션 밖에서도 지연 로딩 없이 쓸 수 있는 값만 꺼냅니다.
+ */
+@Component
+public class RecommendContextLoader {
+
+    private static final List<FeedbackType> REJECTIONS = List.of(FeedbackType.TOO_COLD, FeedbackType.TOO_HOT);
+
+    private final MemberRepository memberRepository;
+    private final WeatherRepository weatherRepository;
+    private final RecommendationHistoryRepository recommendationHistoryRepository;
+    private final RecommendationFeedbackRepository recommendationFeedbackRepository;
+    private final ComfortProperties comfortProperties;
+    private final RecommendContextProperties properties;
+    private final RecommendMetrics recommendMetrics;
+    private final TransactionTemplate readOnly;
+
+    public RecommendContextLoader(MemberRepository memberRepository, WeatherRepository weatherRepository,
+                                  RecommendationHistoryRepository recommendationHistoryRepository,
+                                  RecommendationFeedbackRepository recommendationFeedbackRepository,
+                                  ComfortProperties comfortProperties, RecommendContextProperties properties,
+                                  RecommendMetrics recommendMetrics, PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.weatherRepository = weatherRepository;
+        this.recommendationHistoryRepository = recommendationHistoryRepository;
+        this.recommendationFeedbackRepository = recommendationFeedbackRepository;
+        this.comfortProperties = comfortProperties;
+        this.properties = properties;
+        this.recommendMetrics = recommendMetrics;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    public RecommendContext load(Long memberId) {
+        // 리액티브 모드에서는 jpaScheduler 스레드에서 불리므로 요청 인터셉터가 연 키가 없음
+        try (RoutingSubject.Scope ignored = RoutingSubject.open(RoutingSubject.member(memberId))) {
+            return load(memberId, System.nanoTime());
+        }
+    }
+
+    private RecommendContext load(Long memberId, long start) {
+        LocalDate today = LocalDate.now();
+        boolean parallel = properties.isParallel();
+
+        MemberSnapshot member;
+        Forecast forecast;
+        LastRecommendation last;
+        if (parallel) {
+            try (FanOut fanOut = new FanOut()) {
+                FanOut.Subtask<MemberSnapshot> memberTask = fanOut.fork("member", properties.getMemberTimeout(),
+                        () -> inTransaction(() -> loadMember(memberId)));
+                FanOut.Subtask<Forecast> forecastTask = fanOut.fork("forecast", properties.getForecastTimeout(),
+                        () -> inTransaction(() -> loadForecast(today)));
+                FanOut.Subtask<LastRecommendation> historyTask = fanOut.fork("history", properties.getHistoryTimeout(),
+                        () -> inTransaction(() -> loadLastRecommendation(memberId, today)));
+                fanOut.join();
+                member = memberTask.get();
+                forecast = forecastTask.get();
+                last = historyTask.get();
+            } catch (FanOut.SubtaskTimeoutException e) {
+                throw new RecommendHandler(ErrorStatus.RECOMMEND_CONTEXT_TIMEOUT);
+            }
+        } else {
+            member = inTransaction(() -> loadMember(memberId));
+            forecast = inTransaction(() -> loadForecast(today));
+            last = inTransaction(() -> loadLastRecommendation(memberId, today));
+        }
+        recommendMetrics.context(parallel, System.nanoTime() - start);
+
+        return new RecommendContext(
+                member.id(),
+                member.garments(),
+                member.preferences(),
+                member.tendencies(),
+                forecast.tmx(),
+                forecast.tmn(),
+                forecast.maxFeel(),
+                forecast.minFeel(),
+                member.comfort(),
+                reusable(last, member, forecast),
+                start
+        );
+    }
+
+    private <T> T inTransaction(Callable<T> query) {
+        return readOnly.execute(status -> {
+            try {
+                return query.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private MemberSnapshot loadMember(Long memberId) {
+        Member member = memberRepository.findById(memberId).orElseThrow(
+                () -> new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND)
+        );
+        ComfortModel comfort = member.getComfort() != null
+                ? member.getComfort().copy()
+                : ComfortModel.initial(member.getTendencies());
+        return new MemberSnapshot(
+                member.getId(),
+                List.copyOf(member.getGarments()),
+                List.copyOf(member.getPreferences()),
+                List.copyOf(member.getTendencies()),
+                comfort);
+    }
+
+    // 수집할 때 계산해 둔 체감온도 요약. 시간별 예보가 없으면 일 최고/최저 기온으로
+    private Forecast loadForecast(LocalDate today) {
+        Weather weather = weatherRepository.findByNxAndNyAndDate(WeatherService.NX, WeatherService.NY, today).orElseThrow(
+                () -> new WeatherHandler(ErrorStatus.NO_DATA)
+        );
+        WeatherSummary summary = weather.getSummary();
+        Double maxFeel = summary.getMaxFeel() != null ? summary.getMaxFeel() : weather.getTmx();
+        Double minFeel = summary.getMinFeel() != null ? summary.getMinFeel() : weather.getTmn();
+        if (maxFeel == null || minFeel == null) {
+            throw new WeatherHandler(ErrorStatus.NO_DATA);
+        }
+        return new Forecast(weather.getTmx(), weather.getTmn(), maxFeel, minFeel);
+    }
+
+    // 오늘 마지막 추천과, 그 추천에 춥다/덥다 피드백이 있었는지
+    private LastRecommendation loadLastRecommendation(Long memberId, LocalDate today) {
+        RecommendationHistory last = recommendationHistoryRepository
+                .findFirstByMemberIdAndRecommendDateOrderByCreatedAtDesc(memberId, today)
+                .orElse(null);
+        if (last == null || last.getMaxFeel() == null || last.getMinFeel() == null) {
+            return null;
+        }
+        boolean rejected = recommendationFeedbackRepository.existsByRecommendationIdAndFeedbackIn(last.getId(), REJECTIONS);
+        return new LastRecommendation(last, rejected);
+    }
+
+    /**
+     * 오늘 받은 마지막 추천을 다시 쓸 수 있으면 돌려줍니다.
+     * 체감온도가 거의 같고, 춥다/덥다는 피드백이 없고, 그 옷을 아직 가지고 있어야 합니다.
+     */
+    private RecommendDto reusable(LastRecommendation last, MemberSnapshot member, Forecast forecast) {
+        if (last == null || last.rejected()) {
+            return null;
+        }
+        RecommendationHistory history = last.history();
+        double tolerance = comfortProperties.getCacheTolerance();
+        if (Math.abs(history.getMaxFeel() - forecast.maxFeel()) > tolerance
+                || Math.abs(history.getMinFeel() - forecast.minFeel()) > tolerance) {
+            return null;
+        }
+        if (!owns(member, history.getOuterItem()) || !owns(member, history.getTopItem()) || !owns(member, history.getBottomItem())) {
+            return null;
+        }
+        return new RecommendDto(history.getOuterItem(), history.getTopItem(), history.getBottomItem(), history.getId());
+    }
+
+    private static boolean owns(MemberSnapshot member, String item) {
+        if (item == null || item.equalsIgnoreCase(LocalRecommender.NONE)) {
+            return true;
+        }
+        return member.garments().stream().anyMatch(code -> code.equalsIgnoreCase(item));
+    }
+
+    private record MemberSnapshot(Long id, List<String> garments, List<Preference> preferences,
+                                  List<Tendency> tendencies, ComfortModel comfort) {
+    }
+
+    private record Forecast(Double tmx, Double tmn, Double maxFeel, Double minFeel) {
+    }
+
+    private record LastRecommendation(RecommendationHistory history, boolean rejected) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.admc.closet_cast.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "recommend.context")
+public class RecommendContextProperties {
+
+    // 회원/예보/오늘 추천 이력을 가상 스레드에서 동시에 읽음. false 면 순서대로 (요청 하나가 커넥션을 최대 3개 쓰지 않게)
+    private boolean parallel = true;
+
+    // 각 조회의 제한 시간 (parallel 일 때만). 넘기면 나머지를 취소하고 504
+    private Duration memberTimeout = Duration.ofSeconds(1);
+    private Duration forecastTimeout = Duration.ofSeconds(1);
+    private Duration historyTimeout = Duration.ofSeconds(1);
+}
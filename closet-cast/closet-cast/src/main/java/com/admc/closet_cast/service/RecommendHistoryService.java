@@ -0,0 +1,82 @@
+package com.admc.closet_cast.service;
+
+import com.admc.closet_cast.apiPayload.exception.handler.RecommendHandler;
+import com.admc.closet_cast.apiPayload.form.status.ErrorStatus;
+import com.admc.closet_cast.comfort.ComfortService;
+import com.admc.closet_cast.dto.FeedbackRequestDto;
+import com.admc.closet_cast.dto.RecommendDto;
+import com.admc.closet_cast.entity.RecommendSource;
+import com.admc.closet_cast.entity.RecommendationHistory;
+import com.admc.closet_cast.history.HistoryEvent;
+import com.admc.closet_cast.history.HistoryWriter;
+import com.admc.closet_cast.repository.RecommendationFeedbackRepository;
+import com.admc.closet_cast.repository.RecommendationHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 추천 이력과 피드백 기록
+ * 추천 이력은 DB 에 바로 쓰지 않고 HistoryWriter 버퍼에 넣기만 하므로 요청 지연에 영향이 없습니다.
+ * 피드백은 체감 모델 학습에 쓰이므로 저장된 이력으로 검증하고 추천당 한 번만 바로 저장합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecommendHistoryService {
+
+    private final HistoryWriter historyWriter;
+    private final RecommendationHistoryRepository recommendationHistoryRepository;
+    private final RecommendationFeedbackRepository recommendationFeedbackRepository;
+    private final ComfortService comfortService;
+
+    /**
+     * 추천 결과를 기록하고, 피드백에 쓸 ID 를 붙여서 돌려줍니다.
+     */
+    public RecommendDto remember(RecommendContext context, RecommendDto recommend, RecommendSource source) {
+        String id = UUID.randomUUID().toString();
+        historyWriter.offer(new HistoryEvent.Recommendation(
+                id,
+                context.memberId(),
+                LocalDate.now(),
+                context.maxTemp(),
+                context.minTemp(),
+                context.maxFeel(),
+                context.minFeel(),
+                recommend.outer(),
+                recommend.top(),
+                recommend.bottom(),
+                source,
+                LocalDateTime.now()));
+        return recommend.withRecommendationId(id);
+    }
+
+    /**
+     * 그 회원이 받은 추천에만 피드백할 수 있고, 입은 옷은 이력에 저장된 값을 씁니다.
+     * 같은 추천에 다시 보내면 저장도 학습도 하지 않습니다. (재시도에 안전)
+     */
+    @Transactional
+    public void recordFeedback(Long memberId, FeedbackRequestDto request) {
+        if (request.recommendationId() == null || request.feedback() == null) {
+            throw new RecommendHandler(ErrorStatus.INVALID_FEEDBACK);
+        }
+        RecommendationHistory recommendation = recommendationHistoryRepository
+                .findByIdAndMemberId(request.recommendationId(), memberId)
+                .orElseThrow(() -> new RecommendHandler(ErrorStatus.INVALID_FEEDBACK));
+
+        int inserted = recommendationFeedbackRepository.insertIfAbsent(
+                recommendation.getId(),
+                memberId,
+                request.feedback().name(),
+                recommendation.getOuterItem(),
+                recommendation.getTopItem(),
+                recommendation.getBottomItem(),
+                LocalDateTime.now());
+        if (inserted > 0) {
+            comfortService.learn(memberId, request.feedback(), recommendation);
+        }
+    }
+}
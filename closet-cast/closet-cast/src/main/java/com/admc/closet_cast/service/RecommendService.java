@@ -1,163 +1,162 @@
 package com.admc.closet_cast.service;
 
-import com.admc.closet_cast.apiPayload.exception.handler.MemberHandler;
-import com.admc.closet_cast.apiPayload.exception.handler.WeatherHandler;
-import com.admc.closet_cast.apiPayload.form.status.ErrorStatus;
+import com.admc.closet_cast.admission.AdmissionController;
+import com.admc.closet_cast.admission.Priority;
+import com.admc.closet_cast.apiPayload.exception.GeneralException;
+import com.admc.closet_cast.cache.TieredCache;
+import com.admc.closet_cast.client.OpenAiClient;
+import com.admc.closet_cast.comfort.LocalRecommender;
 import com.admc.closet_cast.dto.RecommendDto;
-import com.admc.closet_cast.entity.HourlyWeather;
-import com.admc.closet_cast.entity.Member;
-import com.admc.closet_cast.entity.Weather;
-import com.admc.closet_cast.repository.HourlyWeatherRepository;
-import com.admc.closet_cast.repository.MemberRepository;
-import com.admc.closet_cast.repository.WeatherRepository;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.admc.closet_cast.entity.RecommendSource;
+import com.admc.closet_cast.metrics.RecommendMetrics;
+import com.admc.closet_cast.prompt.Prompt;
+import com.admc.closet_cast.prompt.PromptBuilder;
+import com.admc.closet_cast.prompt.PromptLayout;
+import com.admc.closet_cast.prompt.PromptProperties;
+import com.admc.closet_cast.reply.OutfitReplyParser;
+import com.admc.closet_cast.reply.OutfitValidator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.hc.client5.http.classic.methods.HttpPost;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.core5.http.io.entity.StringEntity;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Mono;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
-//    LLM결과 string으로 그대로 쏴줄거임.
-//    LLM의 ouput을
-//    온도:
-//    체감온도:
-//    옷 종류:
-//
-//    output을 사용자의 옷 종류에 한정해서 이야기해줘.
-//    ex) (맨투맨, 청바지)
-//    (맨투맨, 청바지)
-//    (String, String)
-//    TOP BOTTOM
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class RecommendService {
 
-    @Value("${openai.secret-key}")
-    private String apiKey;
-
-    private final ObjectMapper mapper = new ObjectMapper();
-    private final MemberRepository memberRepository;
-    private final WeatherRepository weatherRepository;
-    private final HourlyWeatherRepository hourlyWeatherRepository;
-
-    private static final String API_URL = "https://api.openai.com/v1/chat/completions";
+    private static final JavaType RECOMMEND_TYPE = TypeFactory.defaultInstance().constructType(RecommendDto.class);
 
-    // 💡 RestTemplate은 생성자 주입(DI) 받는 것을 권장합니다. (하단 설명 참고)
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OpenAiClient openAiClient;
+    private final RecommendHistoryService recommendHistoryService;
+    private final LocalRecommender localRecommender;
+    private final RecommendMetrics recommendMetrics;
+    private final OutfitValidator outfitValidator;
+    private final PromptBuilder promptBuilder;
+    private final PromptProperties promptProperties;
+    private final TieredCache tieredCache;
+    private final RecommendContextLoader contextLoader;
+    private final AdmissionController admissionController;
 
     /**
      * GPT Chat API에 옷 추천 요청을 보냅니다.
+     * priority, deadlineNanos 는 GPT 를 실제로 호출할 때의 승인 제어(AdmissionController)에만 씁니다.
      */
-    public RecommendDto getReply(Long memberId) throws Exception {
-        Member member = memberRepository.findById(memberId).orElseThrow(
-                () -> new MemberHandler(ErrorStatus.MEMBER_NOT_FOUND)
-        );
+    public RecommendDto getReply(Long memberId, Priority priority, long deadlineNanos) throws Exception {
+        RecommendContext context = loadContext(memberId);
 
-        String clothes = member.getClothes().toString(); // ex: "[맨투맨, 후드티, 청바지, 슬랙스]"
-        String preference = member.getPreferences().toString();     // ex: "편안한 스타일 선호"
-        String tendencies = member.getTendencies().toString(); // ex: "[추위 많이 탐]"
+        try {
+            return requestReply(context, priority, deadlineNanos).block();
+        } catch (GeneralException e) {
+            throw e; // 기한 초과, 과부하 등은 그대로 응답 코드로
+        } catch (Exception e) {
+            log.error("GPT API 요청 중 오류 발생", e); // 💡 예외 발생 시 로그 남기기
+            throw new Exception("GPT API 요청 중 오류 발생", e);
+        }
+    }
 
-        LocalDateTime today = LocalDateTime.now();
-        Weather weather = weatherRepository.findByDate(today.format(DateTimeFormatter.ofPattern("yyyyMMdd"))).orElseThrow(
-                () -> new WeatherHandler(ErrorStatus.NO_DATA)
-        );
-        Double max_temp = weather.getTmx();
-        Double min_temp = weather.getTmn();
-
-//        Long weatherId = weather.getId();
-        List<HourlyWeather> hourlyWeathers = hourlyWeatherRepository.findByWeather(weather);
-
-        Double max_feel = hourlyWeathers.stream().mapToDouble(HourlyWeather::getTemperature).max().getAsDouble();
-        Double min_feel = hourlyWeathers.stream().mapToDouble(HourlyWeather::getTemperature).min().getAsDouble();
-
-        String systemPrompt = String.format(
-                "너는 사용자의 옷장 정보를 기반으로 날씨에 맞는 옷을 추천하는 패션 어시턴트야. " +
-                        "사용자가 가진 옷 목록은 다음과 같아: [%s]. " +
-                        "이 옷 중에서 PUFFER_JACKET, FLEECE, JACKET, WIND_BREAKER는 아우터, SWEATER, HOODIE, SHIRT, LONG_SLEEVE, SHORT_SLEEVE는 상의, JEANS, COTTON_PANTS, SHORTS는 하의야."+
-                        "반드시 이 목록 안에서만 (아우터, 상의, 하의) 조합을 추천해야 해. " +
-                        "다른 설명, 인사, 날씨 브리핑 없이 오직 (아우터, 상의 아이템, 하의 아이템) 형식으로만 대답해야 해. " +
-                        "만약 아우터가 필요 없는 날씨라면, 아우터칸은 None으로 대답해줘." +
-                        "예시: (아우터, 맨투맨, 청바지), 또는 (None, 맨투맨, 청바지)",
-                clothes
-        );
+    /**
+     * 회원 정보와 오늘 날씨를 읽어 추천에 필요한 값만 모읍니다. (RecommendContextLoader)
+     */
+    public RecommendContext loadContext(Long memberId) {
+        return contextLoader.load(memberId);
+    }
 
-        String userPrompt = String.format(
-                "오늘 최고기온 %f도, 최저기온 %f도, 체감 최고기온 %f도, 체감 최저기온 %f도야. " +
-                        "내 패션 선호도는 '%s'이고, 내 성향은 '%s'이야. " +
-                        "내가 가진 옷 중에서 (아우터, 상의, 하의) 조합 하나만 추천해줘.",
-                max_temp, min_temp, max_feel, min_feel, preference, tendencies
-        );
+    /**
+     * 오늘 이력 재사용 -> 체감 모델로 로컬 추천 -> GPT 순서로 시도합니다.
+     * 앞의 두 경우는 OpenAI 를 호출하지 않으므로 승인 대기 없이 바로 돌려줍니다.
+     */
+    public Mono<RecommendDto> requestReply(RecommendContext context, Priority priority, long deadlineNanos) {
+        if (context.cached() != null) {
+            recommendMetrics.cache();
+            return Mono.just(context.cached());
+        }
+        RecommendDto local = recommendLocally(context);
+        if (local != null) {
+            recommendMetrics.local();
+            return Mono.just(recommendHistoryService.remember(context, local, RecommendSource.LOCAL));
+        }
+        return requestLlmReply(context, priority, deadlineNanos);
+    }
+
+    private RecommendDto recommendLocally(RecommendContext context) {
+        if (!localRecommender.isConfident(context.comfort()) || context.maxFeel() == null || context.minFeel() == null) {
+            return null;
+        }
+        return localRecommender.recommend(context.comfort(), context.garments(), context.maxFeel(), context.minFeel());
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
+    /**
+     * 같은 프롬프트로 이미 받은 GPT 답이 2단 캐시(near + Redis)에 있으면 그대로 쓰고, 없으면 GPT 를 호출합니다.
+     * 프롬프트에 옷장, 선호, 성향, 기온이 모두 들어 있으므로 입력이 같은 회원끼리, 노드끼리 답을 나눠 씁니다.
+     * 추천 이력은 회원마다 새로 남깁니다.
+     * 승인 제어는 GPT 호출에만 걸어서, 캐시 적중의 짧은 지연이 동시 처리 한도 조절에 섞이지 않게 합니다.
+     */
+    private Mono<RecommendDto> requestLlmReply(RecommendContext context, Priority priority, long deadlineNanos) {
+        Prompt prompt = promptBuilder.build(context);
+        return tieredCache.getAsync(TieredCache.RECOMMENDATION, prompt.cacheKey(), RECOMMEND_TYPE,
+                        () -> admissionController.execute(priority, deadlineNanos, () -> {
+                            recommendMetrics.llm();
+                            recommendMetrics.preLlm(System.nanoTime() - context.startedNanos());
+                            return callLlm(prompt, context);
+                        }))
+                .map(recommend -> recommendHistoryService.remember(context, recommend, RecommendSource.LLM));
+    }
 
+    /**
+     * 블로킹 없이 GPT 를 호출하고 응답을 파싱합니다.
+     */
+    private Mono<RecommendDto> callLlm(Prompt prompt, RecommendContext context) {
         ChatRequest chatRequest = new ChatRequest(
                 "gpt-4o",
                 Arrays.asList(
-                        new ChatMessage("system", systemPrompt),
-                        new ChatMessage("user", userPrompt)
+                        new ChatMessage("system", prompt.system()),
+                        new ChatMessage("user", prompt.user())
                 ),
                 100,
-                0.2
+                0.2,
+                prompt.responseFormat(),
+                promptProperties.getCacheKey() == null || promptProperties.getCacheKey().isBlank()
+                        ? null : promptProperties.getCacheKey()
         );
 
-        HttpEntity<ChatRequest> entity = new HttpEntity<>(chatRequest, headers);
-
-        try {
-            ResponseEntity<ChatResponse> response = restTemplate.postForEntity(
-                    API_URL,
-                    entity,
-                    ChatResponse.class
-            );
-
-//            log.info("API Response: {}", response.toString()); // API 전체 응답 확인
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                String gptReply = response.getBody().choices().get(0).message().content();
-
-                // 파싱 로직
-                String cleaned = gptReply.replaceAll("[()\\s]", ""); // ( ) 및 공백 제거
-                String[] parts = cleaned.split(",");
-                String outer = parts.length > 0 ? parts[0] : "";
-                String top = parts.length > 1 ? parts[1] : "";
-                String bottom = parts.length > 1 ? parts[2] : "";
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return openAiClient.chatCompletions(chatRequest, ChatResponse.class)
+                            .doOnSuccess(response -> openAiClient.recordCompletion(prompt.layout(), System.nanoTime() - start));
+                })
+                .map(response -> toRecommendDto(response, context, prompt.layout()));
+    }
 
-//                log.info("gpt-reply: {}", gptReply);
-//                log.info("cleaned: {}", cleaned);
-//                log.info("outer: {}", outer);
-//                log.info("top: {}", top);
-//                log.info("bottom: {}", bottom);
+    private RecommendDto toRecommendDto(ResponseEntity<ChatResponse> response, RecommendContext context, PromptLayout layout) {
+        log.debug("API Response: {}", response); // API 전체 응답 확인
 
-                //                log.info("Returning DTO: {}", resultDto.toString());
+        if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
+            throw new IllegalStateException("GPT API 호출 실패: " + response.getStatusCode());
+        }
 
-                return new RecommendDto(outer, top, bottom); // 수정된 DTO 반환
+        ChatResponse body = response.getBody();
+        if (body.usage() != null) {
+            Usage usage = body.usage();
+            int cached = usage.prompt_tokens_details() != null ? usage.prompt_tokens_details().cached_tokens() : 0;
+            openAiClient.recordUsage(layout, usage.prompt_tokens(), cached, usage.completion_tokens());
+        }
+        String gptReply = body.choices().get(0).message().content();
 
-            } else {
-                throw new Exception("GPT API 호출 실패: " + response.getStatusCode());
-            }
+        log.debug("gpt-reply: {}", gptReply);
 
-        } catch (Exception e) {
-            log.error("GPT API 요청 중 오류 발생", e); // 💡 예외 발생 시 로그 남기기
-            throw new Exception("GPT API 요청 중 오류 발생", e);
-        }
+        // 가진 옷인지 확인하고, 틀린 부분은 다시 호출하지 않고 고침
+        return outfitValidator.validate(OutfitReplyParser.parse(gptReply), context.garments(),
+                context.maxFeel(), context.minFeel());
     }
 
     // --- OpenAI API 요청/응답을 위한 DTO ---
@@ -170,7 +169,11 @@ public class RecommendService {
             String model,
             List<ChatMessage> messages,
             int max_tokens,
-            double temperature
+            double temperature,
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            Map<String, Object> response_format,
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            String prompt_cache_key
     ) {}
 
     /**
@@ -187,7 +190,25 @@ public class RecommendService {
      * OpenAI Chat API 응답
      */
     private record ChatResponse(
-            List<Choice> choices
+            List<Choice> choices,
+            Usage usage
+    ) {}
+
+    /**
+     * API 응답 - 토큰 사용량
+     */
+    private record Usage(
+            int prompt_tokens,
+            int completion_tokens,
+            int total_tokens,
+            PromptTokensDetails prompt_tokens_details
+    ) {}
+
+    /**
+     * API 응답 - 프롬프트 토큰 상세 (캐시에서 읽은 토큰 수)
+     */
+    private record PromptTokensDetails(
+            int cached_tokens
     ) {}
 
     /**
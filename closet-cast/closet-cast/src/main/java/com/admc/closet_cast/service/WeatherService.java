@@ -1,212 +1,400 @@
 package com.admc.closet_cast.service;
 
+import com.admc.closet_cast.apiPayload.exception.handler.WeatherHandler;
+import com.admc.closet_cast.apiPayload.form.status.ErrorStatus;
+import com.admc.closet_cast.client.KmaClient;
+import com.admc.closet_cast.cache.TieredCache;
+import com.admc.closet_cast.dto.DailyWeatherChangeDto;
 import com.admc.closet_cast.dto.DailyWeatherDto;
 import com.admc.closet_cast.dto.HourlyWeatherDto;
+import com.admc.closet_cast.dto.WeatherDeltaDto;
+import com.admc.closet_cast.entity.ChangeAggregate;
 import com.admc.closet_cast.entity.HourlyWeather;
 import com.admc.closet_cast.entity.Weather;
+import com.admc.closet_cast.entity.WeatherVersion;
+import com.admc.closet_cast.metrics.IngestMetrics;
+import com.admc.closet_cast.metrics.WeatherSyncMetrics;
+import com.admc.closet_cast.outbox.ChangeEventPublisher;
 import com.admc.closet_cast.repository.HourlyWeatherRepository;
 import com.admc.closet_cast.repository.WeatherRepository;
+import com.admc.closet_cast.repository.WeatherVersionRepository;
+import com.admc.closet_cast.sync.ForecastChangeLog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class WeatherService {
-    private final WebClient.Builder webClientBuilder;
+    private final KmaClient kmaClient;
     private final WeatherRepository weatherRepository;
     private final HourlyWeatherRepository hourlyWeatherRepository;
+    private final IngestMetrics ingestMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final WeatherVersionRepository weatherVersionRepository;
+    private final ForecastChangeLog forecastChangeLog;
+    private final WeatherSyncMetrics weatherSyncMetrics;
+    private final ChangeEventPublisher changeEventPublisher;
+    private final TieredCache tieredCache;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JavaType FORECAST_TYPE =
+            TypeFactory.defaultInstance().constructCollectionType(List.class, DailyWeatherDto.class);
+
+    // 기본 예보 격자 (서울 종로구)
+    public static final int NX = 55;
+    public static final int NY = 127;
+
+    // 기상청 fcstDate, API 응답의 날짜 형식 (yyyyMMdd)
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
 
-    @Transactional
     public List<DailyWeatherDto> getForecast(String baseDate, String baseTime, int nx, int ny) {
-        WebClient webClient = webClientBuilder.baseUrl("https://apihub.kma.go.kr/api/typ02/openApi/VilageFcstInfoService_2.0").build();
-        String authKey = "iUT6NVMERleE-jVTBFZX_g";
-        String uri = UriComponentsBuilder.fromPath("/getVilageFcst")
-                .queryParam("authKey", authKey)
-                .queryParam("pageNo", "1")
-                .queryParam("numOfRows", "1000")
-                .queryParam("dataType", "JSON")
-                .queryParam("base_date", baseDate)
-                .queryParam("base_time", baseTime)
-                .queryParam("nx", nx)
-                .queryParam("ny", ny)
-                .toUriString();
-
-        String json = webClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
-
-        List<DailyWeatherDto> result = parseWeatherResponse(json);
-        saveWeatherToDB(result);
+        String json = kmaClient.getVilageFcst(baseDate, baseTime, nx, ny).block();
+
+        return ingest(json, nx, ny);
+    }
+
+    /**
+     * 기상청 응답을 파싱해서 저장합니다.
+     * 외부 API 를 기다리는 동안 DB 커넥션을 잡지 않도록 저장 구간에만 트랜잭션을 겁니다.
+     */
+    public List<DailyWeatherDto> ingest(String json, int nx, int ny) {
+        List<DailyWeatherDto> result = parse(json);
+        transactionTemplate.executeWithoutResult(status -> saveWeatherToDB(result, nx, ny));
 
         return result;
     }
 
+    private List<DailyWeatherDto> parse(String json) {
+        long start = System.nanoTime();
+        try {
+            return parseWeatherResponse(json);
+        } catch (Exception e) {
+            ingestMetrics.getParseErrors().increment();
+            log.error("기상청 응답 파싱 실패", e);
+            return Collections.emptyList();
+        } finally {
+            ingestMetrics.getParseTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 예보를 제자리에서 갱신합니다. (upsert)
+     * 시간별 행은 지우고 다시 넣지 않고, 값이 바뀐 시각만 수정/추가하고 응답에서 사라진 시각만 지웁니다.
+     * 일별 요약(WeatherSummary)은 고친 시간별 목록으로 다시 계산해서 같은 트랜잭션에 저장합니다.
+     * 바뀐 값이 있으면 격자 버전을 올리고, 커밋 후 변경분을 ForecastChangeLog 에 남깁니다.
+     */
     @Transactional
-    public void saveWeatherToDB(List<DailyWeatherDto> result) {
+    public void saveWeatherToDB(List<DailyWeatherDto> result, int nx, int ny) {
+        int rows = 0;
+        List<DailyWeatherChangeDto> changes = new ArrayList<>();
         for (DailyWeatherDto dailyWeatherDto : result) {
-            Weather weather = weatherRepository.findByDate(dailyWeatherDto.getDate())
+            LocalDate date = LocalDate.parse(dailyWeatherDto.getDate(), DATE_FORMAT);
+            Weather weather = weatherRepository.findByNxAndNyAndDate(nx, ny, date)
                     .orElseGet(Weather::new); // 없으면 새로 생성
 
-            weather.setDate(dailyWeatherDto.getDate());
+            weather.setNx(nx);
+            weather.setNy(ny);
+            weather.setDate(date);
 
-            // null이 아닐 때만 갱신
-            if (dailyWeatherDto.getTmx() != null) {
+            // null이 아니고 값이 바뀐 경우만 갱신
+            Double tmx = null;
+            Double tmn = null;
+            if (dailyWeatherDto.getTmx() != null && !dailyWeatherDto.getTmx().equals(weather.getTmx())) {
                 weather.setTmx(dailyWeatherDto.getTmx());
+                tmx = dailyWeatherDto.getTmx();
             }
-            if (dailyWeatherDto.getTmn() != null) {
+            if (dailyWeatherDto.getTmn() != null && !dailyWeatherDto.getTmn().equals(weather.getTmn())) {
                 weather.setTmn(dailyWeatherDto.getTmn());
+                tmn = dailyWeatherDto.getTmn();
             }
 
             // 시간별 데이터가 있을 때만 갱신
+            List<HourlyWeatherDto> changedHours = new ArrayList<>();
+            List<String> removedHours = new ArrayList<>();
             if (dailyWeatherDto.getHourlyList() != null && !dailyWeatherDto.getHourlyList().isEmpty()) {
-                weather.getHourlyList().clear(); // 기존 시간대 데이터 초기화
+                Map<String, HourlyWeather> existing = new HashMap<>();
+                for (HourlyWeather hourly : weather.getHourlyList()) {
+                    existing.put(hourly.getFcstTime(), hourly);
+                }
+                Set<String> received = new HashSet<>();
                 for (HourlyWeatherDto hourDto : dailyWeatherDto.getHourlyList()) {
-                    HourlyWeather hourly = new HourlyWeather();
-
-                    if (hourDto.getFcstTime() != null)
+                    received.add(hourDto.getFcstTime());
+                    HourlyWeather hourly = existing.get(hourDto.getFcstTime());
+                    if (hourly == null) {
+                        hourly = new HourlyWeather();
                         hourly.setFcstTime(hourDto.getFcstTime());
-                    if (hourDto.getTemperature() != null)
-                        hourly.setTemperature(hourDto.getTemperature());
-                    if (hourDto.getApparentTemp() != null)
-                        hourly.setApparentTemp(hourDto.getApparentTemp());
-
-                    weather.addHourly(hourly);
+                        weather.addHourly(hourly);
+                    } else if (Objects.equals(hourly.getTemperature(), hourDto.getTemperature())
+                            && Objects.equals(hourly.getApparentTemp(), hourDto.getApparentTemp())) {
+                        continue; // 그대로
+                    }
+                    hourly.setTemperature(hourDto.getTemperature());
+                    hourly.setApparentTemp(hourDto.getApparentTemp());
+                    changedHours.add(new HourlyWeatherDto(hourDto.getFcstTime(), hourDto.getTemperature(), hourDto.getApparentTemp()));
+                    rows++;
                 }
+                weather.getHourlyList().removeIf(hourly -> {
+                    if (received.contains(hourly.getFcstTime())) {
+                        return false;
+                    }
+                    removedHours.add(hourly.getFcstTime());
+                    return true;
+                });
             }
 
+            weather.refreshSummary();
             weatherRepository.save(weather);
+            if (tmx != null || tmn != null || !changedHours.isEmpty() || !removedHours.isEmpty()) {
+                changes.add(new DailyWeatherChangeDto(dailyWeatherDto.getDate(), tmx, tmn, changedHours, removedHours));
+                weatherSyncMetrics.getChangedHours().record(changedHours.size() + removedHours.size());
+            }
+        }
+        ingestMetrics.getRowsPersisted().record(rows);
+
+        if (!changes.isEmpty()) {
+            publishChanges(nx, ny, changes);
         }
     }
 
-    private List<DailyWeatherDto> parseWeatherResponse(String json) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(json);
-
-            JsonNode items = root.path("response").path("body").path("items").path("item");
-            Map<String, DailyWeatherDto> dailyMap = new LinkedHashMap<>();
-
-            // fcstDate+fcstTime 기준으로 풍속 저장용
-            Map<String, Double> windMap = new HashMap<>();
-
-            for (JsonNode item : items) {
-                String fcstDate = item.get("fcstDate").asText();
-                String fcstTime = item.get("fcstTime").asText();
-                String category = item.get("category").asText();
-                String fcstValueStr = item.get("fcstValue").asText();
-
-                double value;
-                try {
-                    value = Double.parseDouble(fcstValueStr);
-                } catch (NumberFormatException e) {
-                    continue; // 숫자 아닌 값 무시
-                }
+    /**
+     * 초단기예보(앞으로 6시간)를 저장된 시간별 예보에 병합합니다.
+     * 응답에 있는 시각만 찾아서 값이 바뀐 경우에만 고치고, 다른 시각과 일별 최고/최저는 건드리지 않습니다.
+     * 한 트랜잭션으로 저장하므로 읽는 쪽은 병합 전이나 후 중 하나만 봅니다.
+     *
+     * @return 바뀐 시간별 행 수. 응답에 예보가 없으면(아직 발표 전 등) -1
+     */
+    public int ingestNowcast(String json, int nx, int ny) {
+        List<DailyWeatherDto> result = parse(json);
+        if (result.isEmpty()) {
+            return -1;
+        }
+        Integer changed = transactionTemplate.execute(status -> mergeNowcast(result, nx, ny));
+        return changed == null ? 0 : changed;
+    }
 
-                DailyWeatherDto daily = dailyMap.computeIfAbsent(fcstDate, k -> new DailyWeatherDto(fcstDate));
-
-                switch (category) {
-                    case "TMP": // 기온
-                        daily.getHourlyList().add(new HourlyWeatherDto(fcstTime, value, null));
-                        break;
-                    case "WSD": // 풍속 저장
-                        windMap.put(fcstDate + fcstTime, value);
-                        break;
-                    case "TMX": // 최고기온
-                        daily.setTmx(value);
-                        break;
-                    case "TMN": // 최저기온
-                        daily.setTmn(value);
-                        break;
-                }
+    // ingestNowcast 의 transactionTemplate 안에서만 호출
+    private int mergeNowcast(List<DailyWeatherDto> result, int nx, int ny) {
+        int rows = 0;
+        List<DailyWeatherChangeDto> changes = new ArrayList<>();
+        for (DailyWeatherDto dailyWeatherDto : result) {
+            if (dailyWeatherDto.getHourlyList() == null || dailyWeatherDto.getHourlyList().isEmpty()) {
+                continue;
+            }
+            LocalDate date = LocalDate.parse(dailyWeatherDto.getDate(), DATE_FORMAT);
+            Weather weather = weatherRepository.findByNxAndNyAndDate(nx, ny, date).orElse(null);
+            if (weather == null) {
+                continue; // 단기예보가 아직 없는 날짜는 다음 정규 수집에서 채움
             }
 
-            // 체감온도 계산 후 매핑
-            for (DailyWeatherDto day : dailyMap.values()) {
-                for (HourlyWeatherDto hour : day.getHourlyList()) {
-                    double temp = hour.getTemperature();
-                    Double wind = windMap.get(day.getDate() + hour.getFcstTime());
-
-                    if (wind != null) {
-                        double apparent = 13.12 + 0.6215 * temp
-                                - 11.37 * Math.pow(wind, 0.16)
-                                + 0.3965 * temp * Math.pow(wind, 0.16);
-                        hour.setApparentTemp(Math.round(apparent * 10) / 10.0);
-                    }
+            List<String> times = new ArrayList<>(dailyWeatherDto.getHourlyList().size());
+            for (HourlyWeatherDto hourDto : dailyWeatherDto.getHourlyList()) {
+                times.add(hourDto.getFcstTime());
+            }
+            Map<String, HourlyWeather> existing = new HashMap<>();
+            for (HourlyWeather hourly : hourlyWeatherRepository.findByWeatherAndFcstTimeIn(weather, times)) {
+                existing.put(hourly.getFcstTime(), hourly);
+            }
+
+            List<HourlyWeatherDto> changedHours = new ArrayList<>();
+            for (HourlyWeatherDto hourDto : dailyWeatherDto.getHourlyList()) {
+                HourlyWeather hourly = existing.get(hourDto.getFcstTime());
+                // 풍속이 빠진 시각은 기존 체감온도를 유지
+                Double apparent = hourDto.getApparentTemp() != null || hourly == null
+                        ? hourDto.getApparentTemp()
+                        : hourly.getApparentTemp();
+                if (hourly == null) {
+                    hourly = new HourlyWeather();
+                    hourly.setFcstTime(hourDto.getFcstTime());
+                    weather.addHourly(hourly);
+                } else if (Objects.equals(hourly.getTemperature(), hourDto.getTemperature())
+                        && Objects.equals(hourly.getApparentTemp(), apparent)) {
+                    continue;
                 }
+                hourly.setTemperature(hourDto.getTemperature());
+                hourly.setApparentTemp(apparent);
+                hourlyWeatherRepository.save(hourly);
+                changedHours.add(new HourlyWeatherDto(hourDto.getFcstTime(), hourDto.getTemperature(), apparent));
+                rows++;
+            }
+            if (!changedHours.isEmpty()) {
+                // 요약은 하루 전체로 다시 계산 (고친 행은 같은 엔티티, 새 행은 위에서 목록에 추가함)
+                weather.refreshSummary();
+                changes.add(new DailyWeatherChangeDto(dailyWeatherDto.getDate(), null, null, changedHours, List.of()));
+                weatherSyncMetrics.getChangedHours().record(changedHours.size());
             }
+        }
+        ingestMetrics.getNowcastRows().record(rows);
 
-            return new ArrayList<>(dailyMap.values());
+        if (!changes.isEmpty()) {
+            publishChanges(nx, ny, changes);
+        }
+        return rows;
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            return Collections.emptyList();
+    private void publishChanges(int nx, int ny, List<DailyWeatherChangeDto> changes) {
+        WeatherVersion version = weatherVersionRepository.findByNxAndNy(nx, ny)
+                .orElseGet(() -> weatherVersionRepository.save(new WeatherVersion(nx, ny)));
+        long next = version.increment();
+        changeEventPublisher.publish(ChangeAggregate.WEATHER, nx + ":" + ny);
+
+        // 롤백된 변경분이 나가지 않도록 커밋 후에 추가
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forecastChangeLog.append(nx, ny, next, changes);
+                }
+            });
+        } else {
+            forecastChangeLog.append(nx, ny, next, changes);
         }
     }
 
-    @Transactional(readOnly = true)
-    public List<DailyWeatherDto> getDailyWeather(String today) {
-        List<DailyWeatherDto> result = new ArrayList<>();
-        String tomorrow = getNextDate(today, 1);
-        String twoDay = getNextDate(today, 2);
-
-        Weather todayWeather = weatherRepository.findByDate(today).get();
-        Weather tomorrowWeather = weatherRepository.findByDate(tomorrow).get();
-        Weather twoDayWeather = weatherRepository.findByDate(twoDay).get();
-
-        List<HourlyWeatherDto> todayHourly = new ArrayList<>();
-        Map<String, Double> todayApparent = new HashMap<>();
-        List<HourlyWeatherDto> tomorrowHourly = new ArrayList<>();
-        Map<String, Double> tomorrowApparent = new HashMap<>();
-        List<HourlyWeatherDto> twoDayHourly = new ArrayList<>();
-        Map<String, Double> twoDayApparent = new HashMap<>();
-
-        List<HourlyWeather> todayHourlyWeather = hourlyWeatherRepository.findByWeather(todayWeather);
-        List<HourlyWeather> tomorrowHourlyWeather = hourlyWeatherRepository.findByWeather(tomorrowWeather);
-        List<HourlyWeather> twoDayHourlyWeather = hourlyWeatherRepository.findByWeather(twoDayWeather);
-
-        for (HourlyWeather hour : todayHourlyWeather) {
-            HourlyWeatherDto hourDto = new HourlyWeatherDto(hour.getFcstTime(), hour.getTemperature(), hour.getApparentTemp());
-            todayHourly.add(hourDto);
-            todayApparent.put(hour.getFcstTime(), hour.getApparentTemp());
+    static List<DailyWeatherDto> parseWeatherResponse(String json) throws JsonProcessingException {
+        return parseWeatherResponse(MAPPER.readTree(json));
+    }
+
+    // 이미 읽은 응답 트리를 파싱 (보관된 응답 일괄 적재에서 사용)
+    public static List<DailyWeatherDto> parseWeatherResponse(JsonNode root) {
+        JsonNode items = root.path("response").path("body").path("items").path("item");
+        Map<String, DailyWeatherDto> dailyMap = new LinkedHashMap<>();
+
+        // fcstDate+fcstTime 기준으로 풍속 저장용
+        Map<String, Double> windMap = new HashMap<>();
+
+        for (JsonNode item : items) {
+            String fcstDate = item.get("fcstDate").asText();
+            String fcstTime = item.get("fcstTime").asText();
+            String category = item.get("category").asText();
+            String fcstValueStr = item.get("fcstValue").asText();
+
+            double value;
+            try {
+                value = Double.parseDouble(fcstValueStr);
+            } catch (NumberFormatException e) {
+                continue; // 숫자 아닌 값 무시
+            }
+
+            DailyWeatherDto daily = dailyMap.computeIfAbsent(fcstDate, k -> new DailyWeatherDto(fcstDate));
+
+            switch (category) {
+                case "TMP": // 기온 (단기예보)
+                case "T1H": // 기온 (초단기예보)
+                    daily.getHourlyList().add(new HourlyWeatherDto(fcstTime, value, null));
+                    break;
+                case "WSD": // 풍속 저장
+                    windMap.put(fcstDate + fcstTime, value);
+                    break;
+                case "TMX": // 최고기온
+                    daily.setTmx(value);
+                    break;
+                case "TMN": // 최저기온
+                    daily.setTmn(value);
+                    break;
+            }
         }
 
-        for (HourlyWeather hour : tomorrowHourlyWeather) {
-            HourlyWeatherDto hourDto = new HourlyWeatherDto(hour.getFcstTime(), hour.getTemperature(), hour.getApparentTemp());
-            tomorrowHourly.add(hourDto);
-            tomorrowApparent.put(hour.getFcstTime(), hour.getApparentTemp());
+        // 체감온도 계산 후 매핑
+        for (DailyWeatherDto day : dailyMap.values()) {
+            for (HourlyWeatherDto hour : day.getHourlyList()) {
+                double temp = hour.getTemperature();
+                Double wind = windMap.get(day.getDate() + hour.getFcstTime());
+
+                if (wind != null) {
+                    hour.setApparentTemp(apparentTemperature(temp, wind));
+                }
+            }
         }
 
-        for (HourlyWeather hour : twoDayHourlyWeather) {
-            HourlyWeatherDto hourDto = new HourlyWeatherDto(hour.getFcstTime(), hour.getTemperature(), hour.getApparentTemp());
-            twoDayHourly.add(hourDto);
-            twoDayApparent.put(hour.getFcstTime(), hour.getApparentTemp());
+        return new ArrayList<>(dailyMap.values());
+    }
+
+    // 기상청 겨울철 체감온도 식 (소수 첫째 자리 반올림)
+    static double apparentTemperature(double temp, double wind) {
+        double apparent = 13.12 + 0.6215 * temp
+                - 11.37 * Math.pow(wind, 0.16)
+                + 0.3965 * temp * Math.pow(wind, 0.16);
+        return Math.round(apparent * 10) / 10.0;
+    }
+
+    /**
+     * 클라이언트가 가진 버전(since) 이후의 변경분을 돌려줍니다.
+     * 바뀐 게 없으면 empty, 변경분이 버퍼에 다 있으면 델타, 아니면(처음 요청, 너무 뒤처짐, 재시작 등) 3일 치 전체입니다.
+     * 델타는 날짜 범위로 자르지 않으므로 지난 날짜는 클라이언트가 버립니다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<WeatherDeltaDto> getDelta(LocalDate today, Long since) {
+        long current = currentVersion();
+
+        if (since != null && since == current) {
+            weatherSyncMetrics.getNotModified().increment();
+            return Optional.empty();
+        }
+        if (since != null && since < current) {
+            Optional<List<DailyWeatherChangeDto>> changes = forecastChangeLog.since(NX, NY, since, current);
+            if (changes.isPresent()) {
+                weatherSyncMetrics.getDelta().increment();
+                return Optional.of(WeatherDeltaDto.delta(current, changes.get()));
+            }
         }
+        weatherSyncMetrics.getSnapshot().increment();
+        return Optional.of(WeatherDeltaDto.snapshot(current, dailyWeather(today, current)));
+    }
 
-        DailyWeatherDto todayWeatherDto = new DailyWeatherDto(todayWeather.getDate(), todayWeather.getTmx(), todayWeather.getTmn(), todayHourly, todayApparent);
-        DailyWeatherDto tomorrowWeatherDto = new DailyWeatherDto(tomorrowWeather.getDate(), tomorrowWeather.getTmx(), tomorrowWeather.getTmn(), tomorrowHourly, tomorrowApparent);
-        DailyWeatherDto twoDayWeatherDto = new DailyWeatherDto(twoDayWeather.getDate(), twoDayWeather.getTmx(),  twoDayWeather.getTmn(), twoDayHourly, twoDayApparent);
-        result.add(todayWeatherDto);
-        result.add(tomorrowWeatherDto);
-        result.add(twoDayWeatherDto);
+    /**
+     * 오늘부터 3일 치 예보
+     * 격자 버전을 키에 넣어 2단 캐시(near + Redis)에 두므로 예보가 바뀌면 다른 노드도 새 키로 읽습니다.
+     */
+    @Transactional(readOnly = true)
+    public List<DailyWeatherDto> getDailyWeather(LocalDate today) {
+        return dailyWeather(today, currentVersion());
+    }
 
-        return result;
+    private List<DailyWeatherDto> dailyWeather(LocalDate today, long version) {
+        return tieredCache.get(TieredCache.FORECAST, NX + ":" + NY + ":" + today + ":v" + version, FORECAST_TYPE,
+                () -> loadDailyWeather(today));
     }
 
-    private String getNextDate(String dateStr, int plusDays) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
-        LocalDate date = LocalDate.parse(dateStr, formatter);
-        LocalDate nextDate = date.plusDays(plusDays);
-        return nextDate.format(formatter);
+    private long currentVersion() {
+        return weatherVersionRepository.findById(new WeatherVersion.Grid(NX, NY))
+                .map(WeatherVersion::getVersion)
+                .orElse(0L);
+    }
+
+    // 한 번의 범위 조회로 읽음
+    private List<DailyWeatherDto> loadDailyWeather(LocalDate today) {
+        List<Weather> days = weatherRepository.findByNxAndNyAndDateBetweenOrderByDateAsc(NX, NY, today, today.plusDays(2));
+        if (days.size() < 3) {
+            throw new WeatherHandler(ErrorStatus.NO_DATA);
+        }
+
+        List<DailyWeatherDto> result = new ArrayList<>(days.size());
+        for (Weather weather : days) {
+            List<HourlyWeatherDto> hourly = new ArrayList<>();
+            Map<String, Double> apparent = new HashMap<>();
+            for (HourlyWeather hour : hourlyWeatherRepository.findByWeather(weather)) {
+                hourly.add(new HourlyWeatherDto(hour.getFcstTime(), hour.getTemperature(), hour.getApparentTemp()));
+                apparent.put(hour.getFcstTime(), hour.getApparentTemp());
+            }
+            result.add(new DailyWeatherDto(weather.getDate().format(DATE_FORMAT), weather.getTmx(), weather.getTmn(), hourly, apparent));
+        }
+
+        return result;
     }
 }
@@ -0,0 +1,123 @@
+package com.admc.closet_cast.sync;
+
+import com.admc.closet_cast.dto.DailyWeatherChangeDto;
+import com.admc.closet_cast.dto.HourlyWeatherDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 최근 예보 변경분을 담는 고정 크기 링 버퍼
+ * 저장이 커밋된 뒤에만 추가되고, 가득 차면 가장 오래된 변경분부터 덮어씁니다.
+ * 재시작하거나 다른 인스턴스가 만든 버전은 여기 없으므로 그때는 전체 스냅샷으로 대신합니다.
+ */
+@Component
+public class ForecastChangeLog {
+
+    private record Entry(int nx, int ny, long version, List<DailyWeatherChangeDto> changes) {
+    }
+
+    private final Entry[] ring;
+    private int next;
+    private int size;
+
+    public ForecastChangeLog(SyncProperties properties, MeterRegistry meterRegistry) {
+        this.ring = new Entry[Math.max(1, properties.getCapacity())];
+        Gauge.builder("weather.sync.buffer.size", this, ForecastChangeLog::size)
+                .register(meterRegistry);
+    }
+
+    public synchronized void append(int nx, int ny, long version, List<DailyWeatherChangeDto> changes) {
+        ring[next] = new Entry(nx, ny, version, List.copyOf(changes));
+        next = (next + 1) % ring.length;
+        size = Math.min(size + 1, ring.length);
+    }
+
+    /**
+     * since 이후 current 까지의 변경분을 하나로 합칩니다.
+     * 중간 버전이 하나라도 없으면 empty (전체 스냅샷을 보내야 함)
+     */
+    public Optional<List<DailyWeatherChangeDto>> since(int nx, int ny, long since, long current) {
+        if (since >= current) {
+            return Optional.empty();
+        }
+        List<Entry> entries = new ArrayList<>();
+        synchronized (this) {
+            for (int i = 0; i < size; i++) {
+                Entry entry = ring[i];
+                if (entry.nx() == nx && entry.ny() == ny && entry.version() > since && entry.version() <= current) {
+                    entries.add(entry);
+                }
+            }
+        }
+        if (entries.size() != current - since) {
+            return Optional.empty();
+        }
+        entries.sort(Comparator.comparingLong(Entry::version));
+        return Optional.of(merge(entries));
+    }
+
+    private synchronized int size() {
+        return size;
+    }
+
+    // 같은 날짜/시각은 마지막 값만 남김
+    private static List<DailyWeatherChangeDto> merge(List<Entry> entries) {
+        Map<String, DayBuilder> days = new TreeMap<>();
+        for (Entry entry : entries) {
+            for (DailyWeatherChangeDto change : entry.changes()) {
+                days.computeIfAbsent(change.date(), DayBuilder::new).apply(change);
+            }
+        }
+        List<DailyWeatherChangeDto> merged = new ArrayList<>(days.size());
+        for (DayBuilder day : days.values()) {
+            merged.add(day.build());
+        }
+        return merged;
+    }
+
+    private static final class DayBuilder {
+        private final String date;
+        private Double tmx;
+        private Double tmn;
+        private final Map<String, HourlyWeatherDto> hourly = new TreeMap<>();
+        private final TreeSet<String> removed = new TreeSet<>();
+
+        private DayBuilder(String date) {
+            this.date = date;
+        }
+
+        private void apply(DailyWeatherChangeDto change) {
+            if (change.tmx() != null) {
+                tmx = change.tmx();
+            }
+            if (change.tmn() != null) {
+                tmn = change.tmn();
+            }
+            if (change.removed() != null) {
+                for (String time : change.removed()) {
+                    hourly.remove(time);
+                    removed.add(time);
+                }
+            }
+            if (change.hourly() != null) {
+                for (HourlyWeatherDto hour : change.hourly()) {
+                    hourly.put(hour.getFcstTime(), hour);
+                    removed.remove(hour.getFcstTime());
+                }
+            }
+        }
+
+        private DailyWeatherChangeDto build() {
+            return new DailyWeatherChangeDto(date, tmx, tmn, List.copyOf(hourly.values()), List.copyOf(removed));
+        }
+    }
+}
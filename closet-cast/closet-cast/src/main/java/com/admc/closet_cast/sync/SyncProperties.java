@@ -0,0 +1,16 @@
+package com.admc.closet_cast.sync;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "weather.sync")
+public class SyncProperties {
+
+    // 메모리에 들고 있는 최근 변경분 개수 (모든 격자 합계). 이보다 뒤처진 클라이언트는 전체 스냅샷을 받음
+    private int capacity = 64;
+}
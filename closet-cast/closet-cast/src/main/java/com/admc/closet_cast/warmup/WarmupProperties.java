@@ -0,0 +1,32 @@
+package com.admc.closet_cast.warmup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+
+    // 전체 워밍업 시간 상한. 넘으면 남은 단계를 건너뛰고 트래픽을 받음
+    private Duration timeout = Duration.ofSeconds(60);
+
+    // 미리 읽어 둘 최근 활동 회원 수
+    private int activeMembers = 50;
+
+    // 동시에 빌려서 열어 둘 DB 커넥션 수 (Hikari 최대 풀 크기를 넘지 않음)
+    private int dbConnections = 10;
+
+    // JSON 직렬화, JWT 발급/검증 반복 횟수 (JIT 컴파일 유도)
+    private int iterations = 5000;
+
+    // 자기 자신의 API 를 호출하는 횟수 (필터 체인, MVC, 메시지 컨버터)
+    private int selfRequests = 200;
+}
@@ -0,0 +1,266 @@
+package com.admc.closet_cast.warmup;
+
+import com.admc.closet_cast.apiPayload.ApiResponse;
+import com.admc.closet_cast.apiPayload.exception.GeneralException;
+import com.admc.closet_cast.config.JwtProvider;
+import com.admc.closet_cast.dto.DailyWeatherDto;
+import com.admc.closet_cast.dto.HourlyWeatherDto;
+import com.admc.closet_cast.dto.RecommendDto;
+import com.admc.closet_cast.entity.Member;
+import com.admc.closet_cast.repository.MemberRepository;
+import com.admc.closet_cast.service.RecommendService;
+import com.admc.closet_cast.service.WeatherService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 트래픽을 받기 전에 DB/HTTP 커넥션 풀, Hibernate, JIT 를 데웁니다.
+ * ApplicationRunner 가 끝나야 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌므로
+ * 여기서 동기로 실행하면 /actuator/health/readiness 가 워밍업 이후에 UP 이 됩니다.
+ * 각 단계는 실패해도 기동을 막지 않고, 전체 시간은 warmup.timeout 으로 제한합니다.
+ */
+@Slf4j
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final String WARMUP_LOGIN_ID = "__warmup__";
+
+    private final WarmupProperties properties;
+    private final List<HikariDataSource> pools;
+    private final MemberRepository memberRepository;
+    private final WeatherService weatherService;
+    private final RecommendService recommendService;
+    private final JwtProvider jwtProvider;
+    private final ObjectMapper objectMapper;
+    private final WebClient kmaWebClient;
+    private final WebClient openAiWebClient;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong lastDurationMillis = new AtomicLong();
+
+    public WarmupRunner(WarmupProperties properties, List<DataSource> dataSources,
+                        MemberRepository memberRepository, WeatherService weatherService,
+                        RecommendService recommendService, JwtProvider jwtProvider, ObjectMapper objectMapper,
+                        @Qualifier("kmaWebClient") WebClient kmaWebClient,
+                        @Qualifier("openAiWebClient") WebClient openAiWebClient,
+                        Environment environment, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pools = pools(dataSources);
+        this.memberRepository = memberRepository;
+        this.weatherService = weatherService;
+        this.recommendService = recommendService;
+        this.jwtProvider = jwtProvider;
+        this.objectMapper = objectMapper;
+        this.kmaWebClient = kmaWebClient;
+        this.openAiWebClient = openAiWebClient;
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        TimeGauge.builder("warmup.duration", lastDurationMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Time spent warming up before readiness")
+                .register(meterRegistry);
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + properties.getTimeout().toNanos();
+
+        step("db-pool", deadline, this::openDbConnections);
+        List<DailyWeatherDto> weather = step("weather", deadline, this::loadWeather);
+        step("members", deadline, this::loadActiveMembers);
+        step("http-pool", deadline, this::openHttpConnections);
+        step("json", deadline, () -> exerciseJson(weather, deadline));
+        step("jwt", deadline, () -> exerciseJwt(deadline));
+        step("self-requests", deadline, () -> callSelf(deadline));
+
+        lastDurationMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        log.info("워밍업 완료: {}ms", lastDurationMillis.get());
+    }
+
+    private <T> T step(String name, long deadline, WarmupStep<T> step) {
+        if (System.nanoTime() >= deadline) {
+            log.warn("워밍업 시간 초과로 {} 단계 생략", name);
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            return step.run();
+        } catch (Exception e) {
+            log.warn("워밍업 {} 단계 실패: {}", name, e.toString());
+            return null;
+        } finally {
+            Timer.builder("warmup.step")
+                    .tag("step", name)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 기본 DataSource 는 쿼리 집계(datasource-proxy)로 감싸져 있을 수 있어서 Hikari 풀을 꺼내서 씀
+    private static List<HikariDataSource> pools(List<DataSource> dataSources) {
+        Set<HikariDataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DataSource dataSource : dataSources) {
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    pools.add(dataSource.unwrap(HikariDataSource.class));
+                }
+            } catch (SQLException e) {
+                log.debug("DataSource 에서 Hikari 풀을 꺼내지 못함: {}", e.toString());
+            }
+        }
+        return List.copyOf(pools);
+    }
+
+    // 풀마다(primary, replica) 동시에 빌려서 물리 커넥션을 미리 맺어 둠
+    private Void openDbConnections() throws Exception {
+        for (HikariDataSource pool : pools) {
+            int count = Math.min(properties.getDbConnections(), pool.getMaximumPoolSize());
+            List<Connection> connections = new ArrayList<>(count);
+            try {
+                for (int i = 0; i < count; i++) {
+                    Connection connection = pool.getConnection();
+                    connections.add(connection);
+                    connection.isValid(1);
+                }
+            } finally {
+                for (Connection connection : connections) {
+                    connection.close();
+                }
+            }
+        }
+        return null;
+    }
+
+    private List<DailyWeatherDto> loadWeather() {
+        try {
+            return weatherService.getDailyWeather(LocalDate.now());
+        } catch (RuntimeException e) {
+            // 오늘 예보가 아직 수집되지 않은 경우
+            log.info("워밍업: 오늘 날씨 데이터 없음");
+            return null;
+        }
+    }
+
+    // 활동 기록이 따로 없어서 최근에 수정된 회원을 활성 회원으로 봄
+    private Void loadActiveMembers() {
+        List<Member> members = memberRepository.findAllByOrderByUpdatedAtDesc(
+                PageRequest.of(0, properties.getActiveMembers()));
+        for (Member member : members) {
+            try {
+                recommendService.loadContext(member.getId());
+            } catch (GeneralException e) {
+                // 오늘 날씨가 없으면 회원 정보까지만 읽고 실패함
+            }
+        }
+        return null;
+    }
+
+    // 응답 상태와 관계없이 TLS 연결을 맺어 keep-alive 풀에 남김 (과금/쿼터 없는 요청만 사용)
+    private Void openHttpConnections() {
+        Duration timeout = Duration.ofSeconds(5);
+        kmaWebClient.head().uri("/")
+                .exchangeToMono(response -> response.releaseBody())
+                .block(timeout);
+        openAiWebClient.get().uri("/models")
+                .exchangeToMono(response -> response.releaseBody())
+                .block(timeout);
+        return null;
+    }
+
+    private Void exerciseJson(List<DailyWeatherDto> weather, long deadline) throws Exception {
+        List<DailyWeatherDto> sample = weather != null ? weather : syntheticWeather();
+        RecommendDto recommend = RecommendDto.of("COAT", "SWEATER", "JEANS");
+        TypeReference<List<DailyWeatherDto>> weatherType = new TypeReference<>() {
+        };
+        for (int i = 0; i < properties.getIterations() && System.nanoTime() < deadline; i++) {
+            String json = objectMapper.writeValueAsString(ApiResponse.onSuccess(sample));
+            objectMapper.readTree(json);
+            objectMapper.readValue(objectMapper.writeValueAsString(sample), weatherType);
+            objectMapper.writeValueAsString(ApiResponse.onSuccess(recommend));
+        }
+        return null;
+    }
+
+    private Void exerciseJwt(long deadline) {
+        for (int i = 0; i < properties.getIterations() && System.nanoTime() < deadline; i++) {
+            String token = jwtProvider.createToken(WARMUP_LOGIN_ID);
+            if (jwtProvider.validateToken(token)) {
+                jwtProvider.getLoginId(token);
+            }
+        }
+        return null;
+    }
+
+    // 보안 필터 체인 + DispatcherServlet + 메시지 컨버터까지 실제 요청 경로로 호출
+    private Void callSelf(long deadline) throws Exception {
+        String port = environment.getProperty("local.server.port");
+        if (port == null) {
+            return null;
+        }
+        URI uri = URI.create("http://127.0.0.1:" + port + "/api/weather/read");
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + jwtProvider.createToken(WARMUP_LOGIN_ID))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            for (int i = 0; i < properties.getSelfRequests() && System.nanoTime() < deadline; i++) {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+            }
+        }
+        return null;
+    }
+
+    private static List<DailyWeatherDto> syntheticWeather() {
+        List<HourlyWeatherDto> hourly = new ArrayList<>(24);
+        for (int hour = 0; hour < 24; hour++) {
+            hourly.add(new HourlyWeatherDto(String.format("%02d00", hour), 10.0 + hour % 8, 8.5 + hour % 8));
+        }
+        LocalDate today = LocalDate.now();
+        List<DailyWeatherDto> days = new ArrayList<>(3);
+        for (int day = 0; day < 3; day++) {
+            days.add(new DailyWeatherDto(today.plusDays(day).format(WeatherService.DATE_FORMAT), 18.0, 6.0, hourly, Map.of()));
+        }
+        return days;
+    }
+
+    @FunctionalInterface
+    private interface WarmupStep<T> {
+        T run() throws Exception;
+    }
+}
@@ -0,0 +1,4 @@
+-- 마지막 온라인 학습 시각. 야간 재계산(ComfortRecomputeJob)은 최근에 학습한 회원을 덮어쓰지 않음
+
+ALTER TABLE member
+    ADD COLUMN comfort_learned_at DATETIME(6) NULL;
@@ -0,0 +1,10 @@
+-- 추천 하나에 피드백 하나. 같은 추천에 여러 번 보낸 피드백은 처음 것만 남김
+
+DELETE f
+FROM recommendation_feedback f
+         JOIN recommendation_feedback older
+              ON older.recommendation_id = f.recommendation_id AND older.id < f.id;
+
+ALTER TABLE recommendation_feedback
+    DROP INDEX idx_feedback_recommendation,
+    ADD CONSTRAINT uk_feedback_recommendation UNIQUE (recommendation_id);
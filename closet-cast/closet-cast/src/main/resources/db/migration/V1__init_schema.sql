@@ -0,0 +1,55 @@
+-- Flyway 도입 이전에 Hibernate(ddl-auto) 가 만들던 스키마
+-- 이미 테이블이 있는 DB 는 baseline(1) 으로 잡히므로 이 파일은 새 DB 에서만 실행됩니다.
+
+CREATE TABLE member
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    login_id   VARCHAR(255) NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE member_clothes
+(
+    member_id BIGINT NOT NULL,
+    cloth     ENUM ('PUFFER_JACKET','COAT','FLEECE','JACKET','WINDBREAKER','SWEATER','HOODIE','SHIRT',
+                    'LONG_SLEEVE','SHORT_SLEEVE','JEANS','COTTON_PANTS','SHORTS'),
+    CONSTRAINT fk_member_clothes_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE member_preferences
+(
+    member_id  BIGINT NOT NULL,
+    preference ENUM ('MINIMAL','CASUAL','STREET','CLASSIC','DANDY','RETRO'),
+    CONSTRAINT fk_member_preferences_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE member_tendencies
+(
+    member_id BIGINT NOT NULL,
+    tendency  ENUM ('HOT','COLD'),
+    CONSTRAINT fk_member_tendencies_member FOREIGN KEY (member_id) REFERENCES member (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE weather
+(
+    id     BIGINT       NOT NULL AUTO_INCREMENT,
+    `date` VARCHAR(255),
+    tmx    DOUBLE,
+    tmn    DOUBLE,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE hourly_weather
+(
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    fcst_time     VARCHAR(255),
+    temperature   DOUBLE,
+    apparent_temp DOUBLE,
+    weather_id    BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_hourly_weather_weather FOREIGN KEY (weather_id) REFERENCES weather (id)
+) ENGINE = InnoDB;
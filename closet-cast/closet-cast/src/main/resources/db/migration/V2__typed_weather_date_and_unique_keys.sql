@@ -0,0 +1,48 @@
+-- weather.date(VARCHAR yyyyMMdd) -> forecast_date(DATE) + 격자(nx, ny)
+-- (nx, ny, forecast_date), member.login_id 에 유니크 인덱스 추가
+
+-- 동시 가입으로 같은 login_id 가 여러 번 들어간 경우 먼저 가입한(id 가 작은) 회원이 login_id 를 유지하고
+-- 나머지는 login_id#<id> 로 바꿈. 중복인 동안은 로그인 조회가 실패했으므로 지우지 않고 데이터만 남김
+-- (MySQL DDL 은 롤백되지 않으므로 실패할 수 있는 작업을 파일 맨 앞에 둠)
+UPDATE member m
+    JOIN member older ON older.login_id = m.login_id AND older.id < m.id
+SET m.login_id = CONCAT(LEFT(m.login_id, 200), '#', m.id);
+
+ALTER TABLE member
+    ADD CONSTRAINT uk_member_login_id UNIQUE (login_id);
+
+-- 같은 날짜가 여러 번 저장된 경우 id 가 가장 큰 행만 남김 (유니크 인덱스 생성 전 정리)
+DELETE h
+FROM hourly_weather h
+         JOIN weather w ON h.weather_id = w.id
+         JOIN weather newer ON newer.`date` = w.`date` AND newer.id > w.id;
+
+DELETE w
+FROM weather w
+         JOIN weather newer ON newer.`date` = w.`date` AND newer.id > w.id;
+
+-- 지금까지는 기본 격자(55, 127)만 수집했음
+ALTER TABLE weather
+    ADD COLUMN nx            INT  NOT NULL DEFAULT 55,
+    ADD COLUMN ny            INT  NOT NULL DEFAULT 127,
+    ADD COLUMN forecast_date DATE NULL;
+
+UPDATE weather
+SET forecast_date = STR_TO_DATE(`date`, '%Y%m%d');
+
+-- 날짜를 해석할 수 없는 행은 조회될 수 없었으므로 버림
+DELETE h
+FROM hourly_weather h
+         JOIN weather w ON h.weather_id = w.id
+WHERE w.forecast_date IS NULL;
+
+DELETE
+FROM weather
+WHERE forecast_date IS NULL;
+
+ALTER TABLE weather
+    MODIFY forecast_date DATE NOT NULL,
+    ALTER nx DROP DEFAULT,
+    ALTER ny DROP DEFAULT,
+    DROP COLUMN `date`,
+    ADD CONSTRAINT uk_weather_grid_date UNIQUE (nx, ny, forecast_date);
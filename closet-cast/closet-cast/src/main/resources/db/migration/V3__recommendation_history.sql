@@ -0,0 +1,35 @@
+-- 추천 이력과 피드백 (HistoryWriter 가 JDBC 배치로 저장)
+-- 이력은 회원 삭제와 무관하게 분석용으로 남기므로 FK 를 두지 않음
+
+CREATE TABLE recommendation_history
+(
+    id             CHAR(36)     NOT NULL,
+    member_id      BIGINT       NOT NULL,
+    recommend_date DATE         NOT NULL,
+    tmx            DOUBLE,
+    tmn            DOUBLE,
+    max_feel       DOUBLE,
+    min_feel       DOUBLE,
+    outer_item     VARCHAR(255),
+    top_item       VARCHAR(255),
+    bottom_item    VARCHAR(255),
+    source         ENUM ('LLM') NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_history_member_date (member_id, recommend_date)
+) ENGINE = InnoDB;
+
+CREATE TABLE recommendation_feedback
+(
+    id                BIGINT                               NOT NULL AUTO_INCREMENT,
+    recommendation_id CHAR(36)                             NOT NULL,
+    member_id         BIGINT                               NOT NULL,
+    feedback          ENUM ('TOO_COLD','TOO_HOT','LIKED') NOT NULL,
+    outer_item        VARCHAR(255),
+    top_item          VARCHAR(255),
+    bottom_item       VARCHAR(255),
+    created_at        DATETIME(6)                          NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_feedback_member (member_id, created_at),
+    INDEX idx_feedback_recommendation (recommendation_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,17 @@
+-- 회원별 체감 모델 (ComfortModel)
+-- comfort_cloth: Cloth 순서(ordinal)대로 옷별 보정값 1바이트씩 (0.5°C 단위)
+
+ALTER TABLE member
+    ADD COLUMN comfort_offset  DOUBLE NOT NULL DEFAULT 0,
+    ADD COLUMN comfort_samples INT    NOT NULL DEFAULT 0,
+    ADD COLUMN comfort_error   DOUBLE NOT NULL DEFAULT 1,
+    ADD COLUMN comfort_cloth   VARBINARY(32);
+
+-- 기존 회원은 HOT/COLD 성향으로 초기값을 잡음 (ComfortModel.initial 과 같은 값)
+UPDATE member m
+SET m.comfort_offset = 2.0 * (EXISTS(SELECT 1 FROM member_tendencies t WHERE t.member_id = m.id AND t.tendency = 'COLD'))
+                     - 2.0 * (EXISTS(SELECT 1 FROM member_tendencies t WHERE t.member_id = m.id AND t.tendency = 'HOT'));
+
+-- 로컬 추천도 이력에 남김
+ALTER TABLE recommendation_history
+    MODIFY COLUMN source ENUM ('LLM','LOCAL') NOT NULL;
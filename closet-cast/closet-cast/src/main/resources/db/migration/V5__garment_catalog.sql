@@ -0,0 +1,50 @@
+-- 의상 카탈로그. 기존 Cloth enum 13종을 같은 code 로 옮기고,
+-- slot 은 enum 순서(ordinal)와 같게 잡아서 V4 의 comfort_cloth 보정값을 그대로 씀
+
+CREATE TABLE garment
+(
+    code       VARCHAR(50)                    NOT NULL,
+    name       VARCHAR(255)                   NOT NULL,
+    category   ENUM ('OUTER','TOP','BOTTOM') NOT NULL,
+    warmth     DOUBLE                         NOT NULL,
+    rain_proof BIT                            NOT NULL,
+    wind_proof BIT                            NOT NULL,
+    slot       INT                            NOT NULL,
+    active     BIT                            NOT NULL DEFAULT 1,
+    PRIMARY KEY (code),
+    CONSTRAINT uk_garment_slot UNIQUE (slot)
+) ENGINE = InnoDB;
+
+INSERT INTO garment (code, name, category, warmth, rain_proof, wind_proof, slot)
+VALUES ('PUFFER_JACKET', '패딩', 'OUTER', 30, 1, 1, 0),
+       ('COAT', '코트', 'OUTER', 23, 0, 1, 1),
+       ('FLEECE', '플리스', 'OUTER', 20, 0, 0, 2),
+       ('JACKET', '자켓', 'OUTER', 16, 0, 1, 3),
+       ('WINDBREAKER', '바람막이', 'OUTER', 13, 1, 1, 4),
+       ('SWEATER', '니트', 'TOP', 22, 0, 0, 5),
+       ('HOODIE', '후드티', 'TOP', 17, 0, 0, 6),
+       ('SHIRT', '셔츠', 'TOP', 9, 0, 0, 7),
+       ('LONG_SLEEVE', '긴팔티', 'TOP', 13, 0, 0, 8),
+       ('SHORT_SLEEVE', '반팔티', 'TOP', 4, 0, 0, 9),
+       ('JEANS', '청바지', 'BOTTOM', 18, 0, 1, 10),
+       ('COTTON_PANTS', '면바지', 'BOTTOM', 12, 0, 0, 11),
+       ('SHORTS', '반바지', 'BOTTOM', 3, 0, 0, 12);
+
+CREATE TABLE member_garments
+(
+    member_id    BIGINT      NOT NULL,
+    garment_code VARCHAR(50) NOT NULL,
+    CONSTRAINT fk_member_garments_member FOREIGN KEY (member_id) REFERENCES member (id),
+    CONSTRAINT fk_member_garments_garment FOREIGN KEY (garment_code) REFERENCES garment (code)
+) ENGINE = InnoDB;
+
+INSERT INTO member_garments (member_id, garment_code)
+SELECT member_id, cloth
+FROM member_clothes
+WHERE cloth IS NOT NULL;
+
+DROP TABLE member_clothes;
+
+-- 카탈로그가 늘어나도 slot 당 1바이트
+ALTER TABLE member
+    MODIFY COLUMN comfort_cloth VARBINARY(255);
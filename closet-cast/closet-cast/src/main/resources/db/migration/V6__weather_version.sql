@@ -0,0 +1,9 @@
+-- 격자별 예보 버전 (델타 동기화용). 값이 실제로 바뀐 저장마다 1씩 증가
+
+CREATE TABLE weather_version
+(
+    nx      INT    NOT NULL,
+    ny      INT    NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (nx, ny)
+) ENGINE = InnoDB;
@@ -0,0 +1,10 @@
+-- 초단기예보 병합은 (weather_id, fcst_time) 으로 시각 하나씩 찾아 고치므로 시각당 한 행만 두고 인덱스를 검
+-- 중복이 있으면 마지막(id 가 큰) 행만 남김
+
+DELETE h1
+FROM hourly_weather h1
+         JOIN hourly_weather h2
+              ON h1.weather_id = h2.weather_id AND h1.fcst_time = h2.fcst_time AND h1.id < h2.id;
+
+ALTER TABLE hourly_weather
+    ADD CONSTRAINT uk_hourly_weather_time UNIQUE (weather_id, fcst_time);
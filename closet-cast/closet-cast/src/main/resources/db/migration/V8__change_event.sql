@@ -0,0 +1,11 @@
+-- 캐시 무효화용 트랜잭션 아웃박스. 각 노드가 id 순서로 읽고, 보관 기간이 지나면 지움
+
+CREATE TABLE change_event
+(
+    id            BIGINT      NOT NULL AUTO_INCREMENT,
+    aggregate     VARCHAR(16) NOT NULL,
+    aggregate_key VARCHAR(64) NOT NULL,
+    created_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_change_event_created_at (created_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,33 @@
+-- 하루치 시간별 예보 요약 (WeatherSummary). 추천은 시간별 행 대신 이 컬럼만 읽음
+-- 이후에는 수집할 때 계산하고, 여기서는 기존 행만 채움
+
+ALTER TABLE weather
+    ADD COLUMN max_temp       DOUBLE NULL,
+    ADD COLUMN min_temp       DOUBLE NULL,
+    ADD COLUMN max_feel       DOUBLE NULL,
+    ADD COLUMN min_feel       DOUBLE NULL,
+    ADD COLUMN morning_feel   DOUBLE NULL,
+    ADD COLUMN afternoon_feel DOUBLE NULL,
+    ADD COLUMN evening_feel   DOUBLE NULL;
+
+-- 체감온도가 없는 시각은 기온으로, 시간대는 fcst_time(HHmm) 문자열 비교 (06~12시, 12~18시, 18~24시)
+UPDATE weather w
+    JOIN (SELECT weather_id,
+                 MAX(temperature)                                                          AS max_temp,
+                 MIN(temperature)                                                          AS min_temp,
+                 MAX(COALESCE(apparent_temp, temperature))                                 AS max_feel,
+                 MIN(COALESCE(apparent_temp, temperature))                                 AS min_feel,
+                 AVG(CASE WHEN fcst_time >= '0600' AND fcst_time < '1200'
+                              THEN COALESCE(apparent_temp, temperature) END)               AS morning_feel,
+                 AVG(CASE WHEN fcst_time >= '1200' AND fcst_time < '1800'
+                              THEN COALESCE(apparent_temp, temperature) END)               AS afternoon_feel,
+                 AVG(CASE WHEN fcst_time >= '1800' THEN COALESCE(apparent_temp, temperature) END) AS evening_feel
+          FROM hourly_weather
+          GROUP BY weather_id) s ON s.weather_id = w.id
+SET w.max_temp       = s.max_temp,
+    w.min_temp       = s.min_temp,
+    w.max_feel       = s.max_feel,
+    w.min_feel       = s.min_feel,
+    w.morning_feel   = ROUND(s.morning_feel, 1),
+    w.afternoon_feel = ROUND(s.afternoon_feel, 1),
+    w.evening_feel   = ROUND(s.evening_feel, 1);
@@ -0,0 +1,94 @@
+package com.admc.closet_cast;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * db/migration 을 실제 MySQL 에 적용합니다. 마이그레이션은 MySQL 문법(DELETE ... JOIN 등)이라 H2 로는 돌릴 수 없어서
+ * MIGRATION_TEST_URL 이 있을 때만 실행합니다. 스키마를 지우고 다시 만드므로 빈 스키마를 따로 만들어서 사용.
+ * <pre>
+ * MIGRATION_TEST_URL=jdbc:mysql://localhost:3306/closetcast_migration MIGRATION_TEST_PASSWORD=... \
+ *     ./gradlew test --tests '*FlywayMigrationTest'
+ * </pre>
+ */
+@EnabledIfEnvironmentVariable(named = "MIGRATION_TEST_URL", matches = ".+")
+class FlywayMigrationTest {
+
+    private final String url = System.getenv("MIGRATION_TEST_URL");
+    private final String user = System.getenv().getOrDefault("MIGRATION_TEST_USER", "root");
+    private final String password = System.getenv().getOrDefault("MIGRATION_TEST_PASSWORD", "");
+
+    @BeforeEach
+    void cleanSchema() {
+        Flyway.configure().dataSource(url, user, password).cleanDisabled(false).load().clean();
+    }
+
+    @Test
+    void migratesEmptySchemaToLatest() {
+        Flyway flyway = flyway(MigrationVersion.LATEST);
+
+        flyway.migrate();
+
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    // Flyway 도입 전 스키마(V1)에는 유니크 인덱스가 없어서 중복 행이 있을 수 있음
+    @Test
+    void deduplicatesLegacyRowsBeforeAddingUniqueKeys() throws SQLException {
+        flyway(MigrationVersion.fromVersion("1")).migrate();
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO member (id, created_at, updated_at, login_id, name, password) VALUES "
+                    + "(1, NOW(6), NOW(6), 'dup', 'first', 'pw'), "
+                    + "(2, NOW(6), NOW(6), 'dup', 'second', 'pw'), "
+                    + "(3, NOW(6), NOW(6), 'solo', 'solo', 'pw')");
+            statement.executeUpdate("INSERT INTO weather (id, `date`, tmx, tmn) VALUES "
+                    + "(1, '20240101', 1, -5), (2, '20240101', 2, -4), (3, 'garbage', 0, 0)");
+            statement.executeUpdate("INSERT INTO hourly_weather (fcst_time, temperature, weather_id) VALUES "
+                    + "('0600', -5, 1), ('0600', -4, 2), ('0600', 0, 3)");
+        }
+
+        flyway(MigrationVersion.LATEST).migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            assertEquals(List.of("dup", "dup#2", "solo"),
+                    strings(statement, "SELECT login_id FROM member ORDER BY id"));
+            // 같은 날짜는 id 가 큰 행만, 날짜를 해석할 수 없는 행은 버림
+            assertEquals(List.of("2"), strings(statement, "SELECT id FROM weather"));
+            assertEquals(List.of("2"), strings(statement, "SELECT weather_id FROM hourly_weather"));
+        }
+    }
+
+    private Flyway flyway(MigrationVersion target) {
+        return Flyway.configure()
+                .dataSource(url, user, password)
+                .target(target)
+                .load();
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(url, user, password);
+    }
+
+    private static List<String> strings(Statement statement, String sql) throws SQLException {
+        List<String> values = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                values.add(resultSet.getString(1));
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,51 @@
+package com.admc.closet_cast.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdaptiveLimitTest {
+
+    private static final long TARGET = TimeUnit.SECONDS.toNanos(1);
+
+    // 목표 이하면 1/limit 씩 늘어남: 2 -> 2.5 -> 2.9 -> 3.24
+    @Test
+    void growsByOneOverLimitWhileUnderTarget() {
+        AdaptiveLimit limit = new AdaptiveLimit(2, 1, 64, TARGET, 0.5);
+
+        limit.onSample(TARGET / 2, false);
+        limit.onSample(TARGET / 2, false);
+        assertEquals(2, limit.get());
+
+        limit.onSample(TARGET, false);
+        assertEquals(3, limit.get());
+    }
+
+    @Test
+    void neverGrowsPastMax() {
+        AdaptiveLimit limit = new AdaptiveLimit(4, 1, 4, TARGET, 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(0, false);
+        }
+
+        assertEquals(4, limit.get());
+    }
+
+    // 목표를 넘거나 실패하면 backoffRatio 를 곱하고, minLimit 아래로는 내려가지 않음
+    @Test
+    void backsOffOnSlowOrDroppedSamples() {
+        AdaptiveLimit limit = new AdaptiveLimit(10, 2, 64, TARGET, 0.5);
+
+        limit.onSample(TARGET + 1, false);
+        assertEquals(5, limit.get());
+
+        limit.onSample(0, true);
+        assertEquals(2, limit.get());
+
+        limit.onSample(TARGET * 10, true);
+        assertEquals(2, limit.get());
+    }
+}
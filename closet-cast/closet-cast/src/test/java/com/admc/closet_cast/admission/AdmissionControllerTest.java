@@ -0,0 +1,167 @@
+package com.admc.closet_cast.admission;
+
+import com.admc.closet_cast.apiPayload.exception.handler.RecommendHandler;
+import com.admc.closet_cast.apiPayload.form.status.ErrorStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdmissionControllerTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private AdmissionController controller;
+
+    // 한도를 1 로 고정해서 대기열 동작만 봄
+    @BeforeEach
+    void setUp() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setInitialLimit(1);
+        properties.setMinLimit(1);
+        properties.setMaxLimit(1);
+        properties.setMaxQueueInteractive(2);
+        properties.setMaxQueueBackground(1);
+        controller = new AdmissionController(properties, registry);
+    }
+
+    @Test
+    void grantsInteractiveBeforeEarlierBackground() {
+        AdmissionController.Permit held = controller.acquire(Priority.INTERACTIVE, deadline()).join();
+        CompletableFuture<AdmissionController.Permit> background = controller.acquire(Priority.BACKGROUND, deadline());
+        CompletableFuture<AdmissionController.Permit> interactive = controller.acquire(Priority.INTERACTIVE, deadline());
+        assertEquals(1, depth("background"));
+        assertEquals(1, depth("interactive"));
+
+        held.release(0, false);
+        assertTrue(interactive.isDone());
+        assertFalse(background.isDone());
+
+        interactive.join().release(0, false);
+        assertTrue(background.isDone());
+        background.join().release(0, false);
+        assertEquals(0, inFlight());
+    }
+
+    @Test
+    void shedsAlreadyExpiredRequest() {
+        CompletableFuture<AdmissionController.Permit> future =
+                controller.acquire(Priority.INTERACTIVE, System.nanoTime() - 1);
+
+        assertEquals(ErrorStatus.RECOMMEND_DEADLINE_EXCEEDED, failure(future));
+        assertEquals(1, shed("interactive", "expired"));
+        assertEquals(0, inFlight());
+    }
+
+    @Test
+    void shedsWhenLaneIsFull() {
+        controller.acquire(Priority.INTERACTIVE, deadline()).join();
+        controller.acquire(Priority.BACKGROUND, deadline());
+
+        CompletableFuture<AdmissionController.Permit> future = controller.acquire(Priority.BACKGROUND, deadline());
+
+        assertEquals(ErrorStatus.RECOMMEND_OVERLOADED, failure(future));
+        assertEquals(1, shed("background", "queue_full"));
+        assertEquals(0, shed("interactive", "queue_full"));
+    }
+
+    // 대기 중 기한이 지난 요청은 자리가 나도 승인하지 않고 버림
+    @Test
+    void dropsWaiterThatExpiredInQueue() throws InterruptedException {
+        AdmissionController.Permit held = controller.acquire(Priority.INTERACTIVE, deadline()).join();
+        CompletableFuture<AdmissionController.Permit> waiter =
+                controller.acquire(Priority.INTERACTIVE, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(5));
+        Thread.sleep(20);
+
+        held.release(0, false);
+
+        assertEquals(ErrorStatus.RECOMMEND_DEADLINE_EXCEEDED, failure(waiter));
+        assertEquals(1, shed("interactive", "expired"));
+        assertEquals(0, inFlight());
+    }
+
+    @Test
+    void timesOutWhileWaitingAndLeavesQueue() {
+        AdmissionController.Permit held = controller.acquire(Priority.INTERACTIVE, deadline()).join();
+
+        RecommendHandler e = assertThrows(RecommendHandler.class, () -> controller.execute(Priority.INTERACTIVE,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20), () -> Mono.just("late")).block());
+
+        assertEquals(ErrorStatus.RECOMMEND_DEADLINE_EXCEEDED, e.getCode());
+        assertEquals(1, shed("interactive", "timeout"));
+        assertEquals(0, depth("interactive"));
+        held.release(0, false);
+        assertEquals(0, inFlight());
+    }
+
+    @Test
+    void releasesPermitAfterTask() {
+        assertEquals("done", controller.execute(Priority.INTERACTIVE, deadline(), () -> Mono.just("done")).block());
+        assertThrows(IllegalStateException.class, () -> controller.execute(Priority.INTERACTIVE, deadline(),
+                () -> Mono.error(new IllegalStateException("boom"))).block());
+
+        assertEquals(0, inFlight());
+    }
+
+    // 기한 처리 쪽이 취소하기 직전에 승인이 난 경우: 받은 자리를 돌려줌
+    @Test
+    void grantBeforeGiveUpReturnsPermit() {
+        AdmissionController.Permit held = controller.acquire(Priority.INTERACTIVE, deadline()).join();
+        CompletableFuture<AdmissionController.Permit> waiter = controller.acquire(Priority.INTERACTIVE, deadline());
+        held.release(0, false);
+        assertEquals(1, inFlight());
+
+        controller.giveUp(waiter, Priority.INTERACTIVE);
+
+        assertEquals(0, inFlight());
+        assertEquals(0, shed("interactive", "timeout"));
+        assertTrue(controller.acquire(Priority.INTERACTIVE, deadline()).isDone());
+    }
+
+    // 취소된 대기자가 아직 대기열에 남아 있을 때 승인이 난 경우: 자리를 돌려줌
+    @Test
+    void grantToCancelledWaiterReturnsPermit() {
+        AdmissionController.Permit held = controller.acquire(Priority.INTERACTIVE, deadline()).join();
+        CompletableFuture<AdmissionController.Permit> waiter = controller.acquire(Priority.INTERACTIVE, deadline());
+        waiter.cancel(false);
+
+        held.release(0, false);
+
+        assertEquals(0, inFlight());
+        assertEquals(0, depth("interactive"));
+        assertTrue(controller.acquire(Priority.INTERACTIVE, deadline()).isDone());
+    }
+
+    private static long deadline() {
+        return System.nanoTime() + MINUTE;
+    }
+
+    private static ErrorStatus failure(CompletableFuture<?> future) {
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        return (ErrorStatus) assertInstanceOf(RecommendHandler.class, e.getCause()).getCode();
+    }
+
+    private double inFlight() {
+        return registry.get("admission.inflight").gauge().value();
+    }
+
+    private double depth(String lane) {
+        return registry.get("admission.queue.depth").tag("lane", lane).gauge().value();
+    }
+
+    private double shed(String lane, String reason) {
+        return registry.get("admission.shed").tag("lane", lane).tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,180 @@
+package com.admc.closet_cast.backfill;
+
+import com.admc.closet_cast.outbox.ChangeEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ForecastBackfillTest {
+
+    private static final int NX = 60;
+    private static final int NY = 120;
+
+    @TempDir
+    Path dir;
+
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:backfill-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final BackfillProperties properties = new BackfillProperties();
+    private ForecastBackfill backfill;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // upsert 가 기대는 유니크 키만 둔 최소 스키마 (마이그레이션은 MySQL 문법)
+        jdbcTemplate.execute("""
+                CREATE TABLE weather (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY, nx INT NOT NULL, ny INT NOT NULL, forecast_date DATE NOT NULL,
+                    tmx DOUBLE, tmn DOUBLE, max_temp DOUBLE, min_temp DOUBLE, max_feel DOUBLE, min_feel DOUBLE,
+                    morning_feel DOUBLE, afternoon_feel DOUBLE, evening_feel DOUBLE,
+                    CONSTRAINT uk_weather_grid_date UNIQUE (nx, ny, forecast_date))""");
+        jdbcTemplate.execute("""
+                CREATE TABLE hourly_weather (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY, weather_id BIGINT NOT NULL, fcst_time VARCHAR(4) NOT NULL,
+                    temperature DOUBLE, apparent_temp DOUBLE,
+                    CONSTRAINT uk_hourly_weather_time UNIQUE (weather_id, fcst_time))""");
+        jdbcTemplate.execute("""
+                CREATE TABLE weather_version (
+                    nx INT NOT NULL, ny INT NOT NULL, version BIGINT NOT NULL, PRIMARY KEY (nx, ny))""");
+
+        properties.setDir(dir.toString());
+        properties.setBatchFiles(2);
+        properties.setParallelism(2);
+        backfill = new ForecastBackfill(properties, jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), mock(ChangeEventPublisher.class));
+
+        write("20250101_0200.json", forecast(
+                item("20250101", "0600", "TMP", 1), item("20250101", "0900", "TMP", 3),
+                item("20250101", "0600", "TMN", -3), item("20250101", "1500", "TMX", 5)));
+        writeGzip("20250101_0500.json.gz", forecast(
+                item("20250101", "0900", "TMP", 4), item("20250102", "0600", "TMP", 2)));
+        write("20250101_0800.json", "{\"response\": {\"body\": ");
+        write("20250101_1100.json", forecast(item("20250102", "0600", "TMP", 2.5)));
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    // 깨진 파일은 실패로 세고 건너뛰며, 나머지는 발표 순서대로 덮어써서 적재
+    @Test
+    void loadsReadableFilesAndCountsBrokenOne() throws Exception {
+        BackfillReport report = backfill.run();
+
+        assertEquals(4, report.files());
+        assertEquals(0, report.skipped());
+        assertEquals(1, report.failed());
+        assertEquals(5, report.rowsParsed());
+        assertEquals(4, report.rowsWritten());
+        assertEquals(2, BackfillRunner.exitCode(report));
+
+        assertEquals(Map.of("20250101 0600", 1.0, "20250101 0900", 4.0, "20250102 0600", 2.5), temperatures());
+        assertEquals(List.of(5.0, -3.0, 4.0, 1.0), jdbcTemplate.queryForObject(
+                "SELECT tmx, tmn, max_temp, min_temp FROM weather WHERE forecast_date = DATE '2025-01-01'",
+                (rs, i) -> List.of(rs.getDouble(1), rs.getDouble(2), rs.getDouble(3), rs.getDouble(4))));
+        assertEquals("20250101_1100.json", checkpoint());
+        assertEquals(1L, version());
+    }
+
+    // 체크포인트까지는 건너뛰고 그 뒤 파일만 적재
+    @Test
+    void resumesAfterCheckpoint() throws Exception {
+        backfill.run();
+        write("20250101_1400.json", forecast(item("20250103", "0600", "TMP", 7)));
+
+        BackfillReport report = backfill.run();
+
+        assertEquals(1, report.files());
+        assertEquals(4, report.skipped());
+        assertEquals(0, report.failed());
+        assertEquals(0, BackfillRunner.exitCode(report));
+        assertEquals(7.0, temperatures().get("20250103 0600"));
+        assertEquals("20250101_1400.json", checkpoint());
+        assertEquals(2L, version());
+    }
+
+    // 중간에 멈춘 경우: 커밋된 배치의 마지막 파일까지 건너뜀
+    @Test
+    void resumesFromPartialCheckpoint() throws Exception {
+        Files.writeString(dir.resolve(".backfill-checkpoint"), "20250101_0500.json.gz");
+
+        BackfillReport report = backfill.run();
+
+        assertEquals(2, report.files());
+        assertEquals(2, report.skipped());
+        assertEquals(1, report.failed());
+        assertEquals(Map.of("20250102 0600", 2.5), temperatures());
+    }
+
+    @Test
+    void restartIgnoresCheckpoint() throws Exception {
+        backfill.run();
+        properties.setRestart(true);
+
+        BackfillReport report = backfill.run();
+
+        assertEquals(4, report.files());
+        assertEquals(0, report.skipped());
+        assertEquals(1, report.failed());
+        // upsert 라 다시 적용해도 결과는 같음
+        assertEquals(Map.of("20250101 0600", 1.0, "20250101 0900", 4.0, "20250102 0600", 2.5), temperatures());
+    }
+
+    private Map<String, Double> temperatures() {
+        return jdbcTemplate.query("""
+                        SELECT w.forecast_date, h.fcst_time, h.temperature
+                        FROM hourly_weather h JOIN weather w ON w.id = h.weather_id""",
+                        (rs, i) -> Map.entry(
+                                rs.getDate(1).toLocalDate().toString().replace("-", "") + " " + rs.getString(2),
+                                rs.getDouble(3)))
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private long version() {
+        return jdbcTemplate.queryForObject("SELECT version FROM weather_version WHERE nx = ? AND ny = ?", Long.class, NX, NY);
+    }
+
+    private String checkpoint() throws IOException {
+        return Files.readString(dir.resolve(".backfill-checkpoint"));
+    }
+
+    private void write(String name, String content) throws IOException {
+        Files.writeString(dir.resolve(name), content);
+    }
+
+    private void writeGzip(String name, String content) throws IOException {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(dir.resolve(name)))) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String forecast(String... items) {
+        return "{\"response\": {\"body\": {\"items\": {\"item\": [" + String.join(", ", items) + "]}}}}";
+    }
+
+    private static String item(String date, String time, String category, double value) {
+        return String.format("{\"nx\": %d, \"ny\": %d, \"fcstDate\": \"%s\", \"fcstTime\": \"%s\", \"category\": \"%s\", \"fcstValue\": \"%s\"}",
+                NX, NY, date, time, category, value);
+    }
+}
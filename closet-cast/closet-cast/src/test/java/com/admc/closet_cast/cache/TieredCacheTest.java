@@ -0,0 +1,125 @@
+package com.admc.closet_cast.cache;
+
+import com.admc.closet_cast.dto.RecommendDto;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TieredCacheTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JavaType RECOMMEND = MAPPER.constructType(RecommendDto.class);
+    private static final RecommendDto OUTFIT = RecommendDto.of("COAT", "SWEATER", "JEANS");
+
+    @Test
+    void servesFromNearCacheWhenSharedTierIsDown() {
+        ValueOperations<String, String> ops = valueOperations();
+        when(ops.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        MeterRegistry registry = new SimpleMeterRegistry();
+        TieredCache cache = cache(ops, registry);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(OUTFIT, cache.get(TieredCache.RECOMMENDATION, "k", RECOMMEND, () -> load(loads)));
+        assertEquals(OUTFIT, cache.get(TieredCache.RECOMMENDATION, "k", RECOMMEND, () -> load(loads)));
+
+        assertEquals(1, loads.get());
+        assertEquals(0, registry.get("cache.shared.up").gauge().value());
+    }
+
+    @Test
+    void readsValueStoredByAnotherNode() throws InterruptedException {
+        Map<String, String> redis = new ConcurrentHashMap<>();
+        ValueOperations<String, String> ops = valueOperations();
+        when(ops.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(ops).set(anyString(), anyString(), any(Duration.class));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache(ops, new SimpleMeterRegistry()).get(TieredCache.RECOMMENDATION, "k", RECOMMEND, () -> load(loads));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (redis.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        RecommendDto other = cache(ops, new SimpleMeterRegistry())
+                .get(TieredCache.RECOMMENDATION, "k", RECOMMEND, () -> load(loads));
+
+        assertEquals(OUTFIT, other);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        TieredCache cache = cache(valueOperations(), new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<RecommendDto> first = executor.submit(() -> cache.get(TieredCache.RECOMMENDATION, "k", RECOMMEND, () -> {
+                loading.countDown();
+                await(release);
+                return load(loads);
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<RecommendDto> second = executor.submit(() -> cache.get(TieredCache.RECOMMENDATION, "k", RECOMMEND, () -> load(loads)));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertEquals(OUTFIT, first.get(5, TimeUnit.SECONDS));
+            assertEquals(OUTFIT, second.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    private static TieredCache cache(ValueOperations<String, String> ops, MeterRegistry registry) {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        when(redis.opsForValue()).thenReturn(ops);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("redis", redis));
+
+        TieredCacheProperties properties = new TieredCacheProperties();
+        properties.setSharedEnabled(true);
+        return new TieredCache(properties, beans.getBeanProvider(StringRedisTemplate.class), MAPPER, registry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ValueOperations<String, String> valueOperations() {
+        return mock(ValueOperations.class);
+    }
+
+    private static RecommendDto load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return OUTFIT;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.admc.closet_cast.catalog;
+
+import com.admc.closet_cast.entity.Garment;
+import com.admc.closet_cast.entity.GarmentCategory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GarmentIndexTest {
+
+    // 상의 보온 점수: SHORT_SLEEVE 4, SHIRT 9, LONG_SLEEVE 13, HOODIE 17, SWEATER 22
+    private final GarmentIndex index = TestGarments.index();
+
+    @Test
+    void warmthBetweenIncludesBothBounds() {
+        assertEquals(List.of("SHIRT", "LONG_SLEEVE", "HOODIE"), codes(index.warmthBetween(GarmentCategory.TOP, 9, 17)));
+        assertEquals(List.of("LONG_SLEEVE"), codes(index.warmthBetween(GarmentCategory.TOP, 13, 13)));
+        assertEquals(List.of("LONG_SLEEVE"), codes(index.warmthBetween(GarmentCategory.TOP, 9.5, 16.9)));
+    }
+
+    @Test
+    void warmthBetweenCoversEnds() {
+        assertEquals(List.of("SHORT_SLEEVE", "SHIRT", "LONG_SLEEVE", "HOODIE", "SWEATER"),
+                codes(index.warmthBetween(GarmentCategory.TOP, -100, 100)));
+        assertEquals(List.of("SHORT_SLEEVE"), codes(index.warmthBetween(GarmentCategory.TOP, -100, 4)));
+        assertEquals(List.of("SWEATER"), codes(index.warmthBetween(GarmentCategory.TOP, 22, 100)));
+    }
+
+    @Test
+    void warmthBetweenIsEmptyOutsideOrReversedRange() {
+        assertEquals(List.of(), index.warmthBetween(GarmentCategory.TOP, 10, 12));
+        assertEquals(List.of(), index.warmthBetween(GarmentCategory.TOP, 17, 9));
+        assertEquals(List.of(), index.warmthBetween(GarmentCategory.TOP, 23, 100));
+        assertEquals(List.of(), index.warmthBetween(GarmentCategory.TOP, -100, 3.9));
+        assertEquals(List.of(), GarmentIndex.empty().warmthBetween(GarmentCategory.TOP, -100, 100));
+    }
+
+    @Test
+    void sameWarmthIsOrderedByCode() {
+        GarmentIndex ties = GarmentIndex.of(List.of(
+                TestGarments.garment("B_TEE", GarmentCategory.TOP, 10, 0),
+                TestGarments.garment("A_TEE", GarmentCategory.TOP, 10, 1),
+                TestGarments.garment("C_TEE", GarmentCategory.TOP, 11, 2)));
+
+        assertEquals(List.of("A_TEE", "B_TEE"), codes(ties.warmthBetween(GarmentCategory.TOP, 10, 10)));
+    }
+
+    // 체감 17°C -> 필요한 보온 13
+    @Test
+    void suitableForUsesToleranceAroundRequiredWarmth() {
+        assertEquals(List.of("LONG_SLEEVE"), codes(index.suitableFor(GarmentCategory.TOP, 17, 0)));
+        assertEquals(List.of("SHIRT", "LONG_SLEEVE", "HOODIE"), codes(index.suitableFor(GarmentCategory.TOP, 17, 4)));
+        assertEquals(List.of("LONG_SLEEVE"), codes(index.suitableFor(GarmentCategory.TOP, 17, 3.9)));
+        assertEquals(List.of(), index.suitableFor(GarmentCategory.TOP, 19, 1));
+    }
+
+    @Test
+    void inactiveItemsAreFoundByCodeButNotSelectable() {
+        Garment retired = Garment.builder()
+                .code("CARDIGAN")
+                .name("가디건")
+                .category(GarmentCategory.TOP)
+                .warmth(13)
+                .slot(13)
+                .active(false)
+                .build();
+        List<Garment> garments = new ArrayList<>(TestGarments.CATALOG);
+        garments.add(retired);
+        GarmentIndex withRetired = GarmentIndex.of(garments);
+
+        assertTrue(withRetired.find("CARDIGAN").isPresent());
+        assertFalse(withRetired.isSelectable("CARDIGAN"));
+        assertEquals(List.of("LONG_SLEEVE"), codes(withRetired.warmthBetween(GarmentCategory.TOP, 13, 13)));
+        assertFalse(withRetired.activeCodes().contains("CARDIGAN"));
+    }
+
+    @Test
+    void clampWarmthStaysInsideCategoryRange() {
+        assertEquals(4, index.clampWarmth(GarmentCategory.TOP, -10));
+        assertEquals(22, index.clampWarmth(GarmentCategory.TOP, 40));
+        assertEquals(15, index.clampWarmth(GarmentCategory.TOP, 15));
+        assertEquals(15, GarmentIndex.empty().clampWarmth(GarmentCategory.TOP, 15));
+    }
+
+    private static List<String> codes(List<Garment> garments) {
+        return garments.stream().map(Garment::getCode).toList();
+    }
+}
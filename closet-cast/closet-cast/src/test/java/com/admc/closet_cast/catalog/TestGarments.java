@@ -0,0 +1,56 @@
+package com.admc.closet_cast.catalog;
+
+import com.admc.closet_cast.entity.Garment;
+import com.admc.closet_cast.entity.GarmentCategory;
+
+import java.util.List;
+
+/**
+ * V5__garment_catalog.sql 의 기본 카탈로그 (테스트용)
+ */
+public final class TestGarments {
+
+    public static final List<Garment> CATALOG = List.of(
+            garment("PUFFER_JACKET", "패딩", GarmentCategory.OUTER, 30, 0),
+            garment("COAT", "코트", GarmentCategory.OUTER, 23, 1),
+            garment("FLEECE", "플리스", GarmentCategory.OUTER, 20, 2),
+            garment("JACKET", "자켓", GarmentCategory.OUTER, 16, 3),
+            garment("WINDBREAKER", "바람막이", GarmentCategory.OUTER, 13, 4),
+            garment("SWEATER", "니트", GarmentCategory.TOP, 22, 5),
+            garment("HOODIE", "후드티", GarmentCategory.TOP, 17, 6),
+            garment("SHIRT", "셔츠", GarmentCategory.TOP, 9, 7),
+            garment("LONG_SLEEVE", "긴팔티", GarmentCategory.TOP, 13, 8),
+            garment("SHORT_SLEEVE", "반팔티", GarmentCategory.TOP, 4, 9),
+            garment("JEANS", "청바지", GarmentCategory.BOTTOM, 18, 10),
+            garment("COTTON_PANTS", "면바지", GarmentCategory.BOTTOM, 12, 11),
+            garment("SHORTS", "반바지", GarmentCategory.BOTTOM, 3, 12));
+
+    private TestGarments() {
+    }
+
+    public static GarmentIndex index() {
+        return GarmentIndex.of(CATALOG);
+    }
+
+    public static Garment get(String code) {
+        return CATALOG.stream()
+                .filter(garment -> garment.getCode().equals(code))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    public static Garment garment(String code, GarmentCategory category, double warmth, int slot) {
+        return garment(code, code, category, warmth, slot);
+    }
+
+    private static Garment garment(String code, String name, GarmentCategory category, double warmth, int slot) {
+        return Garment.builder()
+                .code(code)
+                .name(name)
+                .category(category)
+                .warmth(warmth)
+                .slot(slot)
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.admc.closet_cast.comfort;
+
+import com.admc.closet_cast.catalog.GarmentCatalog;
+import com.admc.closet_cast.catalog.TestGarments;
+import com.admc.closet_cast.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * H2 에는 MySQL 이름 잠금이 없어서 GET_LOCK/RELEASE_LOCK 을 아래 static 메서드로 대신합니다.
+ * (H2 가 리플렉션으로 부르므로 클래스와 메서드가 public)
+ */
+public class ComfortRecomputeJobTest {
+
+    private static volatile boolean lockHeldElsewhere;
+    private static final AtomicInteger releases = new AtomicInteger();
+
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:recompute-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final ComfortProperties properties = new ComfortProperties();
+    private ComfortRecomputeJob job;
+
+    public static int getLock(String name, int timeout) {
+        return lockHeldElsewhere ? 0 : 1;
+    }
+
+    public static int releaseLock(String name) {
+        releases.incrementAndGet();
+        return 1;
+    }
+
+    @BeforeEach
+    void setUp() {
+        lockHeldElsewhere = false;
+        releases.set(0);
+        String self = ComfortRecomputeJobTest.class.getName();
+        jdbcTemplate.execute("CREATE ALIAS GET_LOCK FOR \"" + self + ".getLock\"");
+        jdbcTemplate.execute("CREATE ALIAS RELEASE_LOCK FOR \"" + self + ".releaseLock\"");
+        jdbcTemplate.execute("""
+                CREATE TABLE member (
+                    id BIGINT PRIMARY KEY, comfort_offset DOUBLE, comfort_samples INT, comfort_error DOUBLE,
+                    comfort_cloth VARBINARY(255), comfort_learned_at TIMESTAMP(6))""");
+        jdbcTemplate.execute("CREATE TABLE member_tendencies (member_id BIGINT NOT NULL, tendency VARCHAR(32))");
+        jdbcTemplate.execute("""
+                CREATE TABLE recommendation_feedback (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY, recommendation_id CHAR(36) NOT NULL, member_id BIGINT NOT NULL,
+                    feedback VARCHAR(16) NOT NULL, outer_item VARCHAR(255), top_item VARCHAR(255), bottom_item VARCHAR(255),
+                    created_at TIMESTAMP(6) NOT NULL)""");
+
+        GarmentCatalog catalog = mock(GarmentCatalog.class);
+        when(catalog.current()).thenReturn(TestGarments.index());
+        properties.setRecomputeParallelism(2);
+        properties.setRecomputeChunkSize(1);
+        job = new ComfortRecomputeJob(properties, new NamedParameterJdbcTemplate(dataSource),
+                new ComfortService(mock(MemberRepository.class), catalog), registry);
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    // 1: 학습 기록 없음, 2: 재계산 직전(settle 안)에 학습, 3: 오래전에 학습
+    @Test
+    void replaysWindowAndSkipsRecentlyLearnedMembers() {
+        LocalDateTime now = LocalDateTime.now();
+        member(1, null);
+        member(2, now.minusMinutes(1));
+        member(3, now.minusHours(1));
+        for (long id = 1; id <= 3; id++) {
+            feedback(id, "TOO_COLD", now.minusDays(1));
+            feedback(id, "TOO_COLD", now.minusDays(2));
+        }
+        // 기간(recompute-window) 밖의 피드백은 재생하지 않음
+        feedback(1, "TOO_HOT", now.minus(properties.getRecomputeWindow()).minusDays(1));
+
+        job.recompute();
+
+        assertEquals(2, samples(1));
+        assertEquals(9, samples(2));
+        assertEquals(2, samples(3));
+        assertEquals(2, registry.get("comfort.recompute.members").counter().count());
+        assertEquals(1, registry.get("comfort.recompute.skipped").counter().count());
+        assertEquals(1, releases.get());
+    }
+
+    // 다른 노드가 잠금을 잡고 있으면 아무것도 하지 않음
+    @Test
+    void skipsWhenAnotherNodeHoldsTheLock() {
+        lockHeldElsewhere = true;
+        member(1, null);
+        feedback(1, "TOO_COLD", LocalDateTime.now().minusDays(1));
+
+        job.recompute();
+
+        assertEquals(9, samples(1));
+        assertEquals(0, registry.get("comfort.recompute.members").counter().count());
+        assertEquals(0, releases.get());
+    }
+
+    @Test
+    void settleWindowIsConfigurable() {
+        properties.setRecomputeSettle(Duration.ZERO);
+        member(1, LocalDateTime.now().minusSeconds(1));
+        feedback(1, "LIKED", LocalDateTime.now().minusDays(1));
+
+        job.recompute();
+
+        assertEquals(1, samples(1));
+    }
+
+    // 재계산 전 값 (samples 9)
+    private void member(long id, LocalDateTime learnedAt) {
+        jdbcTemplate.update("INSERT INTO member VALUES (?, 3.0, 9, 0.1, NULL, ?)",
+                id, learnedAt == null ? null : Timestamp.valueOf(learnedAt));
+    }
+
+    private void feedback(long memberId, String feedback, LocalDateTime createdAt) {
+        jdbcTemplate.update("""
+                        INSERT INTO recommendation_feedback
+                            (recommendation_id, member_id, feedback, outer_item, top_item, bottom_item, created_at)
+                        VALUES (?, ?, ?, 'COAT', 'SWEATER', 'JEANS', ?)""",
+                UUID.randomUUID().toString(), memberId, feedback, Timestamp.valueOf(createdAt));
+    }
+
+    private int samples(long id) {
+        return jdbcTemplate.queryForObject("SELECT comfort_samples FROM member WHERE id = ?", Integer.class, id);
+    }
+}
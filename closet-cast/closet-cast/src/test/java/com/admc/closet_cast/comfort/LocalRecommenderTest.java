@@ -0,0 +1,82 @@
+package com.admc.closet_cast.comfort;
+
+import com.admc.closet_cast.catalog.GarmentCatalog;
+import com.admc.closet_cast.catalog.TestGarments;
+import com.admc.closet_cast.dto.RecommendDto;
+import com.admc.closet_cast.entity.ComfortModel;
+import com.admc.closet_cast.entity.Garment;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalRecommenderTest {
+
+    private static final Set<String> EVERYTHING = Set.copyOf(TestGarments.CATALOG.stream().map(Garment::getCode).toList());
+
+    private final LocalRecommender recommender = recommender();
+
+    @Test
+    void skipsOuterOnWarmDays() {
+        RecommendDto outfit = recommender.recommend(neutral(), EVERYTHING, 28, 24);
+
+        assertEquals(RecommendDto.of(LocalRecommender.NONE, "SHORT_SLEEVE", "SHORTS"), outfit);
+    }
+
+    @Test
+    void picksWarmestWhenColderThanCatalogRange() {
+        RecommendDto outfit = recommender.recommend(neutral(), EVERYTHING, 0, -4);
+
+        assertEquals(RecommendDto.of("PUFFER_JACKET", "SWEATER", "JEANS"), outfit);
+    }
+
+    @Test
+    void offsetShiftsTowardWarmerClothes() {
+        // 체감 16°C: 필요한 보온 14 -> WINDBREAKER(13). 6°C 더 춥게 느끼면 필요한 보온 20 -> FLEECE
+        assertEquals("WINDBREAKER", recommender.recommend(neutral(), EVERYTHING, 16, 16).outer());
+        assertEquals("FLEECE", recommender.recommend(ComfortModel.of(6.0, 10, 0.1, null), EVERYTHING, 16, 16).outer());
+    }
+
+    @Test
+    void clothAdjustmentChangesPick() {
+        // 필요한 보온 20: 보정 전에는 SWEATER(22), 니트가 4°C 덜 따뜻하고 후드티가 2°C 더 따뜻했다면 HOODIE
+        byte[] cloth = new byte[TestGarments.CATALOG.size()];
+        cloth[TestGarments.get("SWEATER").getSlot()] = -8;
+        cloth[TestGarments.get("HOODIE").getSlot()] = 4;
+
+        assertEquals("SWEATER", recommender.recommend(neutral(), EVERYTHING, 10, 10).top());
+        assertEquals("HOODIE", recommender.recommend(ComfortModel.of(0, 10, 0.1, cloth), EVERYTHING, 10, 10).top());
+    }
+
+    @Test
+    void returnsNullWhenNothingOwnedIsCloseEnough() {
+        // 필요한 보온 20 인데 아우터는 패딩(30)뿐
+        Set<String> owned = Set.of("PUFFER_JACKET", "HOODIE", "JEANS");
+
+        assertNull(recommender.recommend(neutral(), owned, 10, 10));
+    }
+
+    @Test
+    void trustsModelOnlyAfterEnoughLowErrorSamples() {
+        assertFalse(recommender.isConfident(ComfortModel.of(0, 4, 0.1, null)));
+        assertFalse(recommender.isConfident(ComfortModel.of(0, 10, 0.5, null)));
+        assertTrue(recommender.isConfident(ComfortModel.of(0, 10, 0.1, null)));
+    }
+
+    private static ComfortModel neutral() {
+        return ComfortModel.initial(List.of());
+    }
+
+    private static LocalRecommender recommender() {
+        GarmentCatalog catalog = mock(GarmentCatalog.class);
+        when(catalog.current()).thenReturn(TestGarments.index());
+        return new LocalRecommender(new ComfortProperties(), catalog);
+    }
+}
@@ -0,0 +1,76 @@
+package com.admc.closet_cast.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final ReadWriteRoutingDataSource routing = routing();
+
+    @AfterEach
+    void clearTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    // 인증 없이 경로의 memberId 로 쓰는 API 도 그 회원의 다음 조회는 primary 로
+    @Test
+    void routesMemberReadToPrimaryAfterUnauthenticatedWrite() {
+        try (RoutingSubject.Scope ignored = RoutingSubject.open(RoutingSubject.member(7L))) {
+            writeAndCommit();
+        }
+
+        assertEquals(DataSourceRole.PRIMARY, readAs(7L));
+        assertEquals(DataSourceRole.REPLICA, readAs(8L));
+    }
+
+    @Test
+    void nestedSubjectRestoresPrevious() {
+        try (RoutingSubject.Scope outer = RoutingSubject.open(RoutingSubject.member(1L))) {
+            try (RoutingSubject.Scope inner = RoutingSubject.open(RoutingSubject.member(2L))) {
+                assertEquals("member:2", RoutingSubject.current());
+            }
+            assertEquals("member:1", RoutingSubject.current());
+        }
+        assertNull(RoutingSubject.current());
+    }
+
+    private void writeAndCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        assertEquals(DataSourceRole.PRIMARY, routing.determineCurrentLookupKey());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private Object readAs(Long memberId) {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (RoutingSubject.Scope ignored = RoutingSubject.open(RoutingSubject.member(memberId))) {
+            return routing.determineCurrentLookupKey();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private static ReadWriteRoutingDataSource routing() {
+        ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+        when(lagMonitor.isHealthy()).thenReturn(true);
+        return new ReadWriteRoutingDataSource(
+                Map.of(DataSourceRole.PRIMARY, mock(DataSource.class), DataSourceRole.REPLICA, mock(DataSource.class)),
+                new ReadYourWritesTracker(new ReplicaProperties()),
+                lagMonitor,
+                new SimpleMeterRegistry());
+    }
+}
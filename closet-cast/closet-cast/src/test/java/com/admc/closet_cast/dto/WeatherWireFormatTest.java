@@ -0,0 +1,117 @@
+package com.admc.closet_cast.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeatherWireFormatTest {
+
+    private static final String COLUMNAR = WeatherWireFormat.COLUMNAR_JSON_VALUE;
+    private static final String CBOR = WeatherWireFormat.CBOR_VALUE;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+
+    @Test
+    void picksHighestQualityType() {
+        assertEquals(WeatherWireFormat.CBOR, WeatherWireFormat.select("application/json;q=0.5, " + CBOR));
+        assertEquals(WeatherWireFormat.COLUMNAR_JSON, WeatherWireFormat.select(CBOR + ";q=0.8, " + COLUMNAR + ";q=0.9"));
+        assertNull(WeatherWireFormat.select(CBOR + ";q=0.5, application/json"));
+        assertNull(WeatherWireFormat.select(CBOR + ";q=0"));
+    }
+
+    // 헤더가 없거나 와일드카드가 앞서면 기존 JSON
+    @Test
+    void keepsJsonForAbsentOrWildcardAccept() {
+        assertNull(WeatherWireFormat.select(null));
+        assertNull(WeatherWireFormat.select(" "));
+        assertNull(WeatherWireFormat.select("*/*"));
+        assertNull(WeatherWireFormat.select("application/*"));
+        assertEquals(WeatherWireFormat.CBOR, WeatherWireFormat.select("*/*;q=0.1, " + CBOR));
+    }
+
+    @Test
+    void fallsBackToJsonForUnknownOrMalformedAccept() {
+        assertNull(WeatherWireFormat.select("text/html"));
+        assertNull(WeatherWireFormat.select("application/xml, text/plain;q=0.5"));
+        assertNull(WeatherWireFormat.select("not a media type"));
+    }
+
+    // 필드 이름은 하루에 한 번, 시간별 값은 평행 배열
+    @Test
+    void columnarJsonRoundTrips() throws IOException {
+        List<DailyWeatherDto> days = days();
+        byte[] body = WeatherWireFormat.toColumnarJson(days);
+
+        JsonNode first = json.readTree(body).get(0);
+        assertEquals(List.of("date", "tmx", "tmn", "times", "temp", "apparent"), fieldNames(first));
+        assertEquals("0100", first.get("times").get(1).asText());
+        assertTrue(first.get("apparent").get(1).isNull());
+        assertEquals(days, decode(json.readTree(body)));
+        assertArrayEquals(body, WeatherWireFormat.write(WeatherWireFormat.COLUMNAR_JSON, days));
+    }
+
+    @Test
+    void cborRoundTripsWithSameStructure() throws IOException {
+        List<DailyWeatherDto> days = days();
+        byte[] body = WeatherWireFormat.toCbor(days);
+
+        assertEquals(days, decode(cbor.readTree(body)));
+        assertArrayEquals(body, WeatherWireFormat.write(MediaType.parseMediaType(CBOR), days));
+        assertTrue(body.length < WeatherWireFormat.toColumnarJson(days).length);
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    // float 로 쓰므로 소수 첫째 자리로 되돌림
+    private static List<DailyWeatherDto> decode(JsonNode root) {
+        List<DailyWeatherDto> days = new ArrayList<>();
+        for (JsonNode node : root) {
+            DailyWeatherDto day = new DailyWeatherDto(node.get("date").asText());
+            day.setTmx(number(node.get("tmx")));
+            day.setTmn(number(node.get("tmn")));
+            for (int i = 0; i < node.get("times").size(); i++) {
+                day.getHourlyList().add(new HourlyWeatherDto(node.get("times").get(i).asText(),
+                        number(node.get("temp").get(i)), number(node.get("apparent").get(i))));
+            }
+            days.add(day);
+        }
+        return days;
+    }
+
+    private static Double number(JsonNode node) {
+        return node.isNull() ? null : Math.round(node.asDouble() * 10) / 10.0;
+    }
+
+    // 이틀 x 24시간, 01시는 체감온도 없음, 둘째 날은 최저기온 없음
+    private static List<DailyWeatherDto> days() {
+        List<DailyWeatherDto> days = new ArrayList<>();
+        for (int d = 0; d < 2; d++) {
+            DailyWeatherDto day = new DailyWeatherDto("2026101" + (9 + d));
+            day.setTmx(21.3 + d);
+            day.setTmn(d == 0 ? -1.7 : null);
+            for (int h = 0; h < 24; h++) {
+                double temp = Math.round((-1.7 + h * 0.9 + d) * 10) / 10.0;
+                day.getHourlyList().add(new HourlyWeatherDto(String.format("%02d00", h), temp,
+                        h == 1 ? null : Math.round((temp - 2.1) * 10) / 10.0));
+            }
+            days.add(day);
+        }
+        return days;
+    }
+}
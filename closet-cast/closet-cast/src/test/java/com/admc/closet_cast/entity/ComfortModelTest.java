@@ -0,0 +1,73 @@
+package com.admc.closet_cast.entity;
+
+import com.admc.closet_cast.catalog.TestGarments;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ComfortModelTest {
+
+    private static final Garment JEANS = TestGarments.get("JEANS");
+    private static final Garment SWEATER = TestGarments.get("SWEATER");
+
+    @Test
+    void startsFromTendency() {
+        assertEquals(2.0, ComfortModel.initial(Set.of(Tendency.COLD)).getOffset());
+        assertEquals(-2.0, ComfortModel.initial(Set.of(Tendency.HOT)).getOffset());
+        assertEquals(0.0, ComfortModel.initial(null).getOffset());
+    }
+
+    @Test
+    void tooColdRaisesOffsetAndMarksWornClothesLessWarm() {
+        ComfortModel model = ComfortModel.initial(List.of());
+
+        model.apply(FeedbackType.TOO_COLD, List.of(JEANS));
+
+        assertEquals(1.0, model.getOffset());       // 학습률 1/(0+2) * 2°C
+        assertEquals(1, model.getSamples());
+        assertEquals(1.0, model.getError());        // 1 + 0.2 * (1 - 1)
+        assertEquals(-ComfortModel.CLOTH_UNIT, model.clothAdjustment(JEANS));
+        assertEquals(0.0, model.clothAdjustment(SWEATER));
+        assertEquals(JEANS.getSlot() + 1, model.getClothAdjustments().length);
+    }
+
+    @Test
+    void likedOnlyLowersError() {
+        ComfortModel model = ComfortModel.initial(List.of());
+
+        model.apply(FeedbackType.LIKED, List.of(JEANS));
+
+        assertEquals(0.0, model.getOffset());
+        assertEquals(0.8, model.getError(), 1e-9);
+        assertNull(model.getClothAdjustments());
+    }
+
+    @Test
+    void clampsOffsetAndClothAdjustments() {
+        ComfortModel model = ComfortModel.initial(List.of());
+
+        for (int i = 0; i < 500; i++) {
+            model.apply(FeedbackType.TOO_HOT, List.of(SWEATER));
+        }
+
+        assertEquals(-10.0, model.getOffset());
+        assertEquals(Byte.MAX_VALUE * ComfortModel.CLOTH_UNIT, model.clothAdjustment(SWEATER));
+        assertEquals(Byte.MAX_VALUE * ComfortModel.CLOTH_UNIT, model.maxClothAdjustment());
+        assertEquals(500, model.getSamples());
+    }
+
+    @Test
+    void ignoresGarmentsOutsideSlotRange() {
+        ComfortModel model = ComfortModel.initial(List.of());
+        Garment unknown = TestGarments.garment("UNKNOWN", GarmentCategory.TOP, 10, ComfortModel.MAX_SLOTS + 1);
+
+        model.apply(FeedbackType.TOO_COLD, List.of(unknown));
+
+        assertEquals(0.0, model.clothAdjustment(unknown));
+        assertEquals(0.0, model.maxClothAdjustment());
+    }
+}
@@ -0,0 +1,38 @@
+package com.admc.closet_cast.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class WeatherSummaryTest {
+
+    @Test
+    void summarizesFeelByWindowFallingBackToTemperature() {
+        WeatherSummary summary = new WeatherSummary.Accumulator()
+                .add("0300", 2.0, -1.0)   // 새벽: 최고/최저에만 들어감
+                .add("0700", 4.0, 1.0)
+                .add("0900", 6.0, 4.0)
+                .add("1300", 12.0, null)  // 체감온도가 없으면 기온
+                .add("1500", 14.0, 13.0)
+                .add("2100", 8.0, 6.5)
+                .build();
+
+        assertEquals(14.0, summary.getMaxTemp());
+        assertEquals(2.0, summary.getMinTemp());
+        assertEquals(13.0, summary.getMaxFeel());
+        assertEquals(-1.0, summary.getMinFeel());
+        assertEquals(2.5, summary.getMorningFeel());
+        assertEquals(12.5, summary.getAfternoonFeel());
+        assertEquals(6.5, summary.getEveningFeel());
+    }
+
+    @Test
+    void emptyDayHasNoValues() {
+        WeatherSummary summary = new WeatherSummary.Accumulator().build();
+
+        assertNull(summary.getMaxFeel());
+        assertNull(summary.getMinFeel());
+        assertNull(summary.getMorningFeel());
+    }
+}
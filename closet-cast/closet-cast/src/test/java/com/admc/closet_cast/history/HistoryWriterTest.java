@@ -0,0 +1,86 @@
+package com.admc.closet_cast.history;
+
+import com.admc.closet_cast.entity.RecommendSource;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HistoryWriterTest {
+
+    private static final int BATCH_SIZE = 10;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:history-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private HistoryWriter writer;
+
+    @BeforeEach
+    void createTables() {
+        // V3 과 같은 키 (중복 저장이면 PK 위반으로 실패)
+        jdbcTemplate.execute("""
+                CREATE TABLE recommendation_history (
+                    id CHAR(36) PRIMARY KEY, member_id BIGINT NOT NULL, recommend_date DATE NOT NULL,
+                    tmx DOUBLE, tmn DOUBLE, max_feel DOUBLE, min_feel DOUBLE,
+                    outer_item VARCHAR(255), top_item VARCHAR(255), bottom_item VARCHAR(255),
+                    source VARCHAR(16) NOT NULL, created_at TIMESTAMP(6) NOT NULL)""");
+
+        HistoryProperties properties = new HistoryProperties();
+        properties.setBatchSize(BATCH_SIZE);
+        properties.setFlushInterval(Duration.ofMillis(50));
+        writer = new HistoryWriter(properties, jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), registry);
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    // 배치 몇 개 분량을 쌓은 채 시작/종료해도 모든 항목이 정확히 한 번씩 저장
+    @Test
+    void writesEveryEventExactlyOnceAcrossBatchesAndShutdown() {
+        for (int i = 0; i < BATCH_SIZE * 2 + 5; i++) {
+            assertTrue(writer.offer(recommendation("r-" + i)));
+        }
+        writer.start();
+        for (int i = 0; i < BATCH_SIZE + 3; i++) {
+            assertTrue(writer.offer(recommendation("late-" + i)));
+        }
+        writer.stop();
+
+        assertEquals(38, count("SELECT COUNT(*) FROM recommendation_history"));
+        assertEquals(38, count("SELECT COUNT(DISTINCT id) FROM recommendation_history"));
+
+        DistributionSummary batches = registry.get("history.flush.batch").summary();
+        assertEquals(38, batches.totalAmount());
+        assertTrue(batches.count() >= 4);
+        assertTrue(batches.max() <= BATCH_SIZE);
+        assertEquals(0, registry.get("history.write.failed").counter().count());
+        assertEquals(0, registry.get("history.buffer.size").gauge().value());
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private static HistoryEvent recommendation(String id) {
+        return new HistoryEvent.Recommendation(id, 1L, LocalDate.of(2024, 1, 1), 5.0, -2.0, 3.0, -5.0,
+                "COAT", "SWEATER", "JEANS", RecommendSource.LLM, LocalDateTime.now());
+    }
+}
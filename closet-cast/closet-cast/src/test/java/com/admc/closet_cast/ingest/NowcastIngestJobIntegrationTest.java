@@ -0,0 +1,155 @@
+package com.admc.closet_cast.ingest;
+
+import com.admc.closet_cast.client.KmaClient;
+import com.admc.closet_cast.dto.DailyWeatherDto;
+import com.admc.closet_cast.dto.HourlyWeatherDto;
+import com.admc.closet_cast.metrics.IngestMetrics;
+import com.admc.closet_cast.service.WeatherService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 초단기예보 병합 회귀 테스트
+ * test 프로필에서는 스케줄 잡이 꺼져 있으므로 KmaClient 만 목으로 바꿔 직접 만듭니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class NowcastIngestJobIntegrationTest {
+
+    private static final int NX = WeatherService.NX;
+    private static final int NY = WeatherService.NY;
+
+    @Autowired
+    private WeatherService weatherService;
+
+    @Autowired
+    private IngestMetrics ingestMetrics;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final KmaClient kmaClient = mock(KmaClient.class);
+    private final LocalDate today = LocalDate.now();
+    private NowcastIngestJob job;
+
+    // 0~23시 기온 10 + 0.5h, 체감온도는 기온 - 1.5
+    @BeforeEach
+    void seedForecast() {
+        List<DailyWeatherDto> days = new ArrayList<>();
+        for (int d = 0; d < 3; d++) {
+            DailyWeatherDto day = new DailyWeatherDto(date(d));
+            day.setTmx(22.0);
+            day.setTmn(9.0);
+            for (int h = 0; h < 24; h++) {
+                double temp = 10.0 + h * 0.5;
+                day.getHourlyList().add(new HourlyWeatherDto(String.format("%02d00", h), temp, temp - 1.5));
+            }
+            days.add(day);
+        }
+        weatherService.saveWeatherToDB(days, NX, NY);
+        job = new NowcastIngestJob(kmaClient, weatherService, ingestMetrics);
+    }
+
+    @Test
+    void mergesOnlyCoveredHoursOncePerBaseTime() {
+        Map<String, Double[]> before = hours(today);
+        long version = version();
+        double skipped = ingestMetrics.getNowcastSkipped().count();
+        when(kmaClient.getUltraSrtFcst(anyString(), anyString(), anyInt(), anyInt())).thenReturn(
+                Mono.just(nowcast(
+                        item(date(0), "1000", "T1H", 30.0), item(date(0), "1000", "WSD", 2.0),
+                        // 풍속이 없으면 기존 체감온도 유지
+                        item(date(0), "1100", "T1H", 31.0),
+                        // 값이 같으면 바뀐 시각으로 세지 않음
+                        item(date(0), "1200", "T1H", 16.0),
+                        // 단기예보가 없는 날짜는 건너뜀
+                        item(date(5), "0000", "T1H", 1.0))),
+                Mono.just(nowcast(item(date(0), "1000", "T1H", -5.0))));
+
+        job.ingest();
+
+        Map<String, Double[]> expected = new HashMap<>(before);
+        expected.put("1000", new Double[]{30.0, 32.4});
+        expected.put("1100", new Double[]{31.0, 14.0});
+        assertHours(expected, hours(today));
+        assertEquals(List.of(31.0, 10.0, 32.4, 8.5), summary(today));
+        assertEquals(version + 1, version());
+        assertEquals(0, count("SELECT COUNT(*) FROM weather WHERE nx = ? AND ny = ? AND forecast_date = ?",
+                NX, NY, Date.valueOf(today.plusDays(5))));
+
+        // 같은 발표 시각은 다시 받지도 병합하지도 않음
+        job.ingest();
+
+        assertHours(expected, hours(today));
+        assertEquals(version + 1, version());
+        assertEquals(skipped + 1, ingestMetrics.getNowcastSkipped().count());
+    }
+
+    private Map<String, Double[]> hours(LocalDate date) {
+        Map<String, Double[]> hours = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT h.fcst_time, h.temperature, h.apparent_temp
+                        FROM hourly_weather h JOIN weather w ON w.id = h.weather_id
+                        WHERE w.nx = ? AND w.ny = ? AND w.forecast_date = ?""",
+                rs -> {
+                    hours.put(rs.getString(1), new Double[]{rs.getDouble(2), rs.getDouble(3)});
+                }, NX, NY, Date.valueOf(date));
+        return hours;
+    }
+
+    private static void assertHours(Map<String, Double[]> expected, Map<String, Double[]> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<String, Double[]> entry : expected.entrySet()) {
+            assertEquals(Arrays.asList(entry.getValue()), Arrays.asList(actual.get(entry.getKey())), entry.getKey());
+        }
+    }
+
+    // 최고/최저 기온, 최고/최저 체감온도
+    private List<Double> summary(LocalDate date) {
+        return jdbcTemplate.queryForObject("""
+                        SELECT max_temp, min_temp, max_feel, min_feel FROM weather
+                        WHERE nx = ? AND ny = ? AND forecast_date = ?""",
+                (rs, i) -> List.of(rs.getDouble(1), rs.getDouble(2), rs.getDouble(3), rs.getDouble(4)),
+                NX, NY, Date.valueOf(date));
+    }
+
+    private long version() {
+        return count("SELECT COALESCE(MAX(version), 0) FROM weather_version WHERE nx = ? AND ny = ?", NX, NY);
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private String date(int plusDays) {
+        return today.plusDays(plusDays).format(WeatherService.DATE_FORMAT);
+    }
+
+    private static String nowcast(String... items) {
+        return "{\"response\": {\"body\": {\"items\": {\"item\": [" + String.join(", ", items) + "]}}}}";
+    }
+
+    private static String item(String date, String time, String category, double value) {
+        return String.format("{\"fcstDate\": \"%s\", \"fcstTime\": \"%s\", \"category\": \"%s\", \"fcstValue\": \"%s\"}",
+                date, time, category, value);
+    }
+}
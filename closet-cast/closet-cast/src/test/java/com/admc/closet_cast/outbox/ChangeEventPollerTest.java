@@ -0,0 +1,170 @@
+package com.admc.closet_cast.outbox;
+
+import com.admc.closet_cast.cache.TieredCache;
+import com.admc.closet_cast.config.CacheConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 무효화 결과는 members 캐시에 남은 키로 확인합니다. (회원 1~9 를 미리 넣어 둠)
+ * AUTO_INCREMENT 대신 id 를 직접 넣어서 커밋 순서가 id 순서와 다른 경우를 만듭니다.
+ */
+class ChangeEventPollerTest {
+
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:outbox-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final OutboxProperties properties = new OutboxProperties();
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.MEMBERS);
+    private ChangeEventPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+                CREATE TABLE change_event (
+                    id BIGINT PRIMARY KEY, aggregate VARCHAR(16) NOT NULL, aggregate_key VARCHAR(64) NOT NULL,
+                    created_at TIMESTAMP(6) NOT NULL)""");
+        for (long id = 1; id <= 9; id++) {
+            members().put(id, "member-" + id);
+        }
+        poller = new ChangeEventPoller(properties, jdbcTemplate, new NamedParameterJdbcTemplate(dataSource),
+                new CacheInvalidator(cacheManager, mock(TieredCache.class)), registry);
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    // 기동 전 이벤트는 적용하지 않고 그 뒤부터 읽음
+    @Test
+    void startsAfterExistingEvents() {
+        event(1, 1);
+        event(2, 2);
+
+        poller.poll();
+        event(3, 3);
+        poller.poll();
+
+        assertEquals(List.of(1L, 2L, 4L, 5L, 6L, 7L, 8L, 9L), cachedMembers());
+        assertEquals(1, applied());
+    }
+
+    // id 2, 3 이 먼저 커밋되고 1 이 늦게 커밋된 경우
+    @Test
+    void deliversLateCommittedGap() {
+        poller.poll();
+        event(2, 2);
+        event(3, 3);
+
+        poller.poll();
+        assertEquals(List.of(1L, 4L, 5L, 6L, 7L, 8L, 9L), cachedMembers());
+        assertEquals(1, gaps());
+
+        event(1, 1);
+        event(4, 4);
+        poller.poll();
+
+        assertEquals(List.of(5L, 6L, 7L, 8L, 9L), cachedMembers());
+        assertEquals(0, gaps());
+        assertEquals(0, expired());
+        assertEquals(4, applied());
+    }
+
+    // 롤백돼서 끝내 안 채워지는 id 는 gapTimeout 뒤 버리고, 그동안에도 뒤 이벤트는 계속 적용
+    @Test
+    void expiresAbandonedGapWithoutStallingCursor() throws InterruptedException {
+        properties.setGapTimeout(Duration.ofMillis(20));
+        poller.poll();
+        event(2, 2);
+        poller.poll();
+        assertEquals(1, gaps());
+
+        event(3, 3);
+        poller.poll();
+        assertEquals(List.of(1L, 4L, 5L, 6L, 7L, 8L, 9L), cachedMembers());
+
+        Thread.sleep(50);
+        event(4, 4);
+        poller.poll();
+
+        assertEquals(List.of(1L, 5L, 6L, 7L, 8L, 9L), cachedMembers());
+        assertEquals(0, gaps());
+        assertEquals(1, expired());
+    }
+
+    // 한 번에 batchSize 만큼만 읽고 다음 주기에 이어서 읽음
+    @Test
+    void readsInBatches() {
+        properties.setBatchSize(2);
+        poller.poll();
+        LongStream.rangeClosed(1, 5).forEach(id -> event(id, id));
+
+        poller.poll();
+        assertEquals(2, applied());
+
+        poller.poll();
+        poller.poll();
+        assertEquals(List.of(6L, 7L, 8L, 9L), cachedMembers());
+        assertEquals(5, applied());
+    }
+
+    @Test
+    void purgesEventsOlderThanRetention() {
+        properties.setRetention(Duration.ofHours(1));
+        event(1, 1, LocalDateTime.now().minusHours(2));
+        event(2, 2, LocalDateTime.now().minusMinutes(10));
+
+        poller.purge();
+
+        assertEquals(List.of(2L), jdbcTemplate.queryForList("SELECT id FROM change_event", Long.class));
+    }
+
+    private void event(long id, long memberId) {
+        event(id, memberId, LocalDateTime.now());
+    }
+
+    private void event(long id, long memberId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO change_event VALUES (?, 'MEMBER', ?, ?)",
+                id, String.valueOf(memberId), Timestamp.valueOf(createdAt));
+    }
+
+    private Cache members() {
+        return cacheManager.getCache(CacheConfig.MEMBERS);
+    }
+
+    private List<Long> cachedMembers() {
+        return LongStream.rangeClosed(1, 9).filter(id -> members().get(id) != null).boxed().toList();
+    }
+
+    private double gaps() {
+        return registry.get("outbox.gaps").gauge().value();
+    }
+
+    private double expired() {
+        return registry.get("outbox.gaps.expired").counter().count();
+    }
+
+    private double applied() {
+        return registry.get("outbox.events").tag("aggregate", "member").counter().count();
+    }
+}
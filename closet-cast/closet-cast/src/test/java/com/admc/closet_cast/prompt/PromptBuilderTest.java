@@ -0,0 +1,116 @@
+package com.admc.closet_cast.prompt;
+
+import com.admc.closet_cast.catalog.GarmentCatalog;
+import com.admc.closet_cast.catalog.GarmentIndex;
+import com.admc.closet_cast.catalog.TestGarments;
+import com.admc.closet_cast.entity.Garment;
+import com.admc.closet_cast.entity.GarmentCategory;
+import com.admc.closet_cast.entity.Preference;
+import com.admc.closet_cast.entity.Tendency;
+import com.admc.closet_cast.reply.ReplyProperties;
+import com.admc.closet_cast.service.RecommendContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PromptBuilderTest {
+
+    private final GarmentCatalog catalog = mock(GarmentCatalog.class);
+    private final ReplyProperties replyProperties = new ReplyProperties();
+    private PromptBuilder builder;
+
+    @BeforeEach
+    void setUp() {
+        when(catalog.current()).thenReturn(TestGarments.index());
+        builder = newBuilder();
+    }
+
+    // 회원마다 옷장, 선호, 기온이 달라도 system 과 response_format 은 바이트 단위로 같음
+    @Test
+    void compactPrefixIsIdenticalAcrossMembers() {
+        Prompt cold = builder.build(context(1L, List.of("COAT", "SWEATER", "JEANS"), List.of(Preference.CLASSIC),
+                List.of(Tendency.COLD), 3.0));
+        Prompt hot = builder.build(context(2L, List.of("SHORT_SLEEVE", "SHORTS"), List.of(),
+                List.of(Tendency.HOT), 31.0));
+
+        assertArrayEquals(cold.system().getBytes(StandardCharsets.UTF_8), hot.system().getBytes(StandardCharsets.UTF_8));
+        assertEquals(cold.responseFormat(), hot.responseFormat());
+        assertNotEquals(cold.user(), hot.user());
+        assertEquals("t=3/-2 f=1/-4 c=COAT,SWEATER,JEANS p=CLASSIC k=COLD", cold.user());
+    }
+
+    // 새로 만든 빌더(다른 노드)에서도 같은 접두부
+    @Test
+    void compactPrefixIsStableAcrossInstances() {
+        RecommendContext context = context(1L, List.of("COAT"), List.of(), List.of(), 10.0);
+
+        assertEquals(builder.build(context).system(), newBuilder().build(context).system());
+    }
+
+    @Test
+    void compactPrefixFollowsCatalogSnapshot() {
+        RecommendContext context = context(1L, List.of("COAT", "HOODIE", "JEANS"), List.of(), List.of(), 10.0);
+        Prompt before = builder.build(context);
+
+        List<Garment> garments = new ArrayList<>(TestGarments.CATALOG);
+        garments.add(TestGarments.garment("CARDIGAN", GarmentCategory.TOP, 15, 13));
+        GarmentIndex updated = GarmentIndex.of(garments);
+        when(catalog.current()).thenReturn(updated);
+        Prompt after = builder.build(context);
+
+        assertNotEquals(before.system(), after.system());
+        assertTrue(after.system().contains("CARDIGAN 15"));
+        assertNotEquals(before.responseFormat(), after.responseFormat());
+        assertEquals(before.user(), after.user());
+        assertNotEquals(before.cacheKey(), after.cacheKey());
+
+        // 같은 스냅샷이면 다시 같은 접두부
+        assertEquals(after.system(), builder.build(context).system());
+    }
+
+    @Test
+    void structuredOutputSwitchChangesPrefix() {
+        RecommendContext context = context(1L, List.of("COAT"), List.of(), List.of(), 10.0);
+        Prompt structured = builder.build(context);
+
+        replyProperties.setStructuredOutput(false);
+        Prompt plain = builder.build(context);
+
+        assertNotEquals(structured.system(), plain.system());
+        assertNull(plain.responseFormat());
+    }
+
+    // 회원 ID 는 키에 들어가지 않고, 기온은 정수로 반올림한 값만 들어감
+    @Test
+    void cacheKeyIsStableForEqualInputs() {
+        String key = builder.build(context(1L, List.of("COAT", "JEANS"), List.of(Preference.CASUAL), List.of(), 10.2)).cacheKey();
+
+        assertEquals(key, builder.build(context(2L, List.of("COAT", "JEANS"), List.of(Preference.CASUAL), List.of(), 10.2)).cacheKey());
+        assertEquals(key, newBuilder().build(context(3L, List.of("COAT", "JEANS"), List.of(Preference.CASUAL), List.of(), 9.8)).cacheKey());
+        assertEquals(64, key.length());
+        assertNotEquals(key, builder.build(context(1L, List.of("COAT", "JEANS"), List.of(Preference.CASUAL), List.of(), 11.0)).cacheKey());
+        assertNotEquals(key, builder.build(context(1L, List.of("COAT"), List.of(Preference.CASUAL), List.of(), 10.2)).cacheKey());
+    }
+
+    private PromptBuilder newBuilder() {
+        return new PromptBuilder(catalog, new PromptProperties(), replyProperties);
+    }
+
+    // 최저기온은 최고 - 5, 체감은 각각 2도 낮게
+    private static RecommendContext context(Long memberId, List<String> garments, List<Preference> preferences,
+                                            List<Tendency> tendencies, double maxTemp) {
+        return new RecommendContext(memberId, garments, preferences, tendencies,
+                maxTemp, maxTemp - 5, maxTemp - 2, maxTemp - 7, null, null, System.nanoTime());
+    }
+}
@@ -0,0 +1,34 @@
+package com.admc.closet_cast.querycount;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 통합 테스트용: 작업 하나가 보내는 SQL 수를 세고 상한을 넘으면 실패
+ * 같은 스레드에서 실행되는 SQL 만 셉니다 (MockMvc, 서비스 직접 호출).
+ */
+public final class QueryCountAssertions {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private QueryCountAssertions() {
+    }
+
+    public static QueryStats count(String name, Action action) throws Exception {
+        try (QueryCounter.Scope scope = QueryCounter.open(name)) {
+            action.run();
+            return scope.stats();
+        }
+    }
+
+    public static QueryStats assertMaxQueries(int max, String name, Action action) throws Exception {
+        QueryStats stats = count(name, action);
+        if (stats.statements() > max) {
+            fail(name + ": SQL " + stats.statements() + "건 (최대 " + max + "건). "
+                    + "가장 많이 반복된 SQL " + stats.maxRepeats() + "번 - " + stats.mostRepeated());
+        }
+        return stats;
+    }
+}
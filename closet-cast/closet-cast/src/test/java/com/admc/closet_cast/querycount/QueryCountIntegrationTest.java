@@ -0,0 +1,109 @@
+package com.admc.closet_cast.querycount;
+
+import com.admc.closet_cast.dto.DailyWeatherDto;
+import com.admc.closet_cast.dto.HourlyWeatherDto;
+import com.admc.closet_cast.outbox.ChangeEventPoller;
+import com.admc.closet_cast.service.WeatherService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.admc.closet_cast.querycount.QueryCountAssertions.assertMaxQueries;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 수 상한. 쿼리가 늘어나는 변경은 여기서 실패합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class QueryCountIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WeatherService weatherService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ChangeEventPoller changeEventPoller;
+
+    @BeforeEach
+    void seedForecast() {
+        // 값이 같으면 아무것도 바꾸지 않으므로 테스트마다 호출해도 버전이 그대로
+        weatherService.saveWeatherToDB(threeDays(LocalDate.now()), WeatherService.NX, WeatherService.NY);
+        // 예보가 바뀌었으면 그 무효화를 여기서 끝내서, 측정 중에 near 캐시가 비워지지 않게 함
+        changeEventPoller.poll();
+    }
+
+    @Test
+    void readWeatherStaysWithinQueryBudget() throws Exception {
+        // 캐시가 비어 있으면 버전 1 + 일별 1 + 시간별(하루 1번) 3
+        assertMaxQueries(5, "GET /api/weather/read (cold)", () ->
+                mockMvc.perform(get("/api/weather/read")).andExpect(status().isOk()));
+        // near 캐시 적중이면 버전 확인만
+        assertMaxQueries(1, "GET /api/weather/read (cached)", () ->
+                mockMvc.perform(get("/api/weather/read")).andExpect(status().isOk()));
+    }
+
+    /**
+     * /api/weather/get 의 저장 구간. 새 날짜의 시간별 행은 IDENTITY id 라 행마다 INSERT 한 번씩이고,
+     * 이미 있는 시각의 UPDATE 는 JDBC 배치(hibernate.jdbc.batch_size)로 묶입니다.
+     */
+    @Test
+    void ingestStaysWithinQueryBudget() throws Exception {
+        int grid = 90;
+        List<DailyWeatherDto> days = threeDays(LocalDate.of(2030, 1, 1));
+        // 날짜 3개 조회/저장 + 시간별 72행 INSERT + 버전, 변경 이벤트
+        assertMaxQueries(83, "ingest (new days)", () -> weatherService.saveWeatherToDB(days, grid, grid));
+        // 바뀐 값이 없으면 날짜와 시간별 행 조회만
+        assertMaxQueries(6, "ingest (unchanged)", () -> weatherService.saveWeatherToDB(days, grid, grid));
+
+        days.forEach(day -> day.getHourlyList().forEach(hour -> hour.setTemperature(hour.getTemperature() + 1)));
+        // 72행 UPDATE 가 batch_size 단위 배치 몇 번으로 묶임 (배치가 없으면 84건)
+        assertMaxQueries(15, "ingest (changed hours)", () -> weatherService.saveWeatherToDB(days, grid, grid));
+    }
+
+    @Test
+    void recordsPerEndpointMetrics() throws Exception {
+        mockMvc.perform(get("/api/weather/read")).andExpect(status().isOk());
+
+        DistributionSummary queries = meterRegistry.find("db.queries")
+                .tags("scope", QueryCountRecorder.HTTP, "name", "GET /api/weather/read")
+                .summary();
+        assertNotNull(queries);
+        assertTrue(queries.count() >= 1);
+        assertTrue(queries.max() >= 1);
+    }
+
+    private static List<DailyWeatherDto> threeDays(LocalDate today) {
+        List<DailyWeatherDto> days = new ArrayList<>();
+        for (int d = 0; d < 3; d++) {
+            DailyWeatherDto day = new DailyWeatherDto(today.plusDays(d).format(WeatherService.DATE_FORMAT));
+            day.setTmx(20.0 + d);
+            day.setTmn(10.0 + d);
+            for (int h = 0; h < 24; h++) {
+                double temp = 10.0 + d + h * 0.5;
+                day.getHourlyList().add(new HourlyWeatherDto(String.format("%02d00", h), temp, temp - 1.5));
+            }
+            days.add(day);
+        }
+        return days;
+    }
+}
@@ -0,0 +1,75 @@
+package com.admc.closet_cast.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RateLimitFilterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RateLimiter rateLimiter = mock(RateLimiter.class);
+    private final RateLimitFilter filter = new RateLimitFilter(rateLimiter, objectMapper);
+
+    @Test
+    void passesThroughWhenAllowed() throws Exception {
+        when(rateLimiter.tryAcquire(any())).thenReturn(0L);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/recommend/1"), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader("Retry-After"));
+    }
+
+    @Test
+    void rejectsWith429AndErrorBody() throws Exception {
+        when(rateLimiter.tryAcquire(any())).thenReturn(SECOND);
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/recommend/1"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(429, response.getStatus());
+        assertEquals("application/json;charset=UTF-8", response.getContentType());
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertFalse(body.get("isSuccess").asBoolean());
+        assertEquals("COMMON429", body.get("code").asText());
+        assertEquals("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", body.get("message").asText());
+        assertFalse(body.has("result"));
+    }
+
+    // 초 단위로 올림, 최소 1초
+    @Test
+    void roundsRetryAfterUpToWholeSeconds() throws Exception {
+        assertEquals("1", retryAfter(1));
+        assertEquals("1", retryAfter(SECOND));
+        assertEquals("2", retryAfter(SECOND + 1));
+        assertEquals("2", retryAfter(SECOND * 3 / 2));
+        assertEquals("30", retryAfter(SECOND * 30));
+    }
+
+    private String retryAfter(long waitNanos) throws Exception {
+        when(rateLimiter.tryAcquire(any())).thenReturn(waitNanos);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/recommend/1"), response, new MockFilterChain());
+        return response.getHeader("Retry-After");
+    }
+}
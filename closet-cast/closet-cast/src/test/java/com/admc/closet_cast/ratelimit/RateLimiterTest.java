@@ -0,0 +1,104 @@
+package com.admc.closet_cast.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void limitsOnlyMatchingPaths() {
+        RateLimiter limiter = limiter(new RateLimitProperties.Rule(
+                "ingest", "/api/weather/get", KeyType.IP, 1, 1, Duration.ofHours(1)));
+
+        assertEquals(0, limiter.tryAcquire(request("/api/weather/get", "10.0.0.1")));
+        assertTrue(limiter.tryAcquire(request("/api/weather/get", "10.0.0.1")) > 0);
+        assertEquals(0, limiter.tryAcquire(request("/api/weather/delta", "10.0.0.1")));
+        assertEquals(0, limiter.tryAcquire(request("/api/weather/get", "10.0.0.2")));
+        assertEquals(1, registry.get("ratelimit.rejected").tag("rule", "ingest").counter().count());
+    }
+
+    // 익명 요청이 경로의 memberId 만 바꿔서 남의 버킷을 비울 수 없음
+    @Test
+    void anonymousCallersCannotDrainAnotherMembersBucket() {
+        RateLimiter limiter = limiter(recommendRule(Duration.ofHours(1)));
+
+        assertEquals(0, limiter.tryAcquire(request("/api/recommend/7", "10.0.0.1")));
+        assertTrue(limiter.tryAcquire(request("/api/recommend/7", "10.0.0.1")) > 0);
+        assertEquals(0, limiter.tryAcquire(request("/api/recommend/7", "10.0.0.2")));
+        assertEquals(0, limiter.tryAcquire(request("/api/recommend/8", "10.0.0.1")));
+    }
+
+    // 로그인 사용자는 IP 가 바뀌어도 같은 버킷
+    @Test
+    void authenticatedMemberIsKeyedOnPrincipal() {
+        RateLimiter limiter = limiter(recommendRule(Duration.ofHours(1)));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("alice", null, List.of()));
+
+        assertEquals(0, limiter.tryAcquire(request("/api/recommend/7", "10.0.0.1")));
+        assertTrue(limiter.tryAcquire(request("/api/recommend/8", "10.0.0.2")) > 0);
+    }
+
+    // 스트라이프를 한 바퀴 다 돌면 가득 찬 버킷만 제거
+    @Test
+    void evictsIdleKeysAfterFullSweep() throws InterruptedException {
+        RateLimitProperties.Rule fast = new RateLimitProperties.Rule(
+                "fast", "/fast", KeyType.IP, 1, 1, Duration.ofMillis(1));
+        RateLimitProperties.Rule slow = new RateLimitProperties.Rule(
+                "slow", "/slow", KeyType.IP, 1, 1, Duration.ofHours(1));
+        RateLimiter limiter = limiter(fast, slow);
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire(request("/fast", "10.0.0." + i));
+        }
+        limiter.tryAcquire(request("/slow", "10.0.0.1"));
+        assertEquals(20, keys("fast"));
+
+        Thread.sleep(20);
+        for (int i = 0; i < 16; i++) {
+            limiter.evictIdleKeys();
+        }
+
+        assertEquals(0, keys("fast"));
+        assertEquals(1, keys("slow"));
+    }
+
+    private RateLimiter limiter(RateLimitProperties.Rule... rules) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setIdleEviction(Duration.ZERO);
+        properties.setRules(new ArrayList<>(List.of(rules)));
+        return new RateLimiter(properties, registry);
+    }
+
+    private double keys(String rule) {
+        return registry.get("ratelimit.keys").tag("rule", rule).gauge().value();
+    }
+
+    private static RateLimitProperties.Rule recommendRule(Duration refillPeriod) {
+        return new RateLimitProperties.Rule("recommend", "/api/recommend/{memberId}", KeyType.MEMBER, 1, 1, refillPeriod);
+    }
+
+    private static MockHttpServletRequest request(String uri, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
@@ -0,0 +1,43 @@
+package com.admc.closet_cast.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstThenRejectsWithRetryAfter() {
+        TokenBucket bucket = new TokenBucket(SECOND, 3, 0);
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(SECOND, bucket.tryAcquire(0));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(SECOND, 1, 0);
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertTrue(bucket.tryAcquire(SECOND / 2) > 0);
+        assertEquals(0, bucket.tryAcquire(SECOND));
+    }
+
+    @Test
+    void becomesIdleOnlyAfterFullRefill() {
+        TokenBucket bucket = new TokenBucket(SECOND, 2, 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        assertFalse(bucket.isIdle(SECOND, 0));
+        assertTrue(bucket.isIdle(2 * SECOND, 0));
+    }
+}
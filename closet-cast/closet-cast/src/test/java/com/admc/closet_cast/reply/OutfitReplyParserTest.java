@@ -0,0 +1,32 @@
+package com.admc.closet_cast.reply;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OutfitReplyParserTest {
+
+    @Test
+    void parsesTuple() {
+        assertEquals(new RawOutfit("None", "SHORT_SLEEVE", "SHORTS"),
+                OutfitReplyParser.parse(" (None, SHORT_SLEEVE, SHORTS)\n"));
+    }
+
+    @Test
+    void parsesStructuredJson() {
+        assertEquals(new RawOutfit("COAT", "SWEATER", "JEANS"),
+                OutfitReplyParser.parse("{\"top\": \"SWEATER\", \"outer\": \"COAT\", \"bottom\": \"JEANS\"}"));
+    }
+
+    @Test
+    void keepsPartialTupleInsteadOfFailing() {
+        assertEquals(new RawOutfit("COAT", "SWEATER", null), OutfitReplyParser.parse("(COAT, SWEATER)"));
+    }
+
+    @Test
+    void returnsNullWhenNothingFound() {
+        assertNull(OutfitReplyParser.parse("  "));
+        assertNull(OutfitReplyParser.parse("{\"note\": 1}"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.admc.closet_cast.reply;
+
+import com.admc.closet_cast.apiPayload.exception.handler.RecommendHandler;
+import com.admc.closet_cast.catalog.GarmentCatalog;
+import com.admc.closet_cast.catalog.TestGarments;
+import com.admc.closet_cast.dto.RecommendDto;
+import com.admc.closet_cast.metrics.RecommendMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OutfitValidatorTest {
+
+    private static final Set<String> OWNED = Set.of("COAT", "SWEATER", "HOODIE", "LONG_SLEEVE", "JEANS", "SHORTS");
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final ReplyProperties properties = new ReplyProperties();
+    private final OutfitValidator validator = validator();
+
+    @Test
+    void keepsValidReply() {
+        assertEquals(RecommendDto.of("COAT", "SWEATER", "JEANS"),
+                validator.validate(new RawOutfit("COAT", "SWEATER", "JEANS"), OWNED, 10.0, 6.0));
+        assertEquals(1, outcome("valid"));
+    }
+
+    @Test
+    void normalizesSpellingAndDisplayNames() {
+        assertEquals(RecommendDto.of("COAT", "LONG_SLEEVE", "JEANS"),
+                validator.validate(new RawOutfit(" coat ", "long-sleeve", "청바지"), OWNED, 10.0, 6.0));
+        assertEquals(3, repairs("normalized"));
+        assertEquals(1, outcome("repaired"));
+    }
+
+    @Test
+    void movesItemsToTheirCategory() {
+        assertEquals(RecommendDto.of("COAT", "SWEATER", "JEANS"),
+                validator.validate(new RawOutfit("SWEATER", "COAT", "JEANS"), OWNED, 10.0, 6.0));
+        assertEquals(2, repairs("category"));
+    }
+
+    @Test
+    void fillsOffCatalogAndMissingItemsFromWardrobe() {
+        // 체감 8°C: 필요한 보온 22 -> 상의는 SWEATER, 하의는 가장 따뜻한 JEANS
+        assertEquals(RecommendDto.of("COAT", "SWEATER", "JEANS"),
+                validator.validate(new RawOutfit("COAT", "TUXEDO", null), OWNED, 10.0, 6.0));
+        assertEquals(2, repairs("filled"));
+    }
+
+    @Test
+    void fillsEverythingWhenReplyIsUnparseable() {
+        assertEquals(RecommendDto.of("COAT", "SWEATER", "JEANS"), validator.validate(null, OWNED, 10.0, 6.0));
+        assertEquals(1, repairs("unparseable"));
+        assertEquals(3, repairs("filled"));
+    }
+
+    @Test
+    void keepsNoOuterOnWarmDays() {
+        assertEquals(RecommendDto.of("None", "LONG_SLEEVE", "SHORTS"),
+                validator.validate(new RawOutfit("None", "LONG_SLEEVE", "SHORTS"), OWNED, 28.0, 24.0));
+        assertEquals(1, outcome("valid"));
+    }
+
+    @Test
+    void rejectsWhenWardrobeCannotFillCategory() {
+        Set<String> noBottoms = Set.of("COAT", "SWEATER");
+
+        assertThrows(RecommendHandler.class,
+                () -> validator.validate(new RawOutfit("COAT", "SWEATER", "SHORTS"), noBottoms, 10.0, 6.0));
+        assertEquals(1, outcome("invalid"));
+    }
+
+    @Test
+    void rejectsRepairsWhenRepairIsDisabled() {
+        properties.setRepair(false);
+
+        assertThrows(RecommendHandler.class,
+                () -> validator.validate(new RawOutfit("coat", "SWEATER", "JEANS"), OWNED, 10.0, 6.0));
+        assertEquals(1, outcome("invalid"));
+    }
+
+    private double outcome(String outcome) {
+        return registry.get("recommend.reply").tag("outcome", outcome).counter().count();
+    }
+
+    private double repairs(String reason) {
+        return registry.get("recommend.reply.repair").tag("reason", reason).counter().count();
+    }
+
+    private OutfitValidator validator() {
+        GarmentCatalog catalog = mock(GarmentCatalog.class);
+        when(catalog.current()).thenReturn(TestGarments.index());
+        return new OutfitValidator(catalog, properties, new RecommendMetrics(registry));
+    }
+}
@@ -0,0 +1,69 @@
+package com.admc.closet_cast.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FanOutTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void returnsAllResults() {
+        try (FanOut fanOut = new FanOut()) {
+            FanOut.Subtask<String> a = fanOut.fork("a", TIMEOUT, () -> "A");
+            FanOut.Subtask<Integer> b = fanOut.fork("b", TIMEOUT, () -> 2);
+            fanOut.join();
+
+            assertEquals("A", a.get());
+            assertEquals(2, b.get());
+        }
+    }
+
+    @Test
+    void failureCancelsSiblingsAndIsRethrown() throws InterruptedException {
+        IllegalStateException boom = new IllegalStateException("boom");
+        CountDownLatch siblingStarted = new CountDownLatch(1);
+        CountDownLatch siblingInterrupted = new CountDownLatch(1);
+
+        try (FanOut fanOut = new FanOut()) {
+            fanOut.fork("slow", TIMEOUT, () -> {
+                siblingStarted.countDown();
+                try {
+                    Thread.sleep(TIMEOUT.toMillis());
+                } catch (InterruptedException e) {
+                    siblingInterrupted.countDown();
+                }
+                return null;
+            });
+            fanOut.fork("failing", TIMEOUT, () -> {
+                siblingStarted.await();
+                throw boom;
+            });
+
+            assertSame(boom, assertThrows(IllegalStateException.class, fanOut::join));
+        }
+        assertTrue(siblingInterrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void timeoutFailsWithoutWaitingForTheSlowTask() {
+        try (FanOut fanOut = new FanOut()) {
+            fanOut.fork("slow", Duration.ofMillis(50), () -> {
+                Thread.sleep(TIMEOUT.toMillis());
+                return null;
+            });
+
+            long start = System.nanoTime();
+            assertThrows(FanOut.SubtaskTimeoutException.class, fanOut::join);
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.admc.closet_cast.service;
+
+import com.admc.closet_cast.apiPayload.exception.handler.RecommendHandler;
+import com.admc.closet_cast.apiPayload.form.status.ErrorStatus;
+import com.admc.closet_cast.dto.FeedbackRequestDto;
+import com.admc.closet_cast.entity.ComfortModel;
+import com.admc.closet_cast.entity.FeedbackType;
+import com.admc.closet_cast.entity.Member;
+import com.admc.closet_cast.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RecommendHistoryServiceIntegrationTest {
+
+    @Autowired
+    private RecommendHistoryService recommendHistoryService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private Long otherId;
+    private String recommendationId;
+
+    @BeforeEach
+    void seed() {
+        memberId = memberRepository.save(member()).getId();
+        otherId = memberRepository.save(member()).getId();
+        recommendationId = UUID.randomUUID().toString();
+        jdbcTemplate.update("""
+                        INSERT INTO recommendation_history
+                            (id, member_id, recommend_date, outer_item, top_item, bottom_item, source, created_at)
+                        VALUES (?, ?, CURRENT_DATE, 'COAT', 'SWEATER', 'JEANS', 'LLM', CURRENT_TIMESTAMP)""",
+                recommendationId, memberId);
+    }
+
+    // 입은 옷은 요청이 아니라 저장된 추천 이력에서
+    @Test
+    void storesWornItemsFromHistory() {
+        recommendHistoryService.recordFeedback(memberId, new FeedbackRequestDto(recommendationId, FeedbackType.TOO_COLD));
+
+        assertEquals(List.of("TOO_COLD COAT SWEATER JEANS"), feedbacks());
+    }
+
+    @Test
+    void rejectsOtherMembersRecommendation() {
+        RecommendHandler e = assertThrows(RecommendHandler.class, () -> recommendHistoryService.recordFeedback(
+                otherId, new FeedbackRequestDto(recommendationId, FeedbackType.LIKED)));
+
+        assertEquals(ErrorStatus.INVALID_FEEDBACK, e.getCode());
+        assertEquals(List.of(), feedbacks());
+    }
+
+    @Test
+    void rejectsUnknownRecommendation() {
+        assertThrows(RecommendHandler.class, () -> recommendHistoryService.recordFeedback(
+                memberId, new FeedbackRequestDto(UUID.randomUUID().toString(), FeedbackType.LIKED)));
+    }
+
+    // 재시도나 반복 전송은 처음 한 건만
+    @Test
+    void keepsFirstFeedbackPerRecommendation() {
+        recommendHistoryService.recordFeedback(memberId, new FeedbackRequestDto(recommendationId, FeedbackType.TOO_HOT));
+        recommendHistoryService.recordFeedback(memberId, new FeedbackRequestDto(recommendationId, FeedbackType.LIKED));
+
+        assertEquals(List.of("TOO_HOT COAT SWEATER JEANS"), feedbacks());
+    }
+
+    // 남의 추천이나 같은 추천을 반복해서 보내도 체감 모델은 한 번만 움직임
+    @Test
+    void learnsOncePerOwnRecommendation() {
+        for (int i = 0; i < 7; i++) {
+            assertThrows(RecommendHandler.class, () -> recommendHistoryService.recordFeedback(
+                    otherId, new FeedbackRequestDto(recommendationId, FeedbackType.LIKED)));
+        }
+        assertEquals(0, comfort(otherId).getSamples());
+        assertEquals(1.0, comfort(otherId).getError());
+
+        for (int i = 0; i < 7; i++) {
+            recommendHistoryService.recordFeedback(memberId, new FeedbackRequestDto(recommendationId, FeedbackType.LIKED));
+        }
+        assertEquals(1, comfort(memberId).getSamples());
+        assertEquals(0.8, comfort(memberId).getError(), 1e-9);
+    }
+
+    private ComfortModel comfort(Long id) {
+        return memberRepository.findById(id).orElseThrow().getComfort();
+    }
+
+    private List<String> feedbacks() {
+        return jdbcTemplate.queryForList("""
+                        SELECT CONCAT(feedback, ' ', outer_item, ' ', top_item, ' ', bottom_item)
+                        FROM recommendation_feedback WHERE recommendation_id = ?""",
+                String.class, recommendationId);
+    }
+
+    private static Member member() {
+        return Member.builder()
+                .loginId("feedback-" + UUID.randomUUID())
+                .name("피드백")
+                .password("pw")
+                .tendencies(List.of())
+                .build();
+    }
+}
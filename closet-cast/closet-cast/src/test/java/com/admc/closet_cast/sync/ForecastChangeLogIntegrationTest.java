@@ -0,0 +1,98 @@
+package com.admc.closet_cast.sync;
+
+import com.admc.closet_cast.dto.DailyWeatherChangeDto;
+import com.admc.closet_cast.dto.DailyWeatherDto;
+import com.admc.closet_cast.dto.HourlyWeatherDto;
+import com.admc.closet_cast.entity.WeatherVersion;
+import com.admc.closet_cast.repository.WeatherVersionRepository;
+import com.admc.closet_cast.service.WeatherService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * saveWeatherToDB 가 만든 변경분이 ForecastChangeLog 에 남는지 확인합니다.
+ * 테스트마다 다른 격자를 써서 버전이 섞이지 않게 합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ForecastChangeLogIntegrationTest {
+
+    private static final String DAY1 = "20240101";
+    private static final String DAY2 = "20240102";
+
+    @Autowired
+    private WeatherService weatherService;
+
+    @Autowired
+    private WeatherVersionRepository weatherVersionRepository;
+
+    @Autowired
+    private ForecastChangeLog forecastChangeLog;
+
+    @Test
+    void unchangedForecastKeepsVersion() {
+        int nx = 1;
+        weatherService.saveWeatherToDB(List.of(day(DAY1, 3.0)), nx, nx);
+        long version = version(nx);
+
+        weatherService.saveWeatherToDB(List.of(day(DAY1, 3.0)), nx, nx);
+
+        assertEquals(1, version);
+        assertEquals(version, version(nx));
+    }
+
+    @Test
+    void changedTemperatureSendsOnlyThatHour() {
+        int nx = 2;
+        weatherService.saveWeatherToDB(List.of(day(DAY1, 3.0)), nx, nx);
+        long before = version(nx);
+
+        weatherService.saveWeatherToDB(List.of(day(DAY1, 4.0)), nx, nx);
+
+        assertEquals(before + 1, version(nx));
+        assertEquals(Optional.of(List.of(new DailyWeatherChangeDto(DAY1, null, null,
+                        List.of(new HourlyWeatherDto("0900", 4.0, null)), List.of()))),
+                forecastChangeLog.since(nx, nx, before, version(nx)));
+    }
+
+    @Test
+    void newDateIsSentWhole() {
+        int nx = 3;
+        weatherService.saveWeatherToDB(List.of(day(DAY1, 3.0)), nx, nx);
+        long before = version(nx);
+
+        weatherService.saveWeatherToDB(List.of(day(DAY1, 3.0), day(DAY2, 6.0)), nx, nx);
+
+        assertEquals(before + 1, version(nx));
+        assertEquals(Optional.of(List.of(new DailyWeatherChangeDto(DAY2, 8.0, -2.0,
+                        List.of(new HourlyWeatherDto("0600", 1.0, null), new HourlyWeatherDto("0900", 6.0, null)),
+                        List.of()))),
+                forecastChangeLog.since(nx, nx, before, version(nx)));
+    }
+
+    private long version(int nx) {
+        return weatherVersionRepository.findById(new WeatherVersion.Grid(nx, nx))
+                .map(WeatherVersion::getVersion)
+                .orElse(0L);
+    }
+
+    // 06시 1도, 09시는 nine, 최고 8 / 최저 -2
+    private static DailyWeatherDto day(String date, double nine) {
+        List<HourlyWeatherDto> hourly = new ArrayList<>();
+        hourly.add(new HourlyWeatherDto("0600", 1.0, null));
+        hourly.add(new HourlyWeatherDto("0900", nine, null));
+        DailyWeatherDto day = new DailyWeatherDto(date);
+        day.setTmx(8.0);
+        day.setTmn(-2.0);
+        day.setHourlyList(hourly);
+        return day;
+    }
+}